@@ -2,19 +2,35 @@ package com.example.mySpringApi;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 
 /**
  * Spring Boot Application
+ * <p>
+ * R2DBC auto-configuration is excluded: the optional reactive read path builds its own connection pool
+ * (see ReactiveConfig), and an auto-configured ConnectionFactory bean would disable the JDBC DataSource.
+ * <p>
+ * Startup steps are recorded for GET /admin/startup/slowest (see StartupReport).
  */
-@SpringBootApplication
+@SpringBootApplication(exclude = R2dbcAutoConfiguration.class)
+@ConfigurationPropertiesScan
 public class MySpringApiApplication {
 
+	/**
+	 * Maximum number of startup steps recorded. A startup records about one step per bean.
+	 */
+	private static final int STARTUP_STEPS = 4096;
+
 	/**
 	 * Main
 	 * @param args
 	 */
 	public static void main(String[] args) {
-		SpringApplication.run(MySpringApiApplication.class, args);
+		SpringApplication application = new SpringApplication(MySpringApiApplication.class);
+		application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEPS));
+		application.run(args);
 	}
 
 }
@@ -1,6 +1,9 @@
 package com.example.mySpringApi.Security;
 
+import com.example.mySpringApi.diagnostics.RecordingAuthenticationProvider;
 import com.example.mySpringApi.service.CustomUserDetailsService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -27,6 +30,7 @@ import org.springframework.security.web.SecurityFilterChain;
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity(prePostEnabled = true)
+@Slf4j
 public class SecurityConfig {
 
     private final CustomUserDetailsService customUserDetailsService;
@@ -56,11 +60,13 @@ public class SecurityConfig {
      */
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
-        System.out.println("DEBUG: I am in the securityFilterChain Security method");
+        log.debug("Building the security filter chain");
         http
                 .csrf(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests((requests) -> requests
                         .requestMatchers("/v3/api-docs").hasRole("ADMIN")  // Example endpoint restricted to ADMIN
+                        .requestMatchers(EndpointRequest.to("health")).permitAll()  // Load balancer and orchestrator probes
+                        .requestMatchers(EndpointRequest.to("prometheus")).hasRole("ADMIN")  // Scrapers use basic auth
                         .anyRequest().authenticated()
                 )
                 .httpBasic();
@@ -73,16 +79,15 @@ public class SecurityConfig {
      * <p>
      * This method sets up the authentication manager with a custom user details service for loading user data
      * and a password encoder for password hashing. This configuration is used for validating user credentials
-     * during authentication.
+     * during authentication. Both are used through a RecordingAuthenticationProvider, which behaves like the
+     * default DaoAuthenticationProvider and emits a Flight Recorder event for each attempt.
      *
      * @param auth The AuthenticationManagerBuilder to configure.
      * @throws Exception if there is a problem during configuration.
      */
     @Autowired
     public void configureGlobal(AuthenticationManagerBuilder auth) throws Exception {
-        System.out.println("DEBUG: I am in the configureGlobal Security method");
-        auth
-                .userDetailsService(customUserDetailsService)
-                .passwordEncoder(passwordEncoder);
+        log.debug("Configuring the global AuthenticationManager");
+        auth.authenticationProvider(new RecordingAuthenticationProvider(customUserDetailsService, passwordEncoder));
     }
 }
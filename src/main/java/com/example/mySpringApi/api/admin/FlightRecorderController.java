@@ -0,0 +1,134 @@
+package com.example.mySpringApi.api.admin;
+
+import com.example.mySpringApi.diagnostics.FlightRecordings;
+import com.example.mySpringApi.diagnostics.RecordingStatus;
+import com.example.mySpringApi.response.ResponseHandler;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * FlightRecorderController lets administrators take a Java Flight Recorder recording of the running application
+ * without attaching external tools.
+ * <p>
+ * Recordings include the JDK events of the configured settings, such as GC pauses, lock contention and method
+ * samples, together with the application's own user operation, authentication, cache and bulk job events.
+ * <p>
+ * It is only registered when {@code app.flight-recorder.enabled} is true.
+ */
+@RestController
+@RequestMapping("/admin/jfr")
+@ConditionalOnProperty(prefix = "app.flight-recorder", name = "enabled", havingValue = "true")
+@PreAuthorize("hasRole('ADMIN')")
+@Slf4j
+@Tag(name = "Admin Operations", description = "Diagnostics for administrators")
+public class FlightRecorderController {
+
+    private final FlightRecordings flightRecordings;
+
+    // Construct Injection
+    @Autowired
+    public FlightRecorderController(FlightRecordings flightRecordings) {
+        this.flightRecordings = flightRecordings;
+    }
+
+    /**
+     * Starts a flight recording.
+     *
+     * @param duration how long to record, such as "60s" or "PT5M"; records until stopped when absent
+     * @return a ResponseEntity containing the status of the new recording, or 409 if one is already running.
+     * @throws Exception if the configured settings cannot be loaded.
+     */
+    @Operation(
+            summary = "Start a flight recording",
+            description = "Starts a recording with the configured JDK settings and the application events. "
+                    + "Fails with 409 if a recording is already running.")
+    @PostMapping("/start")
+    public ResponseEntity<Object> startRecording(@RequestParam(required = false) String duration) throws Exception {
+        log.debug("POST /admin/jfr/start");
+        Duration parsed = duration == null ? null : DurationStyle.detectAndParse(duration);
+        Optional<RecordingStatus> started = flightRecordings.start(parsed);
+        if (started.isEmpty()) {
+            return ResponseHandler.generateResponse("A flight recording is already running", HttpStatus.CONFLICT,
+                    flightRecordings.status().orElse(null));
+        }
+        return ResponseHandler.generateResponse("Flight recording started", HttpStatus.OK, started.get());
+    }
+
+    /**
+     * Stops the running flight recording. It can still be dumped afterwards.
+     *
+     * @return a ResponseEntity containing the status of the stopped recording, or 409 if none is running.
+     */
+    @Operation(summary = "Stop the flight recording")
+    @PostMapping("/stop")
+    public ResponseEntity<Object> stopRecording() {
+        log.debug("POST /admin/jfr/stop");
+        return flightRecordings.stop()
+                .map(status -> ResponseHandler.generateResponse("Flight recording stopped", HttpStatus.OK, status))
+                .orElseGet(() -> ResponseHandler.generateResponse("No flight recording is running", HttpStatus.CONFLICT, null));
+    }
+
+    /**
+     * Retrieves the status of the current flight recording.
+     *
+     * @return a ResponseEntity containing the status, or 404 if no recording was started.
+     */
+    @Operation(summary = "Get the flight recording status")
+    @GetMapping("/status")
+    public ResponseEntity<Object> getRecordingStatus() {
+        log.debug("GET /admin/jfr/status");
+        return flightRecordings.status()
+                .map(status -> ResponseHandler.generateResponse("Flight recording status fetched", HttpStatus.OK, status))
+                .orElseGet(() -> ResponseHandler.generateResponse("No flight recording", HttpStatus.NOT_FOUND, null));
+    }
+
+    /**
+     * Downloads the data of the current flight recording, running or stopped, as a .jfr file.
+     *
+     * @return a ResponseEntity streaming the recording, or 404 if there is nothing to dump.
+     * @throws Exception if the recording cannot be written.
+     */
+    @Operation(
+            summary = "Download the flight recording",
+            description = "Returns the recorded data as a .jfr file, to open in JDK Mission Control or with the jfr tool.")
+    @GetMapping("/dump")
+    public ResponseEntity<Object> dumpRecording() throws Exception {
+        log.debug("GET /admin/jfr/dump");
+        Optional<Path> dumped = flightRecordings.dump();
+        if (dumped.isEmpty()) {
+            return ResponseHandler.generateResponse("No flight recording to dump", HttpStatus.NOT_FOUND, null);
+        }
+        Path file = dumped.get();
+        long size = Files.size(file);
+        // The file is deleted when the response has been written and the stream closed.
+        InputStreamResource body = new InputStreamResource(Files.newInputStream(file, StandardOpenOption.DELETE_ON_CLOSE));
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .contentLength(size)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(file.getFileName().toString()).build().toString())
+                .body(body);
+    }
+}
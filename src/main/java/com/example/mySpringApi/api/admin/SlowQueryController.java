@@ -0,0 +1,57 @@
+package com.example.mySpringApi.api.admin;
+
+import com.example.mySpringApi.response.ResponseHandler;
+import com.example.mySpringApi.sql.SlowQueryLog;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * SlowQueryController exposes the slow statement summary kept by the {@link SlowQueryLog} to administrators.
+ * <p>
+ * It is registered unless {@code app.slow-query.enabled} is false.
+ */
+@RestController
+@RequestMapping("/admin/sql")
+@ConditionalOnProperty(prefix = "app.slow-query", name = "enabled", havingValue = "true", matchIfMissing = true)
+@PreAuthorize("hasRole('ADMIN')")
+@Slf4j
+@Tag(name = "Admin Operations", description = "Diagnostics for administrators")
+public class SlowQueryController {
+
+    private static final int MAX_LIMIT = 200;
+
+    private final SlowQueryLog slowQueryLog;
+
+    // Construct Injection
+    @Autowired
+    public SlowQueryController(SlowQueryLog slowQueryLog) {
+        this.slowQueryLog = slowQueryLog;
+    }
+
+    /**
+     * Retrieves the slowest statement shapes seen since startup.
+     *
+     * @param limit the maximum number of statements to return, at most 200
+     * @return a ResponseEntity containing the statements, slowest first.
+     */
+    @Operation(
+            summary = "Get the slowest SQL statements",
+            description = "Returns the statements that exceeded the slow query threshold, by maximum duration, with "
+                    + "the repository method, the last (redacted) binds and, when enabled, the EXPLAIN output.")
+    @GetMapping("/slowest")
+    public ResponseEntity<Object> getSlowestStatements(@RequestParam(defaultValue = "20") int limit) {
+        log.debug("GET /admin/sql/slowest");
+        return ResponseHandler.generateResponse("Slowest statements fetched", HttpStatus.OK,
+                slowQueryLog.slowest(Math.max(0, Math.min(limit, MAX_LIMIT))));
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.mySpringApi.api.admin;
+
+import com.example.mySpringApi.response.ResponseHandler;
+import com.example.mySpringApi.startup.StartupReport;
+import com.example.mySpringApi.warmup.UserApiWarmup;
+import com.example.mySpringApi.warmup.WarmupReport;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Collections;
+
+/**
+ * StartupController exposes the startup steps ranked by the {@link StartupReport}, and the report of the
+ * {@link UserApiWarmup}, to administrators.
+ */
+@RestController
+@RequestMapping("/admin/startup")
+@PreAuthorize("hasRole('ADMIN')")
+@Slf4j
+@Tag(name = "Admin Operations", description = "Diagnostics for administrators")
+public class StartupController {
+
+    private static final int MAX_LIMIT = 500;
+
+    private final StartupReport startupReport;
+    private final UserApiWarmup warmup;
+
+    // Construct Injection
+    @Autowired
+    public StartupController(StartupReport startupReport, UserApiWarmup warmup) {
+        this.startupReport = startupReport;
+        this.warmup = warmup;
+    }
+
+    /**
+     * Retrieves the slowest startup steps.
+     *
+     * @param limit the maximum number of steps to return, at most 500
+     * @return a ResponseEntity containing the steps, longest self time first.
+     */
+    @Operation(
+            summary = "Get the slowest startup steps",
+            description = "Returns the recorded startup steps, such as bean instantiations, the context refresh and "
+                    + "the startup tasks, by their duration excluding nested steps.")
+    @GetMapping("/slowest")
+    public ResponseEntity<Object> getSlowestSteps(@RequestParam(defaultValue = "20") int limit) {
+        log.debug("GET /admin/startup/slowest");
+        if (!startupReport.isRecording()) {
+            return ResponseHandler.generateResponse("Startup steps were not recorded", HttpStatus.OK,
+                    Collections.emptyList());
+        }
+        return ResponseHandler.generateResponse("Slowest startup steps fetched", HttpStatus.OK,
+                startupReport.slowest(Math.max(0, Math.min(limit, MAX_LIMIT))));
+    }
+
+    /**
+     * Retrieves the report of the startup warmup.
+     *
+     * @return a ResponseEntity containing the warmup duration, what it primed and the latency of each operation at
+     * the start and at the end of the warmup, or no data if the warmup did not run.
+     */
+    @Operation(
+            summary = "Get the startup warmup report",
+            description = "Returns the duration of the warmup run before readiness, the connections, roles and cached "
+                    + "users it primed, and the mean latency of each UserController operation cold and warm.")
+    @GetMapping("/warmup")
+    public ResponseEntity<Object> getWarmupReport() {
+        log.debug("GET /admin/startup/warmup");
+        WarmupReport report = warmup.getReport();
+        if (report == null) {
+            return ResponseHandler.generateResponse("The warmup did not run", HttpStatus.OK, null);
+        }
+        return ResponseHandler.generateResponse("Warmup report fetched", HttpStatus.OK, report);
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.mySpringApi.api.admin;
+
+import com.example.mySpringApi.response.ResponseHandler;
+import com.example.mySpringApi.tracing.TraceSummary;
+import com.example.mySpringApi.tracing.Tracer;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * TraceController exposes the recent request traces recorded by the {@link Tracer} to administrators.
+ * <p>
+ * It is only registered when {@code app.tracing.enabled} is true.
+ */
+@RestController
+@RequestMapping("/admin/traces")
+@ConditionalOnProperty(prefix = "app.tracing", name = "enabled", havingValue = "true")
+@PreAuthorize("hasRole('ADMIN')")
+@Slf4j
+@Tag(name = "Admin Operations", description = "Diagnostics for administrators")
+public class TraceController {
+
+    private static final int MAX_LIMIT = 100;
+
+    private final Tracer tracer;
+
+    // Construct Injection
+    @Autowired
+    public TraceController(Tracer tracer) {
+        this.tracer = tracer;
+    }
+
+    /**
+     * Retrieves the slowest requests among the recent traces, each with its span breakdown.
+     *
+     * @param limit the maximum number of traces to return, at most 100
+     * @return a ResponseEntity containing the traces, slowest first.
+     */
+    @Operation(
+            summary = "Get the slowest recent requests",
+            description = "Returns the slowest sampled requests still in the trace buffer, with a timed breakdown "
+                    + "across security, controller, service, repository and password encoder calls.")
+    @GetMapping("/slowest")
+    public ResponseEntity<Object> getSlowestTraces(@RequestParam(defaultValue = "10") int limit) {
+        log.debug("GET /admin/traces/slowest");
+        List<TraceSummary> traces = tracer.slowest(Math.max(0, Math.min(limit, MAX_LIMIT))).stream()
+                .map(TraceSummary::of)
+                .toList();
+        return ResponseHandler.generateResponse("Slowest traces fetched", HttpStatus.OK, traces);
+    }
+}
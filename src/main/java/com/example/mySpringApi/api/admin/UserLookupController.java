@@ -0,0 +1,78 @@
+package com.example.mySpringApi.api.admin;
+
+import com.example.mySpringApi.repository.UserLookup;
+import com.example.mySpringApi.response.ResponseHandler;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Locale;
+
+/**
+ * UserLookupController lets administrators switch the implementation of the single-user lookups between JPA and
+ * plain JDBC at runtime, to compare them on live traffic through the {@code user.lookup} timers.
+ */
+@RestController
+@RequestMapping("/admin/user-lookup")
+@PreAuthorize("hasRole('ADMIN')")
+@Slf4j
+@Tag(name = "Admin Operations", description = "Diagnostics for administrators")
+public class UserLookupController {
+
+    private final UserLookup userLookup;
+
+    // Construct Injection
+    @Autowired
+    public UserLookupController(UserLookup userLookup) {
+        this.userLookup = userLookup;
+    }
+
+    /**
+     * Retrieves the implementation currently serving lookups.
+     *
+     * @return a ResponseEntity containing "jpa" or "jdbc".
+     */
+    @Operation(
+            summary = "Get the user lookup implementation",
+            description = "Returns the implementation serving user lookups by ID and by email: jpa or jdbc.")
+    @GetMapping
+    public ResponseEntity<Object> getImplementation() {
+        log.debug("GET /admin/user-lookup");
+        return ResponseHandler.generateResponse("User lookup implementation fetched", HttpStatus.OK,
+                userLookup.getImplementation().name().toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Switches the implementation serving lookups.
+     *
+     * @param implementation "jpa" or "jdbc", case-insensitive
+     * @return a ResponseEntity containing the new implementation, or status 400 if it is unknown.
+     */
+    @Operation(
+            summary = "Switch the user lookup implementation",
+            description = "Serves user lookups by ID and by email, including authentication, with JPA or with plain "
+                    + "JDBC from now on.")
+    @PutMapping
+    public ResponseEntity<Object> setImplementation(@RequestParam String implementation) {
+        log.debug("PUT /admin/user-lookup");
+        UserLookup.Implementation selected;
+        try {
+            selected = UserLookup.Implementation.valueOf(implementation.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return ResponseHandler.generateResponse("Unknown user lookup implementation: " + implementation,
+                    HttpStatus.BAD_REQUEST, null);
+        }
+        userLookup.setImplementation(selected);
+        return ResponseHandler.generateResponse("User lookup implementation switched", HttpStatus.OK,
+                selected.name().toLowerCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.mySpringApi.api.advice;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.event.Level;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ClientErrorLog counts and logs expected client errors without letting them flood the log.
+ * <p>
+ * Every error is counted per exception type in a LongAdder, which stays cheap when many request threads
+ * report errors at once. Given a MeterRegistry, the counts are published as the {@code user.client.errors}
+ * counter, tagged with the exception's simple name. Logging is limited per type to a fixed number of lines per
+ * second. An error over the limit is only counted as skipped, and the next line logged for that type reports how many
+ * were skipped.
+ * <p>
+ * Lines carry the description and the exception type, never the exception message, which can echo client input such
+ * as an email. The stack trace is added at DEBUG level when the exception has one.
+ */
+public final class ClientErrorLog {
+
+    private final Logger log;
+    private final Level level;
+    private final int limitPerSecond;
+    private final MeterRegistry registry;
+    private final ConcurrentHashMap<Class<?>, TypeState> states = new ConcurrentHashMap<>();
+
+    /**
+     * @param log            The logger to write to.
+     * @param level          The level of the logged lines.
+     * @param limitPerSecond The maximum number of lines per exception type per second, or 0 for no limit.
+     */
+    public ClientErrorLog(Logger log, Level level, int limitPerSecond) {
+        this(log, level, limitPerSecond, null);
+    }
+
+    /**
+     * @param log            The logger to write to.
+     * @param level          The level of the logged lines.
+     * @param limitPerSecond The maximum number of lines per exception type per second, or 0 for no limit.
+     * @param registry       The registry to publish the counts to, or null to not publish them.
+     */
+    public ClientErrorLog(Logger log, Level level, int limitPerSecond, MeterRegistry registry) {
+        this.log = log;
+        this.level = level;
+        this.limitPerSecond = limitPerSecond;
+        this.registry = registry;
+    }
+
+    /**
+     * Counts an error and logs it unless its type is over the limit for the current second.
+     *
+     * @param description A short description of the error, such as "User not found".
+     * @param ex          The exception that was handled.
+     */
+    public void record(String description, Exception ex) {
+        TypeState state = states.computeIfAbsent(ex.getClass(), this::newTypeState);
+        state.total.increment();
+        if (!log.isEnabledForLevel(level)) {
+            return;
+        }
+        if (limitPerSecond > 0 && !state.tryAcquire(limitPerSecond)) {
+            state.skipped.increment();
+            return;
+        }
+        long skipped = state.skipped.sumThenReset();
+        String type = ex.getClass().getSimpleName();
+        String line = skipped == 0
+                ? description + " (" + type + ")"
+                : description + " (" + type + ", " + skipped + " similar errors not logged)";
+        if (log.isDebugEnabled() && ex.getStackTrace().length > 0) {
+            log.atLevel(level).setCause(ex).log(line);
+        } else {
+            log.atLevel(level).log(line);
+        }
+    }
+
+    private TypeState newTypeState(Class<?> type) {
+        TypeState state = new TypeState();
+        if (registry != null) {
+            FunctionCounter.builder("user.client.errors", state.total, LongAdder::sum)
+                    .description("Expected client errors handled, per exception type")
+                    .tag("exception", type.getSimpleName())
+                    .register(registry);
+        }
+        return state;
+    }
+
+    /**
+     * Per-type counters and the one-second window of the rate limit.
+     */
+    private static final class TypeState {
+        private final LongAdder total = new LongAdder();
+        private final LongAdder skipped = new LongAdder();
+        private final AtomicInteger loggedInWindow = new AtomicInteger();
+        private volatile long window;
+
+        private boolean tryAcquire(int limit) {
+            long second = System.nanoTime() / 1_000_000_000L;
+            if (window != second) {
+                synchronized (this) {
+                    if (window != second) {
+                        loggedInWindow.set(0);
+                        window = second;
+                    }
+                }
+            }
+            return loggedInWindow.incrementAndGet() <= limit;
+        }
+    }
+}
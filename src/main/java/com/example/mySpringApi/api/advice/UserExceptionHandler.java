@@ -1,10 +1,13 @@
 package com.example.mySpringApi.api.advice;
 
+import com.example.mySpringApi.config.ErrorHandlingProperties;
 import com.example.mySpringApi.response.ResponseHandler;
 import com.example.mySpringApi.exception.InvalidUserInputException;
 import com.example.mySpringApi.exception.UserAlreadyExistsException;
 import com.example.mySpringApi.exception.UserNotFoundException;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -26,11 +29,31 @@ import java.util.Map;
  * This enhances the consistency of all API responses, not just for the successful ones but also for the error scenarios.
  * <p>
  * Specific types of exceptions can be handled by adding more methods annotated with @ExceptionHandler.
+ * <p>
+ * Every exception handled here is an expected client error. They are logged through a {@link ClientErrorLog}, at the
+ * level set by {@code app.errors.client-error-log-level} and rate limited per exception type, and counted per type
+ * in the {@code user.client.errors} counter.
  */
 @ControllerAdvice
 @Slf4j
 public class UserExceptionHandler {
 
+    private final ClientErrorLog clientErrorLog;
+
+    /**
+     * Constructs the handler. The properties and the registry are optional so that web slice tests, which do not
+     * bind configuration properties or configure metrics, get the defaults and no counter.
+     *
+     * @param properties The client error handling configuration.
+     * @param registry   The registry of the client error counter.
+     */
+    public UserExceptionHandler(ObjectProvider<ErrorHandlingProperties> properties,
+                                ObjectProvider<MeterRegistry> registry) {
+        ErrorHandlingProperties errors = properties.getIfAvailable(ErrorHandlingProperties::new);
+        this.clientErrorLog = new ClientErrorLog(log, errors.getClientErrorLogLevel(), errors.getClientErrorLogLimit(),
+                registry.getIfAvailable());
+    }
+
     /**
      * Handles UserNotFoundExceptions thrown in the application.
      * It generates a standard API response using the ResponseHandler by passing the error message and HTTP status from the exception.
@@ -41,7 +64,7 @@ public class UserExceptionHandler {
     @ExceptionHandler(value = {UserNotFoundException.class})
     public ResponseEntity<Object> handleUserNotFoundException(UserNotFoundException userNotFoundException) {
 
-        log.error("User not found. Stack Trace -->", userNotFoundException);
+        clientErrorLog.record("User not found", userNotFoundException);
 
         return ResponseHandler.generateResponse(
                 userNotFoundException.getMessage(),
@@ -59,7 +82,7 @@ public class UserExceptionHandler {
     @ExceptionHandler(value = {UserAlreadyExistsException.class})
     public ResponseEntity<Object> handleUserAlreadyExistsException(UserAlreadyExistsException ex) {
 
-        log.error("User already exists. Stack Trace -->", ex);
+        clientErrorLog.record("User already exists", ex);
 
         return ResponseHandler.generateResponse(
                 ex.getMessage(),
@@ -77,7 +100,7 @@ public class UserExceptionHandler {
     @ExceptionHandler(value = {InvalidUserInputException.class})
     public ResponseEntity<Object> handleInvalidUserInputException(InvalidUserInputException ex) {
 
-        log.error("Invalid user input. Stack Trace -->", ex);
+        clientErrorLog.record("Invalid user input", ex);
 
         return ResponseHandler.generateResponse(
                 ex.getMessage(),
@@ -98,7 +121,7 @@ public class UserExceptionHandler {
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<Object> handleValidationExceptions(MethodArgumentNotValidException ex) {
 
-        log.error("Validation error. Stack Trace -->", ex);
+        clientErrorLog.record("Validation error", ex);
 
         Map<String, String> errors = new HashMap<>();
         ex.getBindingResult().getAllErrors().forEach((error) -> {
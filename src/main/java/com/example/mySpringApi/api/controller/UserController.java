@@ -1,24 +1,35 @@
 package com.example.mySpringApi.api.controller;
 
+import com.example.mySpringApi.cache.UserResponseBodyCache;
+import com.example.mySpringApi.config.BatchProperties;
+import com.example.mySpringApi.exception.InvalidUserInputException;
 import com.example.mySpringApi.model.Role;
+import com.example.mySpringApi.model.UserField;
 import com.example.mySpringApi.model.dto.UserDTO;
 import com.example.mySpringApi.model.dto.UserResponseDTO;
+import com.example.mySpringApi.response.AcceptEncoding;
 import com.example.mySpringApi.response.ResponseHandler;
 import com.example.mySpringApi.model.User;
 import com.example.mySpringApi.service.RoleServiceImpl;
 import com.example.mySpringApi.service.UserService;
+import com.example.mySpringApi.validation.UserInputValidator;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.WebDataBinder;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -32,6 +43,9 @@ import java.util.stream.Collectors;
  * <p>
  * This controller uses DTOs for data coming in and going out of the system to provide
  * a separation of concerns between the API's data structure and the internal data model.
+ * <p>
+ * The read endpoints accept an optional {@code fields} parameter (for example {@code ?fields=id,email}).
+ * When it is present, only those fields are queried and returned, and no UserResponseDTO is built.
  */
 @RestController
 @RequestMapping("/userAPI")
@@ -39,17 +53,44 @@ import java.util.stream.Collectors;
 @Tag(name = "User Operations", description = "CRUD operations related to User")
 public class UserController {
 
+    private static final String FIELDS_DESCRIPTION =
+            "Comma-separated fields to return, from: id, name, email, age, roles. Returns every field when omitted.";
+
     private final UserService userService;
+    private final UserResponseBodyCache responseBodyCache;
+    private final UserInputValidator userInputValidator;
+    private final BatchProperties batchProperties;
 
     // Construct Injection
     @Autowired
-    public UserController(UserService userService) {
+    public UserController(UserService userService, UserResponseBodyCache responseBodyCache,
+                          UserInputValidator userInputValidator, ObjectProvider<BatchProperties> batchProperties) {
         this.userService = userService;
+        this.responseBodyCache = responseBodyCache;
+        this.userInputValidator = userInputValidator;
+        this.batchProperties = batchProperties.getIfAvailable(BatchProperties::new);
+    }
+
+    /**
+     * Registers the UserInputValidator for {@code @Valid UserDTO} request bodies, so the create and update
+     * endpoints apply the same rules as the UserService. Field errors surface as MethodArgumentNotValidException.
+     *
+     * @param binder the binder for the UserDTO argument
+     */
+    @InitBinder("userDTO")
+    public void initUserDTOBinder(WebDataBinder binder) {
+        binder.setValidator(userInputValidator);
     }
 
     /**
      * Retrieves a User by ID.
+     * <p>
+     * When the response cache is enabled, the fully encoded response is served from the UserResponseBodyCache,
+     * and conversion and serialization only run on a miss.
+     *
      * @param id the ID of the User to retrieve
+     * @param fields an optional comma-separated list of fields to return instead of the full user
+     * @param acceptEncoding the Accept-Encoding request header, used to serve a pre-gzipped body when allowed
      * @return a ResponseEntity containing the UserResponseDTO if found, and an associated message and HTTP status code.
      */
     @Operation(
@@ -59,8 +100,28 @@ public class UserController {
     @ApiResponse(responseCode = "404", description = "User not found")
     @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
     @GetMapping("/id/{id}")
-    public ResponseEntity<Object> getUser(@PathVariable int id) {
-        System.out.println("DEBUG: I am in the getUserByID controller method");
+    public ResponseEntity<Object> getUser(@PathVariable int id,
+                                          @Parameter(description = FIELDS_DESCRIPTION) @RequestParam(required = false) String fields,
+                                          @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        log.debug("GET /userAPI/id/{}", id);
+        if (fields != null) {
+            Map<String, Object> user = userService.getUserFields(id, UserField.parse(fields));
+            return ResponseHandler.generateResponse("User fetched successfully", HttpStatus.OK, user);
+        }
+        if (responseBodyCache.isEnabled()) {
+            boolean acceptGzip = AcceptEncoding.acceptsGzip(acceptEncoding);
+            return responseBodyCache.getJson(id, acceptGzip, () -> getUserResponse(id).getBody());
+        }
+        return getUserResponse(id);
+    }
+
+    /**
+     * Builds the uncached response for {@link #getUser(int, String, String)}.
+     *
+     * @param id the ID of the User to retrieve
+     * @return a ResponseEntity containing the UserResponseDTO and an associated message and HTTP status code.
+     */
+    private ResponseEntity<Object> getUserResponse(int id) {
         User user = userService.getUser(id);
         UserResponseDTO responseDTO = userService.convertToResponseDTO(user);
         return ResponseHandler.generateResponse("User fetched successfully", HttpStatus.OK, responseDTO);
@@ -69,6 +130,7 @@ public class UserController {
     /**
      * Retrieves a User by email.
      * @param email the email of the User to retrieve
+     * @param fields an optional comma-separated list of fields to return instead of the full user
      * @return a ResponseEntity containing the UserResponseDTO if found, and an associated message and HTTP status code.
      */
     @Operation(
@@ -78,8 +140,14 @@ public class UserController {
     @ApiResponse(responseCode = "404", description = "User not found")
     @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
     @GetMapping("/email/{email}")
-    public ResponseEntity<Object> getUser(@PathVariable String email) {
-        System.out.println("DEBUG: I am in the getUserByEmail controller method");
+    public ResponseEntity<Object> getUser(@PathVariable String email,
+                                          @Parameter(description = FIELDS_DESCRIPTION) @RequestParam(required = false) String fields) {
+        // The email is personal data, so it is not logged
+        log.debug("GET /userAPI/email");
+        if (fields != null) {
+            Map<String, Object> user = userService.getUserFields(email, UserField.parse(fields));
+            return ResponseHandler.generateResponse("User fetched successfully", HttpStatus.OK, user);
+        }
         User user = userService.getUser(email);
         UserResponseDTO responseDTO = userService.convertToResponseDTO(user);
         return ResponseHandler.generateResponse("User fetched successfully", HttpStatus.OK, responseDTO);
@@ -91,6 +159,7 @@ public class UserController {
      * This method handles GET requests at the "/userAPI" endpoint. It returns a list of all
      * users from the data store or an appropriate error response if no users exist.
      *
+     * @param fields an optional comma-separated list of fields to return for each user
      * @return a ResponseEntity containing a list of UserResponseDTOs representing all users or an associated message and HTTP status code.
      */
     @Operation(
@@ -100,13 +169,50 @@ public class UserController {
     @ApiResponse(responseCode = "204", description = "No users exist")
     @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
     @GetMapping
-    public ResponseEntity<Object> getAllUsers() {
-        System.out.println("DEBUG: I am in the getAllUsers controller method");
+    public ResponseEntity<Object> getAllUsers(@Parameter(description = FIELDS_DESCRIPTION) @RequestParam(required = false) String fields) {
+        log.debug("GET /userAPI");
+        if (fields != null) {
+            List<Map<String, Object>> users = userService.getAllUsersFields(UserField.parse(fields));
+            return ResponseHandler.generateResponse("All users fetched", HttpStatus.OK, users);
+        }
         List<User> users = userService.getAllUsers();
         List<UserResponseDTO> responseDTOList = userService.convertUsersToResponseDTOs(users);
         return ResponseHandler.generateResponse("All users fetched", HttpStatus.OK, responseDTOList);
     }
 
+    /**
+     * Fetches the Users matching a list of IDs.
+     * <p>
+     * This method handles GET requests at the "/userAPI/batch" endpoint. All IDs are resolved with a single
+     * query, and IDs that do not match a user are left out of the result. A batch of more than
+     * {@code app.batch.max-ids} IDs is rejected with a 400 status.
+     *
+     * @param ids the IDs of the Users to retrieve
+     * @param fields an optional comma-separated list of fields to return for each user
+     * @return a ResponseEntity containing a list of UserResponseDTOs for the users found, and an associated message and HTTP status code.
+     */
+    @Operation(
+            summary = "Fetches Users by a list of IDs",
+            description = "Fetches the details of several users in one request. Unknown IDs are skipped.")
+    @ApiResponse(responseCode = "200", description = "Successfully fetched the users")
+    @ApiResponse(responseCode = "400", description = "Bad request - too many IDs")
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    @GetMapping("/batch")
+    public ResponseEntity<Object> getUsers(@RequestParam List<Integer> ids,
+                                           @Parameter(description = FIELDS_DESCRIPTION) @RequestParam(required = false) String fields) {
+        log.debug("GET /userAPI/batch");
+        if (ids.size() > batchProperties.getMaxIds()) {
+            throw new InvalidUserInputException("At most " + batchProperties.getMaxIds() + " IDs can be requested.");
+        }
+        if (fields != null) {
+            List<Map<String, Object>> users = userService.getUsersFields(ids, UserField.parse(fields));
+            return ResponseHandler.generateResponse("Users fetched", HttpStatus.OK, users);
+        }
+        List<User> users = userService.getUsers(ids);
+        List<UserResponseDTO> responseDTOList = userService.convertUsersToResponseDTOs(users);
+        return ResponseHandler.generateResponse("Users fetched", HttpStatus.OK, responseDTOList);
+    }
+
     /**
      * Endpoint to create a new user.
      * <p>
@@ -128,7 +234,7 @@ public class UserController {
     @PreAuthorize("hasRole('ADMIN')")
     @PostMapping("/createUser")
     public ResponseEntity<Object> createUser(@Valid @RequestBody UserDTO userDTO) {
-        System.out.println("DEBUG: I am in the createUser controller method");
+        log.debug("POST /userAPI/createUser");
         User user = userService.convertToUserEntity(userDTO);
         User createdUser = userService.createUser(user);
         UserResponseDTO responseDTO = userService.convertToResponseDTO(createdUser);
@@ -160,7 +266,7 @@ public class UserController {
     @PreAuthorize("hasRole('ADMIN')")
     @PutMapping("/updateUser")
     public ResponseEntity<Object> updateUser(@Valid @RequestBody UserDTO userDTO) {
-        System.out.println("DEBUG: I am in the updateUser controller method");
+        log.debug("PUT /userAPI/updateUser");
         User user = userService.convertToUserEntity(userDTO);
         User updatedUser = userService.updateUser(user);
         UserResponseDTO responseDTO = userService.convertToResponseDTO(updatedUser);
@@ -193,7 +299,7 @@ public class UserController {
     @PreAuthorize("hasRole('ADMIN')")
     @DeleteMapping("/deleteUser/{id}")
     public ResponseEntity<Object> deleteUser(@PathVariable int id) {
-        System.out.println("DEBUG: I am in the deleteUser controller method");
+        log.debug("DELETE /userAPI/deleteUser/{}", id);
         userService.deleteUser(id);
         return ResponseHandler.generateResponse("User deleted successfully", HttpStatus.OK, null);
     }
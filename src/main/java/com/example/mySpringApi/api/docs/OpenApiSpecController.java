@@ -0,0 +1,113 @@
+package com.example.mySpringApi.api.docs;
+
+import com.example.mySpringApi.config.OpenApiSpecProperties;
+import com.example.mySpringApi.response.AcceptEncoding;
+import com.example.mySpringApi.response.ResponseHandler;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * OpenApiSpecController serves the OpenAPI document generated during the build at {@code /v3/api-docs}, in place of
+ * springdoc, which would build it by scanning the controllers at runtime.
+ * <p>
+ * The document and its gzip-compressed copy are read once at startup. Their ETag is a hash of the document, so
+ * every node of a deployment gives the same one and a client revalidating a cached copy gets a 304 with no body.
+ * The compressed copy is a different representation, so its strong ETag carries a {@code -gzip} suffix (RFC 9110
+ * §8.8.3). Whether a client accepts it is decided by {@link AcceptEncoding}, which honours {@code q=0}.
+ * The path requires the ADMIN role (see SecurityConfig), so responses are only cacheable privately, for
+ * {@code app.openapi.max-age}.
+ * <p>
+ * It is registered when runtime scanning is turned off with {@code springdoc.api-docs.enabled=false}, as in the
+ * default configuration. The document is written by OpenApiSpecGenerator in the prepare-package phase of the build;
+ * when the application runs without it, for example from the IDE, the path answers 404.
+ */
+@RestController
+@ConditionalOnProperty(prefix = "springdoc.api-docs", name = "enabled", havingValue = "false")
+@Slf4j
+public class OpenApiSpecController {
+
+    private final byte[] json;
+    private final byte[] gzip;
+    private final String etag;
+    private final String gzipEtag;
+    private final CacheControl cacheControl;
+
+    // Construct Injection
+    @Autowired
+    public OpenApiSpecController(OpenApiSpecProperties properties, ResourceLoader resourceLoader) {
+        this.json = read(resourceLoader.getResource(properties.getLocation()));
+        this.gzip = json == null ? null : read(resourceLoader.getResource(properties.getLocation() + ".gz"));
+        this.etag = json == null ? null : etag(json, "");
+        this.gzipEtag = gzip == null ? null : etag(json, "-gzip");
+        this.cacheControl = CacheControl.maxAge(properties.getMaxAge()).cachePrivate();
+        if (json == null) {
+            log.warn("No OpenAPI document at {}, /v3/api-docs will answer 404", properties.getLocation());
+        } else {
+            log.info("Serving the OpenAPI document from {} ({} bytes, {} gzipped)", properties.getLocation(),
+                    json.length, gzip == null ? "not" : gzip.length + " bytes");
+        }
+    }
+
+    /**
+     * Retrieves the OpenAPI document.
+     *
+     * @param acceptEncoding the Accept-Encoding request header, used to serve the precompressed document when allowed
+     * @return the document, or a 404 if the build did not generate it. Spring MVC answers 304, with the same
+     * caching headers and no body, when the request's If-None-Match header has the ETag of the representation served.
+     */
+    @GetMapping("/v3/api-docs")
+    public ResponseEntity<Object> getSpec(@RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        if (json == null) {
+            return ResponseHandler.generateResponse("The OpenAPI document was not generated by the build",
+                    HttpStatus.NOT_FOUND, null);
+        }
+        boolean acceptGzip = gzip != null && AcceptEncoding.acceptsGzip(acceptEncoding);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(cacheControl)
+                .eTag(acceptGzip ? gzipEtag : etag)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptGzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(acceptGzip ? gzip : json);
+    }
+
+    private static byte[] read(Resource resource) {
+        if (!resource.exists()) {
+            return null;
+        }
+        try (InputStream in = resource.getInputStream()) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read " + resource.getDescription(), e);
+        }
+    }
+
+    private static String etag(byte[] content, String suffix) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + suffix + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.mySpringApi.api.reactive;
+
+import com.example.mySpringApi.exception.UserExceptionFactory;
+import com.example.mySpringApi.model.dto.UserResponseDTO;
+import com.example.mySpringApi.repository.ReactiveUserRepository;
+import com.example.mySpringApi.response.ResponseHandler;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * ReactiveUserController serves the read endpoints of {@code /userAPI} from the R2DBC-backed
+ * {@link ReactiveUserRepository}, for deployments that read from a replica at high concurrency.
+ * <p>
+ * Handler methods return a Mono or Flux, which Spring MVC serves as an async request: the servlet thread is
+ * released as soon as the query is issued, and the response is written when the database answers. No thread is
+ * parked per in-flight request. Authentication still runs on the servlet thread, in the security filter chain,
+ * before the handler is called.
+ * <p>
+ * Responses carry the same UserResponseDTO, wrapped in the same ResponseHandler envelope and with the same
+ * messages, as the corresponding UserController endpoints. The controller only exists when
+ * {@code app.reactive.enabled} is true.
+ */
+@RestController
+@RequestMapping("/reactive/userAPI")
+@ConditionalOnProperty(prefix = "app.reactive", name = "enabled", havingValue = "true")
+@Slf4j
+@Tag(name = "Reactive User Reads", description = "Non-blocking read operations related to User")
+public class ReactiveUserController {
+
+    private final ReactiveUserRepository reactiveUserRepository;
+    private final UserExceptionFactory exceptionFactory;
+
+    // Construct Injection
+    @Autowired
+    public ReactiveUserController(ReactiveUserRepository reactiveUserRepository,
+                                  UserExceptionFactory exceptionFactory) {
+        this.reactiveUserRepository = reactiveUserRepository;
+        this.exceptionFactory = exceptionFactory;
+    }
+
+    /**
+     * Retrieves a User by ID.
+     *
+     * @param id the ID of the User to retrieve
+     * @return a Mono of the ResponseEntity containing the UserResponseDTO, or failing with UserNotFoundException.
+     */
+    @Operation(
+            summary = "Get a User by their ID without blocking",
+            description = "Reactive equivalent of GET /userAPI/id/{id}.")
+    @ApiResponse(responseCode = "200", description = "User found")
+    @ApiResponse(responseCode = "404", description = "User not found")
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    @GetMapping("/id/{id}")
+    public Mono<ResponseEntity<Object>> getUser(@PathVariable int id) {
+        return reactiveUserRepository.findById(id)
+                .switchIfEmpty(Mono.error(exceptionFactory::notFound))
+                .map(user -> ResponseHandler.generateResponse("User fetched successfully", HttpStatus.OK, user));
+    }
+
+    /**
+     * Retrieves a User by email.
+     *
+     * @param email the email of the User to retrieve
+     * @return a Mono of the ResponseEntity containing the UserResponseDTO, or failing with UserNotFoundException.
+     */
+    @Operation(
+            summary = "Get a User by their email without blocking",
+            description = "Reactive equivalent of GET /userAPI/email/{email}.")
+    @ApiResponse(responseCode = "200", description = "User found")
+    @ApiResponse(responseCode = "404", description = "User not found")
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    @GetMapping("/email/{email}")
+    public Mono<ResponseEntity<Object>> getUser(@PathVariable String email) {
+        return reactiveUserRepository.findByEmail(email)
+                .switchIfEmpty(Mono.error(exceptionFactory::notFound))
+                .map(user -> ResponseHandler.generateResponse("User fetched successfully", HttpStatus.OK, user));
+    }
+
+    /**
+     * Fetches all Users as a single enveloped JSON document, like GET /userAPI.
+     *
+     * @return a Mono of the ResponseEntity containing the list of UserResponseDTOs.
+     */
+    @Operation(
+            summary = "Fetches all Users without blocking",
+            description = "Reactive equivalent of GET /userAPI. Use /stream to avoid buffering the list.")
+    @ApiResponse(responseCode = "200", description = "Successfully fetched all users")
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    @GetMapping
+    public Mono<ResponseEntity<Object>> getAllUsers() {
+        return reactiveUserRepository.findAll()
+                .collectList()
+                .map(users -> ResponseHandler.generateResponse("All users fetched", HttpStatus.OK, users));
+    }
+
+    /**
+     * Streams all Users as newline-delimited JSON, one UserResponseDTO per line.
+     * <p>
+     * Each user is written and flushed before the next one is requested from the repository, so a slow client
+     * slows down the query rather than filling the heap.
+     *
+     * @return a Flux of UserResponseDTOs, in ID order.
+     */
+    @Operation(
+            summary = "Streams all Users",
+            description = "Streams every user as newline-delimited JSON, with backpressure from the client.")
+    @ApiResponse(responseCode = "200", description = "Users streamed")
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<UserResponseDTO> streamAllUsers() {
+        return reactiveUserRepository.findAll();
+    }
+}
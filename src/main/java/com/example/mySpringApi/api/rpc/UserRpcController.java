@@ -0,0 +1,203 @@
+package com.example.mySpringApi.api.rpc;
+
+import com.example.mySpringApi.api.rpc.proto.UserIdList;
+import com.example.mySpringApi.api.rpc.proto.UserRecord;
+import com.example.mySpringApi.api.rpc.proto.UserRecordList;
+import com.example.mySpringApi.cache.UserResponseBodyCache;
+import com.example.mySpringApi.config.BatchProperties;
+import com.example.mySpringApi.diagnostics.BulkJobEvent;
+import com.example.mySpringApi.exception.InvalidUserInputException;
+import com.example.mySpringApi.exception.UserException;
+import com.example.mySpringApi.model.Role;
+import com.example.mySpringApi.model.User;
+import com.example.mySpringApi.response.AcceptEncoding;
+import com.example.mySpringApi.service.UserService;
+import io.swagger.v3.oas.annotations.Hidden;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * UserRpcController exposes a binary, schema-defined surface for internal callers that only need to
+ * resolve user IDs to their email, name and roles.
+ * <p>
+ * Requests and responses are Protocol Buffers messages generated from {@code src/main/proto/user_rpc.proto}
+ * and exchanged as "application/x-protobuf". The controller sits next to the REST UserController, is backed
+ * by the same UserService and is protected by the same security filter chain and method-level rules.
+ * <p>
+ * It is hidden from the OpenAPI documentation because its contract is the .proto schema. The batch and stream
+ * endpoints emit a {@link BulkJobEvent} for Flight Recorder.
+ */
+@RestController
+@RequestMapping("/internal/userRPC")
+@Slf4j
+@Hidden
+public class UserRpcController {
+
+    /**
+     * Media type of every request and response body handled by this controller.
+     */
+    public static final String PROTOBUF = "application/x-protobuf";
+
+    private final UserService userService;
+    private final UserResponseBodyCache responseBodyCache;
+    private final BatchProperties batchProperties;
+
+    // Construct Injection
+    @Autowired
+    public UserRpcController(UserService userService, UserResponseBodyCache responseBodyCache,
+                             ObjectProvider<BatchProperties> batchProperties) {
+        this.userService = userService;
+        this.responseBodyCache = responseBodyCache;
+        this.batchProperties = batchProperties.getIfAvailable(BatchProperties::new);
+    }
+
+    /**
+     * Resolves a single user by ID.
+     * <p>
+     * When the response cache is enabled, the encoded record is served from the UserResponseBodyCache.
+     *
+     * @param id the ID of the User to resolve
+     * @param acceptEncoding the Accept-Encoding request header, used to serve a pre-gzipped body when allowed
+     * @return the encoded UserRecord for the user; a missing user is reported as a 404 with an empty body.
+     */
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    @GetMapping(value = "/id/{id}", produces = PROTOBUF)
+    public ResponseEntity<Object> getUser(@PathVariable int id,
+                                          @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        if (responseBodyCache.isEnabled()) {
+            boolean acceptGzip = AcceptEncoding.acceptsGzip(acceptEncoding);
+            return responseBodyCache.getProtobuf(id, acceptGzip, () -> toRecord(userService.getUser(id)));
+        }
+        return ResponseEntity.ok(toRecord(userService.getUser(id)));
+    }
+
+    /**
+     * Resolves many users in one round trip.
+     * <p>
+     * All IDs are looked up with a single query. IDs that do not resolve to a user are returned
+     * in the {@code missing_ids} field instead of failing the whole batch. A batch of more than
+     * {@code app.batch.max-ids} IDs is rejected with a 400 status.
+     *
+     * @param request the IDs to resolve
+     * @return a UserRecordList with the resolved users and the IDs that were not found.
+     */
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    @PostMapping(value = "/batch", consumes = PROTOBUF, produces = PROTOBUF)
+    public UserRecordList getUsers(@RequestBody UserIdList request) {
+        if (request.getIdsCount() > batchProperties.getMaxIds()) {
+            throw new InvalidUserInputException("At most " + batchProperties.getMaxIds() + " IDs can be requested.");
+        }
+        BulkJobEvent job = BulkJobEvent.start("rpc.batch");
+        job.requested = request.getIdsCount();
+        try {
+            List<User> users = userService.getUsers(request.getIdsList());
+
+            UserRecordList.Builder response = UserRecordList.newBuilder();
+            Set<Integer> found = new HashSet<>(users.size() * 2);
+            for (User user : users) {
+                response.addUsers(toRecord(user));
+                found.add(user.getId());
+            }
+            for (Integer id : request.getIdsList()) {
+                if (!found.contains(id)) {
+                    response.addMissingIds(id);
+                }
+            }
+            job.processed = users.size();
+            job.finish(null);
+            return response.build();
+        } catch (RuntimeException e) {
+            job.finish(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Streams every user as a sequence of length-delimited UserRecord messages.
+     * <p>
+     * Users are read in keyset pages of {@code app.batch.stream-page-size}, ordered by ID, and each page is
+     * encoded and written before the next one is read. Neither the table nor the response is ever held in memory
+     * at once. Clients read the response with {@code UserRecord.parseDelimitedFrom(InputStream)} until it returns
+     * null.
+     *
+     * @return a ResponseEntity wrapping the streaming body.
+     */
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    @GetMapping(value = "/stream")
+    public ResponseEntity<StreamingResponseBody> streamAllUsers() {
+        BulkJobEvent job = BulkJobEvent.start("rpc.stream");
+        int pageSize = batchProperties.getStreamPageSize();
+        StreamingResponseBody body = outputStream -> {
+            try {
+                int lastId = 0;
+                List<User> page;
+                do {
+                    page = userService.getUsersAfter(lastId, pageSize);
+                    for (User user : page) {
+                        toRecord(user).writeDelimitedTo(outputStream);
+                        job.processed++;
+                        lastId = user.getId();
+                    }
+                    outputStream.flush();
+                } while (page.size() == pageSize);
+                job.finish(null);
+            } catch (IOException | RuntimeException e) {
+                job.finish(e);
+                throw e;
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(PROTOBUF + ";delimited=true"))
+                .body(body);
+    }
+
+    /**
+     * Handles UserExceptions thrown by the endpoints of this controller.
+     * <p>
+     * The JSON envelope produced by the UserExceptionHandler cannot be written as protobuf, so errors on
+     * this surface are reported with the exception's HTTP status and an empty body.
+     *
+     * @param ex The UserException that was thrown.
+     * @return A ResponseEntity with the HTTP status of the exception and no body.
+     */
+    @ExceptionHandler(UserException.class)
+    public ResponseEntity<Void> handleUserException(UserException ex) {
+        log.debug("RPC request failed with {}: {}", ex.getHttpStatus(), ex.getMessage());
+        return ResponseEntity.status(ex.getHttpStatus()).build();
+    }
+
+    /**
+     * Maps a User entity to its wire representation. Sensitive fields such as the password are never copied.
+     *
+     * @param user The User entity to convert.
+     * @return A UserRecord populated from the entity.
+     */
+    private static UserRecord toRecord(User user) {
+        UserRecord.Builder record = UserRecord.newBuilder().setId(user.getId());
+        // Protobuf strings cannot be null; an absent value is sent as the field default.
+        if (user.getEmail() != null) {
+            record.setEmail(user.getEmail());
+        }
+        if (user.getName() != null) {
+            record.setName(user.getName());
+        }
+        if (user.getRoles() != null) {
+            for (Role role : user.getRoles()) {
+                record.addRoles(role.getName());
+            }
+        }
+        return record.build();
+    }
+}
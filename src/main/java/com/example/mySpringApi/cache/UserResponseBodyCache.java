@@ -0,0 +1,309 @@
+package com.example.mySpringApi.cache;
+
+import com.example.mySpringApi.config.ResponseCacheProperties;
+import com.example.mySpringApi.diagnostics.CacheAccessEvent;
+import com.example.mySpringApi.event.UserChangedEvent;
+import com.example.mySpringApi.sql.ReadWriteRoutingDataSource;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.protobuf.MessageLite;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * UserResponseBodyCache keeps fully encoded single-user response bodies so that repeated reads of an
+ * unchanged user skip entity conversion and serialization entirely.
+ * <p>
+ * Bodies are cached per user, per content type and, optionally, pre-gzipped. Each cached body is wrapped
+ * in an immutable ResponseEntity holding a byte array, which Spring MVC writes straight to the servlet
+ * output stream with the ByteArrayHttpMessageConverter. A cache hit therefore performs one map lookup and
+ * returns an existing object.
+ * <p>
+ * Every user has a version counter that is incremented whenever a {@link UserChangedEvent} is committed.
+ * A body is only stored if the version did not change while it was being built, and only served if its
+ * version is still current. A reader racing with an update can never publish or observe a stale body.
+ * Bodies are built on the primary database even when a read replica is enabled: a lagging replica could return
+ * the row as it was before a change that was already invalidated, and that body would be kept until the next
+ * change of the user.
+ * <p>
+ * A user only gets a slot once its body has been built, so lookups of missing users, which end in an exception,
+ * neither take space nor evict anything. Beyond {@code app.response-cache.max-entries} users, slots are evicted
+ * with the CLOCK (second chance) policy: slots are queued in creation order, every hit marks its slot as
+ * referenced, and eviction takes the first unreferenced slot from the head of the queue, moving the referenced
+ * ones to the tail and clearing their mark. Slots are created, evicted and invalidated under one lock; hits take
+ * no lock.
+ * <p>
+ * The cache is disabled unless {@code app.response-cache.enabled} is true, in which case callers fall back
+ * to their normal response path. Every lookup emits a {@link CacheAccessEvent} for Flight Recorder.
+ */
+@Component
+@Slf4j
+public class UserResponseBodyCache {
+
+    /**
+     * Content types for which bodies can be cached.
+     */
+    public enum Format {
+        JSON(MediaType.APPLICATION_JSON),
+        PROTOBUF(MediaType.parseMediaType("application/x-protobuf"));
+
+        private final MediaType mediaType;
+        private final String cacheName;
+
+        Format(MediaType mediaType) {
+            this.mediaType = mediaType;
+            this.cacheName = "userResponseBody." + name();
+        }
+    }
+
+    private final ResponseCacheProperties properties;
+    private final ObjectMapper objectMapper;
+    private final ConcurrentHashMap<Integer, Slot> slots = new ConcurrentHashMap<>();
+
+    /**
+     * Guards the creation and eviction of slots, {@link #clock} and {@link #invalidations}.
+     */
+    private final Object lock = new Object();
+
+    /**
+     * The IDs of the users with a slot, in the order the CLOCK policy examines them.
+     */
+    private final ArrayDeque<Integer> clock = new ArrayDeque<>();
+
+    /**
+     * Number of invalidations so far. A body built while a user had no slot is only cached if no invalidation
+     * happened meanwhile, since that invalidation had no slot version to increment.
+     */
+    private long invalidations;
+
+    /**
+     * Constructs the cache.
+     *
+     * @param properties   The cache configuration.
+     * @param objectMapper The ObjectMapper used by Spring MVC, so cached JSON is identical to uncached JSON.
+     */
+    public UserResponseBodyCache(ResponseCacheProperties properties, ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * @return true if the cache is enabled and callers should route reads through it.
+     */
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * Returns the cached JSON response for a user, building and caching it on a miss.
+     *
+     * @param userId     The ID of the user the response describes.
+     * @param acceptGzip Whether the client accepts a gzip-encoded body.
+     * @param bodyLoader Builds the object to serialize on a miss. Exceptions propagate and nothing is cached.
+     * @return A ResponseEntity with status 200 and the encoded body.
+     */
+    public ResponseEntity<Object> getJson(int userId, boolean acceptGzip, Supplier<Object> bodyLoader) {
+        return get(userId, Format.JSON, acceptGzip, () -> {
+            try {
+                return objectMapper.writeValueAsBytes(bodyLoader.get());
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Could not serialize the cached user response", e);
+            }
+        });
+    }
+
+    /**
+     * Returns the cached protobuf response for a user, building and caching it on a miss.
+     *
+     * @param userId     The ID of the user the response describes.
+     * @param acceptGzip Whether the client accepts a gzip-encoded body.
+     * @param bodyLoader Builds the message to encode on a miss. Exceptions propagate and nothing is cached.
+     * @return A ResponseEntity with status 200 and the encoded body.
+     */
+    public ResponseEntity<Object> getProtobuf(int userId, boolean acceptGzip, Supplier<? extends MessageLite> bodyLoader) {
+        return get(userId, Format.PROTOBUF, acceptGzip, () -> bodyLoader.get().toByteArray());
+    }
+
+    /**
+     * Discards every cached body for a user once the change that triggered the event has been committed.
+     *
+     * @param event The event describing the changed user.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        invalidate(event.userId());
+    }
+
+    /**
+     * Increments the version of a user, making every body cached for it unreachable.
+     *
+     * @param userId The ID of the user to invalidate.
+     */
+    public void invalidate(int userId) {
+        Slot slot;
+        synchronized (lock) {
+            invalidations++;
+            slot = slots.get(userId);
+        }
+        if (slot != null) {
+            synchronized (slot) {
+                slot.version++;
+                slot.bodies = null;
+            }
+        }
+    }
+
+    /**
+     * @return The number of users that currently have a slot in the cache.
+     */
+    public int size() {
+        return slots.size();
+    }
+
+    private ResponseEntity<Object> get(int userId, Format format, boolean acceptGzip, Supplier<byte[]> encoder) {
+        boolean gzip = acceptGzip && properties.isGzip();
+        int index = format.ordinal() * 2 + (gzip ? 1 : 0);
+
+        Slot slot = slots.get(userId);
+        if (slot != null) {
+            Bodies bodies = slot.bodies;
+            if (bodies != null && bodies.version == slot.version && bodies.responses[index] != null) {
+                if (!slot.referenced) {
+                    slot.referenced = true;
+                }
+                CacheAccessEvent.emit(format.cacheName, userId, true);
+                return bodies.responses[index];
+            }
+        }
+        CacheAccessEvent.emit(format.cacheName, userId, false);
+
+        long version = slot != null ? slot.version : 0;
+        long invalidationsBefore = slot != null ? 0 : invalidations();
+        byte[] identity = ReadWriteRoutingDataSource.onPrimary(encoder);
+        ResponseEntity<Object> plain = response(format, identity, false);
+        ResponseEntity<Object> compressed = properties.isGzip() ? response(format, gzip(identity), true) : null;
+
+        if (slot == null) {
+            slot = createSlot(userId, invalidationsBefore);
+            if (slot == null) {
+                return gzip ? compressed : plain;
+            }
+        }
+        synchronized (slot) {
+            if (slot.version == version) {
+                ResponseEntity<Object>[] responses = slot.bodies != null && slot.bodies.version == version
+                        ? slot.bodies.responses.clone()
+                        : newResponses();
+                responses[format.ordinal() * 2] = plain;
+                responses[format.ordinal() * 2 + 1] = compressed;
+                slot.bodies = new Bodies(version, responses);
+            }
+        }
+        return gzip ? compressed : plain;
+    }
+
+    private long invalidations() {
+        synchronized (lock) {
+            return invalidations;
+        }
+    }
+
+    /**
+     * Creates the slot of a user whose body has just been built, evicting another slot if the cache is full.
+     *
+     * @param userId              The ID of the user.
+     * @param invalidationsBefore The number of invalidations when the build started.
+     * @return The slot, at version 0, or null if an invalidation happened during the build and the body must not
+     * be cached. If another reader created the slot meanwhile, that slot is returned.
+     */
+    private Slot createSlot(int userId, long invalidationsBefore) {
+        synchronized (lock) {
+            if (invalidations != invalidationsBefore) {
+                return null;
+            }
+            Slot slot = slots.get(userId);
+            if (slot == null) {
+                while (slots.size() >= properties.getMaxEntries() && !clock.isEmpty()) {
+                    evictOne();
+                }
+                slot = new Slot();
+                slots.put(userId, slot);
+                clock.addLast(userId);
+            }
+            return slot;
+        }
+    }
+
+    /**
+     * Evicts the first unreferenced slot of the clock, giving the referenced ones a second chance. Called with the
+     * lock held.
+     */
+    private void evictOne() {
+        while (true) {
+            Integer userId = clock.pollFirst();
+            Slot slot = slots.get(userId);
+            if (slot.referenced) {
+                slot.referenced = false;
+                clock.addLast(userId);
+            } else {
+                slots.remove(userId);
+                return;
+            }
+        }
+    }
+
+    private static ResponseEntity<Object> response(Format format, byte[] body, boolean gzip) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(format.mediaType);
+        headers.setContentLength(body.length);
+        headers.add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            headers.add(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return new ResponseEntity<>(body, HttpHeaders.readOnlyHttpHeaders(headers), HttpStatus.OK);
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 2 + 32);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ResponseEntity<Object>[] newResponses() {
+        return new ResponseEntity[Format.values().length * 2];
+    }
+
+    /**
+     * Per-user holder for the version counter and the bodies built at a given version.
+     * Writes are guarded by the slot monitor; reads rely on the volatile fields.
+     */
+    private static final class Slot {
+        private volatile long version;
+        private volatile Bodies bodies;
+        private volatile boolean referenced;
+    }
+
+    /**
+     * Immutable set of responses built at one version, indexed by format and encoding.
+     */
+    private record Bodies(long version, ResponseEntity<Object>[] responses) {
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.mySpringApi.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for the endpoints that read many users at once, bound from {@code app.batch.*}.
+ *
+ * @see com.example.mySpringApi.api.controller.UserController
+ * @see com.example.mySpringApi.api.rpc.UserRpcController
+ */
+@ConfigurationProperties(prefix = "app.batch")
+@Getter
+@Setter
+public class BatchProperties {
+
+    /**
+     * Maximum number of user IDs accepted in one batch request. Larger batches are rejected with a 400 status
+     * instead of being resolved with one unbounded query.
+     */
+    private int maxIds = 1000;
+
+    /**
+     * Number of users read per query when all users are streamed. Each page is written before the next is read,
+     * so at most one page is held in memory.
+     */
+    private int streamPageSize = 500;
+}
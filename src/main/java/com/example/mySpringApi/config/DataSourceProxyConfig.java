@@ -0,0 +1,86 @@
+package com.example.mySpringApi.config;
+
+import com.example.mySpringApi.sql.SlowQueryLog;
+import com.example.mySpringApi.sql.SqlBudgetFilter;
+import com.example.mySpringApi.sql.SqlStatementCounter;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+
+/**
+ * Configuration class that routes the application DataSource through datasource-proxy, so every JDBC statement
+ * can be observed regardless of the code issuing it.
+ * <p>
+ * Each DataSource bean is wrapped once, with every {@link QueryExecutionListener} bean as a listener.
+ * The SqlStatementCounter is one of them; the {@link SqlBudgetFilter} uses it to check each request against
+ * {@code app.sql-budget}. The {@link SlowQueryLog} is another, and replaces Hibernate's {@code show-sql}: it only
+ * logs the statements over {@code app.slow-query.threshold}, with their duration.
+ * <p>
+ * This class can be imported by test slices, such as @DataJpaTest, to count statements there as well.
+ */
+@Configuration
+@EnableConfigurationProperties({SqlBudgetProperties.class, SlowQueryProperties.class})
+public class DataSourceProxyConfig {
+
+    /**
+     * @param listeners The listeners to attach, resolved when the DataSource is created.
+     * @return The post-processor wrapping DataSource beans.
+     */
+    @Bean
+    public static BeanPostProcessor dataSourceProxyPostProcessor(ObjectProvider<QueryExecutionListener> listeners) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    ProxyDataSourceBuilder builder = ProxyDataSourceBuilder.create(dataSource).name(beanName);
+                    listeners.orderedStream().forEach(builder::listener);
+                    return builder.build();
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * @return The listener counting statements per request, or per test scope.
+     */
+    @Bean
+    public SqlStatementCounter sqlStatementCounter() {
+        return new SqlStatementCounter();
+    }
+
+    /**
+     * @param counter    The statement counter.
+     * @param properties The budget configuration.
+     * @return The registration of the filter checking each request against the SQL budget.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "app.sql-budget", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public FilterRegistrationBean<SqlBudgetFilter> sqlBudgetFilter(SqlStatementCounter counter,
+                                                                   SqlBudgetProperties properties) {
+        FilterRegistrationBean<SqlBudgetFilter> registration =
+                new FilterRegistrationBean<>(new SqlBudgetFilter(counter, properties));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 3);
+        return registration;
+    }
+
+    /**
+     * @param properties The slow query log configuration.
+     * @return The listener logging and summarizing slow statements.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "app.slow-query", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public SlowQueryLog slowQueryLog(SlowQueryProperties properties) {
+        return new SlowQueryLog(properties);
+    }
+}
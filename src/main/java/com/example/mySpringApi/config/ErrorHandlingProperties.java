@@ -0,0 +1,34 @@
+package com.example.mySpringApi.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.slf4j.event.Level;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for client error handling, bound from {@code app.errors.*}.
+ *
+ * @see com.example.mySpringApi.api.advice.UserExceptionHandler
+ */
+@ConfigurationProperties(prefix = "app.errors")
+@Getter
+@Setter
+public class ErrorHandlingProperties {
+
+    /**
+     * Whether the UserExceptions created by the UserExceptionFactory capture a stack trace. Off by default, because
+     * they describe expected client errors.
+     */
+    private boolean captureStackTraces = false;
+
+    /**
+     * Level at which expected client errors (404, 409 and 400 responses) are logged.
+     */
+    private Level clientErrorLogLevel = Level.INFO;
+
+    /**
+     * Maximum number of client errors of one exception type logged per second. Further errors of that type are
+     * only counted, and the number skipped is reported with the next logged one. 0 disables the limit.
+     */
+    private int clientErrorLogLimit = 10;
+}
@@ -0,0 +1,40 @@
+package com.example.mySpringApi.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the request execution model, bound from {@code app.execution.*}.
+ *
+ * @see VirtualThreadConfig
+ */
+@ConfigurationProperties(prefix = "app.execution")
+@Getter
+@Setter
+public class ExecutionProperties {
+
+    /**
+     * The kind of threads that run request handling and async work.
+     */
+    public enum Mode {
+        /** Tomcat's bounded pool of platform threads (server.tomcat.threads.max). */
+        PLATFORM,
+        /** One virtual thread per request and per async task. */
+        VIRTUAL
+    }
+
+    private Mode mode = Mode.PLATFORM;
+
+    /**
+     * Whether carrier-thread pinning is reported while running in VIRTUAL mode.
+     */
+    private boolean pinningDetection = true;
+
+    /**
+     * Pinning events shorter than this are ignored.
+     */
+    private Duration pinningThreshold = Duration.ofMillis(20);
+}
@@ -0,0 +1,72 @@
+package com.example.mySpringApi.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.type.MethodMetadata;
+
+import java.util.List;
+
+/**
+ * Configuration class for lazy initialization of non-critical beans, active when {@code app.fast-start.lazy-beans}
+ * is true.
+ * <p>
+ * Spring Boot's {@code spring.main.lazy-initialization} defers every bean, which moves the cost of the context
+ * refresh to the first requests and hides configuration errors until then. Here, only the beans whose class
+ * name starts with one of {@code app.fast-start.lazy-bean-prefixes} are deferred. By default these are the
+ * springdoc beans, which build the OpenAPI documentation from {@link OpenApiConfig} and the controllers: they
+ * are created by the first request to {@code /v3/api-docs} or {@code /swagger-ui}.
+ * <p>
+ * With the {@code fast-start} build profile, AOT processing runs this post-processor at build time and records
+ * the lazy flags in the generated bean definitions.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.fast-start", name = "lazy-beans", havingValue = "true")
+@Slf4j
+public class FastStartConfig {
+
+    /**
+     * Provides the post-processor marking the matching bean definitions as lazy. It is static because it must
+     * be created before any other bean, and it binds its prefixes itself for the same reason.
+     *
+     * @param environment The environment holding {@code app.fast-start.lazy-bean-prefixes}.
+     * @return The BeanFactoryPostProcessor.
+     */
+    @Bean
+    public static BeanFactoryPostProcessor lazyBeansPostProcessor(Environment environment) {
+        FastStartProperties properties = Binder.get(environment)
+                .bindOrCreate("app.fast-start", FastStartProperties.class);
+        return beanFactory -> markLazy(beanFactory, properties.getLazyBeanPrefixes());
+    }
+
+    private static void markLazy(ConfigurableListableBeanFactory beanFactory, List<String> prefixes) {
+        int count = 0;
+        for (String name : beanFactory.getBeanDefinitionNames()) {
+            BeanDefinition definition = beanFactory.getBeanDefinition(name);
+            String className = declaringClassName(definition);
+            if (definition.getRole() != BeanDefinition.ROLE_INFRASTRUCTURE && className != null
+                    && prefixes.stream().anyMatch(className::startsWith)) {
+                definition.setLazyInit(true);
+                count++;
+            }
+        }
+        log.info("{} beans will be created on first use", count);
+    }
+
+    private static String declaringClassName(BeanDefinition definition) {
+        if (definition instanceof AnnotatedBeanDefinition annotated) {
+            MethodMetadata factoryMethod = annotated.getFactoryMethodMetadata();
+            if (factoryMethod != null) {
+                return factoryMethod.getDeclaringClassName();
+            }
+        }
+        return definition.getBeanClassName();
+    }
+}
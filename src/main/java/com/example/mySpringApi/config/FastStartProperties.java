@@ -0,0 +1,43 @@
+package com.example.mySpringApi.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration properties for starting an instance quickly, bound from {@code app.fast-start.*}.
+ *
+ * @see FastStartConfig
+ * @see com.example.mySpringApi.runner.FastStartTrainingRunner
+ */
+@ConfigurationProperties(prefix = "app.fast-start")
+@Getter
+@Setter
+public class FastStartProperties {
+
+    /**
+     * Whether the beans matched by {@link #lazyBeanPrefixes} are only created when first used.
+     */
+    private boolean lazyBeans = false;
+
+    /**
+     * Class name prefixes of the beans that are not needed to serve the API, such as the OpenAPI documentation.
+     * A bean declared by a {@code @Bean} method matches on the class declaring the method.
+     */
+    private List<String> lazyBeanPrefixes = new ArrayList<>(List.of("org.springdoc."));
+
+    /**
+     * Whether the application sends one request to itself and exits once it is ready. Used by the
+     * {@code fast-start} build profile to record the class-data sharing archive.
+     */
+    private boolean trainingRun = false;
+
+    /**
+     * Path of the request sent by the training run, so that the classes of the request path are archived too.
+     * The training run is not ready yet when it sends it, so the readiness probe would refuse it.
+     */
+    private String trainingRequestPath = "/actuator/health/liveness";
+}
@@ -0,0 +1,41 @@
+package com.example.mySpringApi.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for loading synthetic users at startup, bound from {@code app.fixtures.*}.
+ *
+ * @see com.example.mySpringApi.runner.UserFixtureRunner
+ */
+@ConfigurationProperties(prefix = "app.fixtures")
+@Getter
+@Setter
+public class FixtureProperties {
+
+    /**
+     * Number of synthetic users to load at startup. 0 disables loading.
+     */
+    private long users = 0;
+
+    /**
+     * Seed of the generator. The same seed and number of users always give the same data.
+     */
+    private long seed = 42;
+
+    /**
+     * Number of users inserted per batch and committed together.
+     */
+    private int batchSize = 1000;
+
+    /**
+     * Password of every synthetic user. It is hashed once, not once per user.
+     */
+    private String password = "fixture-password";
+
+    /**
+     * Whether the application exits once the users are loaded, to use it as a command line loader.
+     */
+    private boolean exit = false;
+}
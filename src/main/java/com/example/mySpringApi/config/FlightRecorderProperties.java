@@ -0,0 +1,45 @@
+package com.example.mySpringApi.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for on-demand flight recordings, bound from {@code app.flight-recorder.*}.
+ *
+ * @see com.example.mySpringApi.diagnostics.FlightRecordings
+ */
+@ConfigurationProperties(prefix = "app.flight-recorder")
+@Getter
+@Setter
+public class FlightRecorderProperties {
+
+    /**
+     * Whether recordings can be started, stopped and dumped through /admin/jfr.
+     */
+    private boolean enabled = false;
+
+    /**
+     * The JDK event settings of a recording: "default" (about 1% overhead), "profile" (about 2%, with method
+     * sampling and allocation profiling), or the path of a .jfc file.
+     */
+    private String settings = "profile";
+
+    /**
+     * Longest span of data kept by a recording; older chunks are discarded.
+     */
+    private Duration maxAge = Duration.ofMinutes(30);
+
+    /**
+     * Largest amount of data kept by a recording; older chunks are discarded.
+     */
+    private DataSize maxSize = DataSize.ofMegabytes(256);
+
+    /**
+     * Whether recordings include the cache hit and miss events, one per cached read.
+     */
+    private boolean cacheEvents = true;
+}
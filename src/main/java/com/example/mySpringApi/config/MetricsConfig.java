@@ -0,0 +1,57 @@
+package com.example.mySpringApi.config;
+
+import com.example.mySpringApi.metrics.LatencyBudgetObservationHandler;
+import com.example.mySpringApi.metrics.TimedJsonHttpMessageConverter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class for the metrics that Spring Boot does not record by itself.
+ * <p>
+ * Boot already records {@code http.server.requests} per route and {@code spring.data.repository.invocations}
+ * per repository method. This class adds the following meters:
+ * <ul>
+ *     <li>{@code http.server.response.serialization}: JSON serialization of response bodies.</li>
+ *     <li>{@code http.server.requests.over.budget}: requests over the latency budget of their route.</li>
+ *     <li>Timers for methods annotated with {@code @Timed}, such as {@code user.details.load}.</li>
+ * </ul>
+ * BCrypt is timed by the PasswordEncoder bean itself (see PasswordEncoderConfig). Percentiles and histogram
+ * buckets are configured per meter under {@code management.metrics.distribution} in application.yaml.
+ */
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * @param objectMapper The application's ObjectMapper.
+     * @param registry     The meter registry.
+     * @return The JSON converter Spring MVC uses instead of the default one.
+     */
+    @Bean
+    public TimedJsonHttpMessageConverter timedJsonHttpMessageConverter(ObjectMapper objectMapper, MeterRegistry registry) {
+        return new TimedJsonHttpMessageConverter(objectMapper, registry);
+    }
+
+    /**
+     * @param registry   The meter registry.
+     * @param properties The metrics configuration.
+     * @return The observation handler counting requests over their route's latency budget.
+     */
+    @Bean
+    public LatencyBudgetObservationHandler latencyBudgetObservationHandler(MeterRegistry registry,
+                                                                           MetricsProperties properties) {
+        return new LatencyBudgetObservationHandler(registry, properties.getLatencyBudget(),
+                properties.getRouteLatencyBudgets());
+    }
+
+    /**
+     * @param registry The meter registry.
+     * @return The aspect recording methods annotated with {@code @Timed}.
+     */
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.mySpringApi.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Configuration properties for application metrics, bound from {@code app.metrics.*}.
+ *
+ * @see com.example.mySpringApi.metrics.LatencyBudgetObservationHandler
+ */
+@ConfigurationProperties(prefix = "app.metrics")
+@Getter
+@Setter
+public class MetricsProperties {
+
+    /**
+     * Latency budget of routes without their own. Slower requests are counted as over budget.
+     */
+    private Duration latencyBudget = Duration.ofMillis(250);
+
+    /**
+     * Latency budgets per URI pattern, such as {@code /userAPI/id/{id}}.
+     */
+    private Map<String, Duration> routeLatencyBudgets = new LinkedHashMap<>();
+}
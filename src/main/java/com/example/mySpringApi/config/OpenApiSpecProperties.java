@@ -0,0 +1,28 @@
+package com.example.mySpringApi.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the OpenAPI document generated by the build, bound from {@code app.openapi.*}.
+ *
+ * @see com.example.mySpringApi.api.docs.OpenApiSpecController
+ */
+@ConfigurationProperties(prefix = "app.openapi")
+@Getter
+@Setter
+public class OpenApiSpecProperties {
+
+    /**
+     * Location of the JSON document. A gzip-compressed copy is expected next to it, with a ".gz" suffix.
+     */
+    private String location = "classpath:openapi/openapi.json";
+
+    /**
+     * How long clients may reuse the document before revalidating it with its ETag.
+     */
+    private Duration maxAge = Duration.ofDays(1);
+}
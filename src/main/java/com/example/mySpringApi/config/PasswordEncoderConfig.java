@@ -1,5 +1,7 @@
 package com.example.mySpringApi.config;
 
+import com.example.mySpringApi.metrics.TimedPasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -18,6 +20,8 @@ import org.springframework.security.crypto.password.PasswordEncoder;
  * <p>
  * The PasswordEncoder bean is used throughout the application wherever password hashing or comparison
  * is needed, ensuring a consistent and secure approach to handle user passwords.
+ * It is wrapped in a TimedPasswordEncoder, so every hash and verification is recorded in the
+ * {@code password.encoder} timer.
  */
 @Configuration
 public class PasswordEncoderConfig {
@@ -25,10 +29,11 @@ public class PasswordEncoderConfig {
     /**
      * Creates a PasswordEncoder bean using BCrypt hashing algorithm.
      *
+     * @param registry the meter registry recording the time spent in BCrypt.
      * @return PasswordEncoder instance to be used for encoding passwords.
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(MeterRegistry registry) {
+        return new TimedPasswordEncoder(new BCryptPasswordEncoder(), registry);
     }
 }
@@ -0,0 +1,55 @@
+package com.example.mySpringApi.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.core.io.Resource;
+
+/**
+ * Configuration properties for the password policy applied to new and updated passwords, bound from
+ * {@code app.password-policy.*}. The defaults reproduce the rules previously declared on UserDTO.
+ *
+ * @see com.example.mySpringApi.validation.PasswordPolicyChecker
+ */
+@ConfigurationProperties(prefix = "app.password-policy")
+@Getter
+@Setter
+public class PasswordPolicyProperties {
+
+    private int minLength = 8;
+
+    /**
+     * Longer passwords are rejected. The length counts characters; passwords over 72 bytes in UTF-8, which BCrypt
+     * would truncate, are rejected regardless.
+     */
+    private int maxLength = 72;
+
+    private boolean requireDigit = true;
+
+    private boolean requireLowercase = true;
+
+    private boolean requireUppercase = true;
+
+    private boolean requireSpecial = true;
+
+    /**
+     * The characters that count as special characters.
+     */
+    private String specialCharacters = "!@#$%^&*+=?-";
+
+    /**
+     * Maximum number of times the same character may appear in a row. 0 disables the rule.
+     */
+    private int maxRepeat = 3;
+
+    /**
+     * Optional list of breached passwords, as SHA-1 hex hashes, one per line ({@code HASH} or {@code HASH:count}).
+     * Passwords found in it are rejected. No lookup is performed when unset.
+     */
+    private Resource breachedPasswords;
+
+    /**
+     * Target false-positive rate of the in-memory Bloom filter built from the breached-password list.
+     */
+    private double breachedFalsePositiveRate = 0.001;
+}
@@ -0,0 +1,28 @@
+package com.example.mySpringApi.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.protobuf.ProtobufHttpMessageConverter;
+
+/**
+ * Configuration class for Protocol Buffers message conversion.
+ * <p>
+ * Registers a ProtobufHttpMessageConverter so that controllers can accept and return generated
+ * protobuf messages as "application/x-protobuf". Spring Boot adds every HttpMessageConverter bean
+ * to the MVC converter list, so the JSON endpoints are unaffected.
+ *
+ * @see com.example.mySpringApi.api.rpc.UserRpcController
+ */
+@Configuration
+public class ProtobufConfig {
+
+    /**
+     * Creates the converter used to read and write protobuf messages.
+     *
+     * @return ProtobufHttpMessageConverter instance for binary protobuf payloads.
+     */
+    @Bean
+    public ProtobufHttpMessageConverter protobufHttpMessageConverter() {
+        return new ProtobufHttpMessageConverter();
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.mySpringApi.config;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.r2dbc.ConnectionFactoryBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+/**
+ * Configuration class for the reactive read path, active when {@code app.reactive.enabled} is true.
+ * <p>
+ * The R2DBC connection pool is deliberately not exposed as a ConnectionFactory bean. Spring Boot's JDBC
+ * DataSource auto-configuration backs off when such a bean exists, which would take the JPA stack down with it.
+ * The pool is owned by this class instead, only the DatabaseClient built on top of it is published, and the
+ * pool is closed with the application context.
+ * <p>
+ * For the same reason, Spring Boot's R2dbcAutoConfiguration is excluded on the application class.
+ *
+ * @see com.example.mySpringApi.repository.ReactiveUserRepository
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.reactive", name = "enabled", havingValue = "true")
+@Slf4j
+public class ReactiveConfig implements DisposableBean {
+
+    private final ConnectionPool connectionPool;
+
+    // Construct Injection
+    public ReactiveConfig(ReactiveProperties properties) {
+        ConnectionFactory connectionFactory = ConnectionFactoryBuilder.withUrl(properties.getUrl())
+                .username(properties.getUsername())
+                .password(properties.getPassword())
+                .build();
+        this.connectionPool = new ConnectionPool(ConnectionPoolConfiguration.builder(connectionFactory)
+                .initialSize(properties.getInitialPoolSize())
+                .maxSize(properties.getMaxPoolSize())
+                .build());
+        log.info("Reactive read path enabled, max {} R2DBC connections", properties.getMaxPoolSize());
+    }
+
+    /**
+     * Provides the DatabaseClient used by the reactive repositories.
+     *
+     * @return A DatabaseClient over the pooled R2DBC connections.
+     */
+    @Bean
+    public DatabaseClient reactiveDatabaseClient() {
+        return DatabaseClient.create(connectionPool);
+    }
+
+    /**
+     * Closes the pooled connections when the application context shuts down.
+     */
+    @Override
+    public void destroy() {
+        connectionPool.dispose();
+    }
+}
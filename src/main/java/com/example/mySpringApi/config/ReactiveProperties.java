@@ -0,0 +1,42 @@
+package com.example.mySpringApi.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for the reactive read path, bound from {@code app.reactive.*}.
+ *
+ * @see ReactiveConfig
+ */
+@ConfigurationProperties(prefix = "app.reactive")
+@Getter
+@Setter
+public class ReactiveProperties {
+
+    /**
+     * Whether the R2DBC-backed endpoints under /reactive/userAPI are exposed. Disabled by default.
+     */
+    private boolean enabled = false;
+
+    /**
+     * R2DBC URL of the database to read from, for example {@code r2dbc:mysql://localhost:3306/SpringRestAPI}.
+     * It can point to a read replica of the database used by JPA.
+     */
+    private String url;
+
+    private String username;
+
+    private String password;
+
+    /**
+     * Number of connections opened when the pool starts.
+     */
+    private int initialPoolSize = 5;
+
+    /**
+     * Maximum number of pooled connections. A handful of connections serve many concurrent requests,
+     * because no connection is held while a request waits for anything other than the database.
+     */
+    private int maxPoolSize = 20;
+}
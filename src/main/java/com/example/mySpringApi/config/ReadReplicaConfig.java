@@ -0,0 +1,76 @@
+package com.example.mySpringApi.config;
+
+import com.example.mySpringApi.sql.ReadWriteRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+/**
+ * Configuration class that sends read-only transactions to a read replica, active when
+ * {@code app.read-replica.enabled} is true.
+ * <p>
+ * Both connection pools are owned by this class and only the {@link ReadWriteRoutingDataSource} built on top of
+ * them is published, so Spring Boot's DataSource auto-configuration backs off and the DataSourceProxyConfig wraps
+ * a single DataSource, counting every statement once whichever pool runs it. The primary pool is built from
+ * {@code spring.datasource}, with the pool settings of {@code spring.datasource.hikari}, as Spring Boot would. The
+ * pools are closed with the application context.
+ * <p>
+ * The service layer marks its reads with {@code @Transactional(readOnly = true)}; those are the transactions
+ * served by the replica. Replicas lag behind the primary, so these reads may miss the latest writes; the
+ * UserResponseBodyCache builds its bodies on the primary for that reason.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.read-replica", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(DataSourceProperties.class)
+@Slf4j
+public class ReadReplicaConfig implements DisposableBean {
+
+    private final HikariDataSource primary;
+    private final HikariDataSource replica;
+
+    // Construct Injection
+    public ReadReplicaConfig(DataSourceProperties dataSourceProperties, ReadReplicaProperties properties,
+                             Environment environment) {
+        this.primary = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        this.primary.setPoolName("primary");
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+
+        this.replica = new HikariDataSource();
+        this.replica.setPoolName("replica");
+        this.replica.setJdbcUrl(properties.getUrl());
+        this.replica.setUsername(properties.getUsername());
+        this.replica.setPassword(properties.getPassword());
+        this.replica.setMaximumPoolSize(properties.getMaxPoolSize());
+        this.replica.setReadOnly(true);
+        log.info("Read-only transactions routed to the read replica, max {} connections", properties.getMaxPoolSize());
+    }
+
+    /**
+     * Provides the application DataSource.
+     *
+     * @return A DataSource choosing the replica inside read-only transactions and the primary otherwise.
+     */
+    @Bean
+    public DataSource dataSource() {
+        return new ReadWriteRoutingDataSource(primary, replica);
+    }
+
+    /**
+     * Closes both connection pools when the application context shuts down.
+     */
+    @Override
+    public void destroy() {
+        replica.close();
+        primary.close();
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.mySpringApi.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for routing read-only transactions to a read replica, bound from
+ * {@code app.read-replica.*}.
+ *
+ * @see ReadReplicaConfig
+ */
+@ConfigurationProperties(prefix = "app.read-replica")
+@Getter
+@Setter
+public class ReadReplicaProperties {
+
+    /**
+     * Whether read-only transactions use connections to the replica. Disabled by default, in which case every
+     * transaction uses {@code spring.datasource}.
+     */
+    private boolean enabled = false;
+
+    /**
+     * JDBC URL of the replica, for example {@code jdbc:mysql://replica:3306/SpringRestAPI}.
+     */
+    private String url;
+
+    private String username;
+
+    private String password;
+
+    /**
+     * Maximum number of pooled replica connections.
+     */
+    private int maxPoolSize = 10;
+}
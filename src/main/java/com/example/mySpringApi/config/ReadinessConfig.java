@@ -0,0 +1,50 @@
+package com.example.mySpringApi.config;
+
+import com.example.mySpringApi.startup.ReadinessGate;
+import org.springframework.boot.actuate.availability.ReadinessStateHealthIndicator;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.AvailabilityState;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class for the readiness probe.
+ * <p>
+ * Spring Boot reports the application ready as soon as its runners have returned. The readiness health indicator
+ * defined here, which replaces Spring Boot's own, also waits for the tasks held by the {@link ReadinessGate}, and
+ * lists them in its details while they are open.
+ */
+@Configuration
+public class ReadinessConfig {
+
+    /**
+     * Provides the health indicator of {@code /actuator/health/readiness}.
+     *
+     * @param availability  Spring Boot's view of the application state.
+     * @param readinessGate The open startup tasks.
+     * @return A ReadinessStateHealthIndicator that refuses traffic while a startup task is open.
+     */
+    @Bean
+    public ReadinessStateHealthIndicator readinessStateHealthIndicator(ApplicationAvailability availability,
+                                                                       ReadinessGate readinessGate) {
+        return new ReadinessStateHealthIndicator(availability) {
+
+            @Override
+            protected AvailabilityState getState(ApplicationAvailability applicationAvailability) {
+                return readinessGate.isOpen()
+                        ? super.getState(applicationAvailability)
+                        : ReadinessState.REFUSING_TRAFFIC;
+            }
+
+            @Override
+            protected void doHealthCheck(Health.Builder builder) throws Exception {
+                super.doHealthCheck(builder);
+                if (!readinessGate.isOpen()) {
+                    builder.withDetail("pendingTasks", readinessGate.getPending());
+                }
+            }
+        };
+    }
+}
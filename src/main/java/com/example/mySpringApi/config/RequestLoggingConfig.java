@@ -0,0 +1,41 @@
+package com.example.mySpringApi.config;
+
+import com.example.mySpringApi.logging.RequestLogFilter;
+import com.example.mySpringApi.logging.UserMdcFilter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Configuration class registering the request logging filters, unless {@code app.logging.request-log} is false.
+ * <p>
+ * RequestLogFilter is registered ahead of the security filter chain and UserMdcFilter right after it, so
+ * that request IDs cover authentication and user IDs are known once authentication has happened.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.logging", name = "request-log", havingValue = "true", matchIfMissing = true)
+public class RequestLoggingConfig {
+
+    /**
+     * @return The registration of the filter that assigns request IDs and logs completed requests.
+     */
+    @Bean
+    public FilterRegistrationBean<RequestLogFilter> requestLogFilter() {
+        FilterRegistrationBean<RequestLogFilter> registration = new FilterRegistrationBean<>(new RequestLogFilter());
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+
+    /**
+     * @return The registration of the filter that adds the authenticated user to the MDC.
+     */
+    @Bean
+    public FilterRegistrationBean<UserMdcFilter> userMdcFilter() {
+        FilterRegistrationBean<UserMdcFilter> registration = new FilterRegistrationBean<>(new UserMdcFilter());
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 1);
+        return registration;
+    }
+}
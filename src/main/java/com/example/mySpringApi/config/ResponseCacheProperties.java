@@ -0,0 +1,32 @@
+package com.example.mySpringApi.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for the serialized response cache, bound from {@code app.response-cache.*}.
+ *
+ * @see com.example.mySpringApi.cache.UserResponseBodyCache
+ */
+@ConfigurationProperties(prefix = "app.response-cache")
+@Getter
+@Setter
+public class ResponseCacheProperties {
+
+    /**
+     * Whether fully encoded single-user responses are cached. Disabled by default.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Maximum number of users with cached responses. Beyond this size, the least recently hit users are evicted
+     * first, as approximated by the CLOCK policy.
+     */
+    private int maxEntries = 10_000;
+
+    /**
+     * Whether a gzip-compressed copy of each body is stored and served to clients that accept gzip.
+     */
+    private boolean gzip = false;
+}
@@ -0,0 +1,44 @@
+package com.example.mySpringApi.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the slow query log, bound from {@code app.slow-query.*}.
+ *
+ * @see com.example.mySpringApi.sql.SlowQueryLog
+ */
+@ConfigurationProperties(prefix = "app.slow-query")
+@Getter
+@Setter
+public class SlowQueryProperties {
+
+    /**
+     * Whether statements are timed and slow ones logged.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Statements taking at least this long are logged and added to the summary.
+     */
+    private Duration threshold = Duration.ofMillis(200);
+
+    /**
+     * Whether string and binary bind values are replaced by their type and length in the log and the summary.
+     * Numbers, booleans, dates and nulls are always shown.
+     */
+    private boolean redactBinds = true;
+
+    /**
+     * Whether the plan of a slow SELECT is captured with EXPLAIN, once per statement shape.
+     */
+    private boolean explain = false;
+
+    /**
+     * Maximum number of distinct slow statement shapes kept in the summary.
+     */
+    private int maxShapes = 200;
+}
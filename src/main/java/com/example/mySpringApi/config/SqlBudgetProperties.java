@@ -0,0 +1,37 @@
+package com.example.mySpringApi.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for the per-request SQL statement budget, bound from {@code app.sql-budget.*}.
+ *
+ * @see com.example.mySpringApi.sql.SqlBudgetFilter
+ */
+@ConfigurationProperties(prefix = "app.sql-budget")
+@Getter
+@Setter
+public class SqlBudgetProperties {
+
+    /**
+     * Whether statements are counted per request and checked against the budget.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Maximum number of SQL statements a request may execute, authentication included.
+     */
+    private int maxStatements = 10;
+
+    /**
+     * Maximum number of times a request may execute the same statement shape. More usually means an N+1 query.
+     */
+    private int maxRepeats = 3;
+
+    /**
+     * Whether a request over budget fails with a SqlBudgetExceededException instead of logging a warning.
+     * Meant for tests.
+     */
+    private boolean failOnViolation = false;
+}
@@ -0,0 +1,70 @@
+package com.example.mySpringApi.config;
+
+import com.example.mySpringApi.tracing.DispatchSpanFilter;
+import com.example.mySpringApi.tracing.Tracer;
+import com.example.mySpringApi.tracing.TracingAspect;
+import com.example.mySpringApi.tracing.TracingFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Configuration class for request tracing, active when {@code app.tracing.enabled} is true.
+ * <p>
+ * When tracing is disabled, none of these beans exist: no filter runs and no bean is proxied, so the
+ * request path is exactly as without tracing. When it is enabled, unsampled requests pay one random draw
+ * in TracingFilter and one ThreadLocal read per instrumented call.
+ * <p>
+ * TracingFilter is registered after RequestLogFilter, so traces carry the request ID, and DispatchSpanFilter
+ * right after the security filter chain.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.tracing", name = "enabled", havingValue = "true")
+@Slf4j
+public class TracingConfig {
+
+    /**
+     * @param properties The tracing configuration.
+     * @return The tracer holding the current traces and the ring buffer of completed ones.
+     */
+    @Bean
+    public Tracer tracer(TracingProperties properties) {
+        log.info("Request tracing enabled, sampling {} of requests", properties.getSampleRate());
+        return new Tracer(properties.getSampleRate(), properties.getBufferSize(), properties.getMaxSpans());
+    }
+
+    /**
+     * @param tracer The tracer.
+     * @return The aspect opening spans around controller, service, repository and password encoder calls.
+     */
+    @Bean
+    public TracingAspect tracingAspect(Tracer tracer) {
+        return new TracingAspect(tracer);
+    }
+
+    /**
+     * @param tracer The tracer.
+     * @return The registration of the filter that starts and publishes traces.
+     */
+    @Bean
+    public FilterRegistrationBean<TracingFilter> tracingFilter(Tracer tracer) {
+        FilterRegistrationBean<TracingFilter> registration = new FilterRegistrationBean<>(new TracingFilter(tracer));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 2);
+        return registration;
+    }
+
+    /**
+     * @param tracer The tracer.
+     * @return The registration of the filter that ends the security span and times the dispatch.
+     */
+    @Bean
+    public FilterRegistrationBean<DispatchSpanFilter> dispatchSpanFilter(Tracer tracer) {
+        FilterRegistrationBean<DispatchSpanFilter> registration = new FilterRegistrationBean<>(new DispatchSpanFilter(tracer));
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 2);
+        return registration;
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.mySpringApi.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for request tracing, bound from {@code app.tracing.*}.
+ *
+ * @see com.example.mySpringApi.tracing.Tracer
+ */
+@ConfigurationProperties(prefix = "app.tracing")
+@Getter
+@Setter
+public class TracingProperties {
+
+    /**
+     * Whether tracing is available at all. When false, no filter, aspect or endpoint is registered.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Fraction of requests traced, from 0 (none) to 1 (all).
+     */
+    private double sampleRate = 0.01;
+
+    /**
+     * Number of completed traces kept in the ring buffer. Older traces are overwritten.
+     */
+    private int bufferSize = 512;
+
+    /**
+     * Maximum number of spans recorded per trace. Further spans are counted but not recorded.
+     */
+    private int maxSpans = 256;
+}
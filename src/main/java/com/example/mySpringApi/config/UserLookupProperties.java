@@ -0,0 +1,23 @@
+package com.example.mySpringApi.config;
+
+import com.example.mySpringApi.repository.UserLookup;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for single-user lookups, bound from {@code app.user-lookup.*}.
+ *
+ * @see UserLookup
+ */
+@ConfigurationProperties(prefix = "app.user-lookup")
+@Getter
+@Setter
+public class UserLookupProperties {
+
+    /**
+     * The implementation serving lookups by ID and by email at startup. It can be switched at runtime through
+     * {@code PUT /admin/user-lookup}.
+     */
+    private UserLookup.Implementation implementation = UserLookup.Implementation.JPA;
+}
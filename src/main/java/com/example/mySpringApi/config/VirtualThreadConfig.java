@@ -0,0 +1,53 @@
+package com.example.mySpringApi.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+import java.util.concurrent.Executors;
+
+/**
+ * Configuration class for the VIRTUAL execution mode, active when {@code app.execution.mode} is {@code virtual}.
+ * <p>
+ * Request handling is dominated by blocking work: JDBC calls through the UserRepository and BCrypt hashing.
+ * In the default PLATFORM mode, Tomcat's fixed thread pool saturates first. In VIRTUAL mode, each request runs on
+ * its own virtual thread, so a request blocked on the database releases its carrier thread instead of holding a
+ * pool slot. Every UserServiceImpl call therefore runs on a virtual thread.
+ * <p>
+ * The same executor replaces the application task executor that runs MVC async work (such as streaming responses)
+ * and {@code @Async} methods.
+ *
+ * @see com.example.mySpringApi.diagnostics.VirtualThreadPinningMonitor
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.execution", name = "mode", havingValue = "virtual")
+@Slf4j
+public class VirtualThreadConfig {
+
+    /**
+     * Replaces Tomcat's request-processing thread pool with a virtual-thread-per-task executor.
+     *
+     * @return The customizer applied to Tomcat's protocol handler.
+     */
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        log.info("Request handling will run on virtual threads");
+        return protocolHandler -> protocolHandler.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    /**
+     * Provides the application task executor backed by virtual threads. Spring Boot backs off its own
+     * pooled executor when this bean is present.
+     *
+     * @return An AsyncTaskExecutor that starts a virtual thread per task.
+     */
+    @Bean(name = {TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME, "taskExecutor"})
+    public AsyncTaskExecutor applicationTaskExecutor() {
+        return new TaskExecutorAdapter(Executors.newVirtualThreadPerTaskExecutor());
+    }
+}
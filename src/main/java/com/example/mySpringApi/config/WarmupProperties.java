@@ -0,0 +1,61 @@
+package com.example.mySpringApi.config;
+
+import com.example.mySpringApi.warmup.UserApiWarmup;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Configuration properties for the warmup run before the application reports ready, bound from {@code app.warmup.*}.
+ *
+ * @see com.example.mySpringApi.runner.WarmupRunner
+ */
+@ConfigurationProperties(prefix = "app.warmup")
+@Getter
+@Setter
+public class WarmupProperties {
+
+    /**
+     * Whether the warmup runs at startup. Readiness is held until it is done.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Number of synthetic UserController calls.
+     */
+    private int calls = 2000;
+
+    /**
+     * Time after which the calls stop, even if fewer than {@code calls} were made.
+     */
+    private Duration maxDuration = Duration.ofSeconds(30);
+
+    /**
+     * Number of users, lowest IDs first, that the calls read. Their responses are also primed in the response
+     * cache when it is enabled.
+     */
+    private int users = 100;
+
+    /**
+     * Number of IDs per batch call.
+     */
+    private int batchSize = 20;
+
+    /**
+     * Number of pool connections opened before the calls. -1 opens the maximum pool size, 0 none.
+     */
+    private int connections = -1;
+
+    /**
+     * Relative weight of each operation in the calls.
+     */
+    private Map<UserApiWarmup.Operation, Integer> mix = new EnumMap<>(Map.of(
+            UserApiWarmup.Operation.BY_ID, 60,
+            UserApiWarmup.Operation.BY_EMAIL, 20,
+            UserApiWarmup.Operation.BATCH, 10,
+            UserApiWarmup.Operation.FIELDS, 10));
+}
@@ -0,0 +1,34 @@
+package com.example.mySpringApi.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight Recorder event spanning one username and password authentication, from loading the user to the end
+ * of the password check.
+ * <p>
+ * The hash time is the part of the duration spent in the PasswordEncoder. The username is not recorded.
+ *
+ * @see RecordingAuthenticationProvider
+ */
+@Name(AuthenticationEvent.NAME)
+@Label("Authentication")
+@Category({"User Management System", "Security"})
+@Description("A username and password authentication")
+@StackTrace(false)
+public class AuthenticationEvent extends jdk.jfr.Event {
+
+    public static final String NAME = "com.example.mySpringApi.Authentication";
+
+    @Label("Outcome")
+    @Description("\"success\", or the simple name of the AuthenticationException that rejected the credentials")
+    public String outcome;
+
+    @Label("Hash Time")
+    @Timespan(Timespan.NANOSECONDS)
+    public long hashTime;
+}
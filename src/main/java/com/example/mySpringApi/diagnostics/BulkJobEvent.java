@@ -0,0 +1,65 @@
+package com.example.mySpringApi.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event spanning a job that processes many users at once, such as a batch lookup, a stream of
+ * every user or the startup seeding.
+ * <p>
+ * Callers {@link #start} the event, fill in the counts and {@link #finish} it with the outcome.
+ */
+@Name(BulkJobEvent.NAME)
+@Label("Bulk Job")
+@Category({"User Management System", "Jobs"})
+@Description("A job processing many users")
+@StackTrace(false)
+public class BulkJobEvent extends jdk.jfr.Event {
+
+    public static final String NAME = "com.example.mySpringApi.BulkJob";
+
+    @Label("Job")
+    public String job;
+
+    @Label("Requested")
+    @Description("Number of items the job was asked to process, or -1 when it processes everything")
+    public int requested = -1;
+
+    @Label("Processed")
+    public int processed;
+
+    @Label("Outcome")
+    @Description("\"success\", or the simple name of the exception that ended the job")
+    public String outcome = "success";
+
+    /**
+     * Starts timing a job.
+     *
+     * @param job The name of the job.
+     * @return The begun event.
+     */
+    public static BulkJobEvent start(String job) {
+        BulkJobEvent event = new BulkJobEvent();
+        event.job = job;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends the event and commits it if a recording has it enabled.
+     *
+     * @param failure The exception that ended the job, or null if it succeeded.
+     */
+    public void finish(Throwable failure) {
+        end();
+        if (shouldCommit()) {
+            if (failure != null) {
+                outcome = failure.getClass().getSimpleName();
+            }
+            commit();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.mySpringApi.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event marking one cache lookup, hit or miss.
+ * <p>
+ * The event is instantaneous. It is emitted on the hot read path, so it can be switched off in a recording
+ * with {@code app.flight-recorder.cache-events}; when no recording enables it, {@link #emit} costs one check.
+ */
+@Name(CacheAccessEvent.NAME)
+@Label("Cache Access")
+@Category({"User Management System", "Cache"})
+@Description("A cache lookup")
+@StackTrace(false)
+public class CacheAccessEvent extends jdk.jfr.Event {
+
+    public static final String NAME = "com.example.mySpringApi.CacheAccess";
+
+    @Label("Cache")
+    public String cache;
+
+    @Label("Key")
+    public int key;
+
+    @Label("Hit")
+    public boolean hit;
+
+    /**
+     * Records a lookup if a recording has the event enabled.
+     *
+     * @param cache The name of the cache.
+     * @param key   The key looked up.
+     * @param hit   Whether the value was served from the cache.
+     */
+    public static void emit(String cache, int key, boolean hit) {
+        CacheAccessEvent event = new CacheAccessEvent();
+        if (event.shouldCommit()) {
+            event.cache = cache;
+            event.key = key;
+            event.hit = hit;
+            event.commit();
+        }
+    }
+}
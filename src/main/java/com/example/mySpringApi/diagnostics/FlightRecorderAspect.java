@@ -0,0 +1,57 @@
+package com.example.mySpringApi.diagnostics;
+
+import com.example.mySpringApi.model.User;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * FlightRecorderAspect emits a {@link UserOperationEvent} around every user create, update and delete made
+ * through the UserService.
+ * <p>
+ * The aspect is always registered. Without a recording that enables the event, each call costs one extra
+ * advice invocation and one check; the event object does not escape and is not allocated once compiled.
+ */
+@Aspect
+@Component
+public class FlightRecorderAspect {
+
+    @Around("execution(* com.example.mySpringApi.service.UserService.createUser(..)) && args(user)")
+    public Object recordCreate(ProceedingJoinPoint joinPoint, User user) throws Throwable {
+        return record(joinPoint, "create", user.getId());
+    }
+
+    @Around("execution(* com.example.mySpringApi.service.UserService.updateUser(..)) && args(user)")
+    public Object recordUpdate(ProceedingJoinPoint joinPoint, User user) throws Throwable {
+        return record(joinPoint, "update", user.getId());
+    }
+
+    @Around("execution(* com.example.mySpringApi.service.UserService.deleteUser(..)) && args(id)")
+    public Object recordDelete(ProceedingJoinPoint joinPoint, int id) throws Throwable {
+        return record(joinPoint, "delete", id);
+    }
+
+    private static Object record(ProceedingJoinPoint joinPoint, String operation, int userId) throws Throwable {
+        UserOperationEvent event = new UserOperationEvent();
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+        event.operation = operation;
+        event.userId = userId;
+        event.begin();
+        try {
+            Object result = joinPoint.proceed();
+            if (result instanceof User saved) {
+                event.userId = saved.getId();
+            }
+            event.outcome = "success";
+            return result;
+        } catch (Throwable failure) {
+            event.outcome = failure.getClass().getSimpleName();
+            throw failure;
+        } finally {
+            event.commit();
+        }
+    }
+}
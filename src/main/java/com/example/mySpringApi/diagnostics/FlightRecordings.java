@@ -0,0 +1,149 @@
+package com.example.mySpringApi.diagnostics;
+
+import com.example.mySpringApi.config.FlightRecorderProperties;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * FlightRecordings manages the one on-demand Flight Recorder recording of the application.
+ * <p>
+ * A recording is started with the JDK settings named by {@code app.flight-recorder.settings} and with every
+ * application event enabled: {@link UserOperationEvent}, {@link AuthenticationEvent}, {@link BulkJobEvent} and,
+ * unless disabled, {@link CacheAccessEvent}. It keeps at most {@code max-age} and {@code max-size} of data, and
+ * can be dumped while running or after it has stopped. Starting a new recording closes the previous one.
+ * <p>
+ * Only active when {@code app.flight-recorder.enabled} is true. The events themselves are emitted regardless,
+ * so a recording started with {@code -XX:StartFlightRecording} or jcmd also contains them.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.flight-recorder", name = "enabled", havingValue = "true")
+@Slf4j
+public class FlightRecordings implements DisposableBean {
+
+    private final FlightRecorderProperties properties;
+    private Recording recording;
+
+    /**
+     * Constructs the recording manager.
+     *
+     * @param properties The recording configuration.
+     */
+    public FlightRecordings(FlightRecorderProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * Starts a new recording, unless one is running.
+     *
+     * @param duration How long to record before stopping automatically, or null to record until stopped.
+     * @return The status of the started recording, or empty if a recording is already running.
+     * @throws IOException    If the settings file cannot be read.
+     * @throws ParseException If the settings file is not a valid .jfc file.
+     */
+    public synchronized Optional<RecordingStatus> start(Duration duration) throws IOException, ParseException {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            return Optional.empty();
+        }
+        close();
+
+        Recording started = new Recording(configuration());
+        started.setName("user-management-system");
+        started.setToDisk(true);
+        started.setMaxAge(properties.getMaxAge());
+        started.setMaxSize(properties.getMaxSize().toBytes());
+        started.setDuration(duration);
+        started.enable(UserOperationEvent.class);
+        started.enable(AuthenticationEvent.class);
+        started.enable(BulkJobEvent.class);
+        if (properties.isCacheEvents()) {
+            started.enable(CacheAccessEvent.class);
+        } else {
+            started.disable(CacheAccessEvent.class);
+        }
+        started.start();
+        recording = started;
+        log.info("Flight recording {} started with settings {}, duration {}", started.getId(),
+                properties.getSettings(), duration == null ? "unlimited" : duration);
+        return Optional.of(status(started));
+    }
+
+    /**
+     * Stops the running recording. Its data can still be dumped until the next recording is started.
+     *
+     * @return The status of the stopped recording, or empty if no recording is running.
+     */
+    public synchronized Optional<RecordingStatus> stop() {
+        if (recording == null || recording.getState() != RecordingState.RUNNING) {
+            return Optional.empty();
+        }
+        recording.stop();
+        log.info("Flight recording {} stopped, {} bytes recorded", recording.getId(), recording.getSize());
+        return Optional.of(status(recording));
+    }
+
+    /**
+     * @return The status of the current recording, running or stopped, or empty if there is none.
+     */
+    public synchronized Optional<RecordingStatus> status() {
+        return Optional.ofNullable(recording).map(this::status);
+    }
+
+    /**
+     * Writes the data of the current recording, running or stopped, to a new temporary file.
+     * The caller owns the file and must delete it.
+     *
+     * @return The path of the .jfr file, or empty if there is no recording to dump.
+     * @throws IOException If the file cannot be written.
+     */
+    public synchronized Optional<Path> dump() throws IOException {
+        if (recording == null || !(recording.getState() == RecordingState.RUNNING
+                || recording.getState() == RecordingState.STOPPED)) {
+            return Optional.empty();
+        }
+        Path file = Files.createTempFile("user-management-system-", ".jfr");
+        try {
+            recording.dump(file);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+        log.info("Flight recording {} dumped to {} ({} bytes)", recording.getId(), file, Files.size(file));
+        return Optional.of(file);
+    }
+
+    @Override
+    public synchronized void destroy() {
+        close();
+    }
+
+    private void close() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    private Configuration configuration() throws IOException, ParseException {
+        String settings = properties.getSettings();
+        if (settings.endsWith(".jfc")) {
+            return Configuration.create(Path.of(settings));
+        }
+        return Configuration.getConfiguration(settings);
+    }
+
+    private RecordingStatus status(Recording recording) {
+        return RecordingStatus.of(recording, properties.getSettings());
+    }
+}
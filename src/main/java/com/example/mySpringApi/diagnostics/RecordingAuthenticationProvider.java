@@ -0,0 +1,93 @@
+package com.example.mySpringApi.diagnostics;
+
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * RecordingAuthenticationProvider authenticates usernames and passwords exactly like a DaoAuthenticationProvider,
+ * and emits an {@link AuthenticationEvent} for each attempt.
+ * <p>
+ * The password check of the wrapped provider goes through an encoder that adds its duration to the event of the
+ * current thread, which gives the hash time of the attempt. Rejected users that do not exist still get a hash
+ * time, since DaoAuthenticationProvider hashes a dummy password to hide their absence.
+ */
+public class RecordingAuthenticationProvider implements AuthenticationProvider {
+
+    private final ThreadLocal<AuthenticationEvent> current = new ThreadLocal<>();
+    private final DaoAuthenticationProvider delegate = new DaoAuthenticationProvider();
+
+    /**
+     * @param userDetailsService The service loading users by username.
+     * @param passwordEncoder    The encoder verifying passwords.
+     */
+    public RecordingAuthenticationProvider(UserDetailsService userDetailsService, PasswordEncoder passwordEncoder) {
+        delegate.setUserDetailsService(userDetailsService);
+        delegate.setPasswordEncoder(new HashTimer(passwordEncoder));
+    }
+
+    @Override
+    public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+        AuthenticationEvent event = new AuthenticationEvent();
+        if (!event.isEnabled()) {
+            return delegate.authenticate(authentication);
+        }
+        event.begin();
+        current.set(event);
+        try {
+            Authentication result = delegate.authenticate(authentication);
+            event.outcome = "success";
+            return result;
+        } catch (AuthenticationException e) {
+            event.outcome = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            current.remove();
+            event.commit();
+        }
+    }
+
+    @Override
+    public boolean supports(Class<?> authentication) {
+        return delegate.supports(authentication);
+    }
+
+    /**
+     * Forwards to the configured encoder, adding the time spent in {@code matches} to the current event.
+     */
+    private final class HashTimer implements PasswordEncoder {
+
+        private final PasswordEncoder encoder;
+
+        private HashTimer(PasswordEncoder encoder) {
+            this.encoder = encoder;
+        }
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return encoder.encode(rawPassword);
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            AuthenticationEvent event = current.get();
+            if (event == null) {
+                return encoder.matches(rawPassword, encodedPassword);
+            }
+            long start = System.nanoTime();
+            try {
+                return encoder.matches(rawPassword, encodedPassword);
+            } finally {
+                event.hashTime += System.nanoTime() - start;
+            }
+        }
+
+        @Override
+        public boolean upgradeEncoding(String encodedPassword) {
+            return encoder.upgradeEncoding(encodedPassword);
+        }
+    }
+}
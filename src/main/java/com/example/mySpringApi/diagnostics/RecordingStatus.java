@@ -0,0 +1,26 @@
+package com.example.mySpringApi.diagnostics;
+
+import jdk.jfr.Recording;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * The state of an on-demand flight recording, as returned by the admin endpoints.
+ *
+ * @param id        The JFR recording ID.
+ * @param state     NEW, DELAYED, RUNNING, STOPPED or CLOSED.
+ * @param settings  The settings the recording was started with.
+ * @param startTime When the recording started, or null if it has not.
+ * @param stopTime  When the recording stopped, or null if it is still running.
+ * @param duration  The fixed duration of the recording, or null if it runs until stopped.
+ * @param sizeBytes The amount of data recorded so far.
+ */
+public record RecordingStatus(long id, String state, String settings, Instant startTime, Instant stopTime,
+                              Duration duration, long sizeBytes) {
+
+    static RecordingStatus of(Recording recording, String settings) {
+        return new RecordingStatus(recording.getId(), recording.getState().name(), settings,
+                recording.getStartTime(), recording.getStopTime(), recording.getDuration(), recording.getSize());
+    }
+}
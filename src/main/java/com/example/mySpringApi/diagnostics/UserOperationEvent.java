@@ -0,0 +1,36 @@
+package com.example.mySpringApi.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event spanning a user create, update or delete made through the UserService.
+ * <p>
+ * The event duration covers validation, the queries and the password hashing done by the operation, so GC pauses
+ * and lock waits recorded in the same interval can be attributed to it.
+ *
+ * @see FlightRecorderAspect
+ */
+@Name(UserOperationEvent.NAME)
+@Label("User Operation")
+@Category({"User Management System", "Users"})
+@Description("A user create, update or delete")
+@StackTrace(false)
+public class UserOperationEvent extends jdk.jfr.Event {
+
+    public static final String NAME = "com.example.mySpringApi.UserOperation";
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("User ID")
+    @Description("The ID of the affected user, or 0 when a create failed before an ID was assigned")
+    public int userId;
+
+    @Label("Outcome")
+    @Description("\"success\", or the simple name of the exception that ended the operation")
+    public String outcome;
+}
@@ -0,0 +1,107 @@
+package com.example.mySpringApi.diagnostics;
+
+import com.example.mySpringApi.config.ExecutionProperties;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Reports virtual threads that pin their carrier thread while running in the VIRTUAL execution mode.
+ * <p>
+ * A virtual thread that blocks inside a {@code synchronized} block or a native frame cannot unmount, so it holds
+ * its carrier thread for the whole wait. JDBC drivers and connection pools that guard I/O with monitors are
+ * common causes, and enough of them can starve the carrier pool. This monitor subscribes to the JDK's
+ * {@code jdk.VirtualThreadPinned} Flight Recorder event in-process and logs each occurrence that exceeds
+ * {@code app.execution.pinning-threshold}, with the frames that caused it. Every occurrence, logged or not, is
+ * counted in the {@code jvm.threads.virtual.pinned} counter.
+ * <p>
+ * Only active when {@code app.execution.mode} is {@code virtual} and {@code app.execution.pinning-detection} is true.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.execution", name = "mode", havingValue = "virtual")
+@Slf4j
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int MAX_FRAMES = 12;
+
+    private final ExecutionProperties properties;
+    private final AtomicLong pinnedCount = new AtomicLong();
+    private volatile RecordingStream stream;
+
+    /**
+     * Constructs the monitor and, when pinning detection is enabled, publishes the number of pinning events
+     * reported since startup as the {@code jvm.threads.virtual.pinned} counter.
+     *
+     * @param properties The execution configuration, providing the pinning threshold.
+     * @param registry   The registry to publish the counter to.
+     */
+    public VirtualThreadPinningMonitor(ExecutionProperties properties, MeterRegistry registry) {
+        this.properties = properties;
+        if (properties.isPinningDetection()) {
+            FunctionCounter.builder("jvm.threads.virtual.pinned", pinnedCount, AtomicLong::get)
+                    .description("Virtual threads that pinned their carrier for longer than the pinning threshold")
+                    .register(registry);
+        }
+    }
+
+    @Override
+    public void start() {
+        if (!properties.isPinningDetection()) {
+            return;
+        }
+        RecordingStream recording = new RecordingStream();
+        recording.enable(PINNED_EVENT).withThreshold(properties.getPinningThreshold()).withStackTrace();
+        recording.onEvent(PINNED_EVENT, this::report);
+        recording.startAsync();
+        stream = recording;
+        log.info("Virtual thread pinning detection started (threshold {})", properties.getPinningThreshold());
+    }
+
+    @Override
+    public void stop() {
+        RecordingStream recording = stream;
+        stream = null;
+        if (recording != null) {
+            recording.close();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    private void report(RecordedEvent event) {
+        pinnedCount.incrementAndGet();
+        if (!log.isWarnEnabled()) {
+            return;
+        }
+        StringBuilder frames = new StringBuilder();
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        if (stackTrace != null) {
+            List<RecordedFrame> recordedFrames = stackTrace.getFrames();
+            for (int i = 0; i < Math.min(MAX_FRAMES, recordedFrames.size()); i++) {
+                RecordedFrame frame = recordedFrames.get(i);
+                frames.append("\n\tat ")
+                        .append(frame.getMethod().getType().getName())
+                        .append('.')
+                        .append(frame.getMethod().getName())
+                        .append(':')
+                        .append(frame.getLineNumber());
+            }
+        }
+        log.warn("Virtual thread pinned its carrier for {} ms on {}{}",
+                event.getDuration().toMillis(), event.getThread() == null ? "?" : event.getThread().getJavaName(), frames);
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.mySpringApi.event;
+
+/**
+ * Application event published by the UserService whenever a user is created, updated or deleted.
+ * <p>
+ * Components that hold derived state about a user, such as cached responses, listen for this event
+ * to discard that state. Listeners that must observe committed data should use
+ * {@code @TransactionalEventListener} rather than {@code @EventListener}.
+ *
+ * @param userId The ID of the user that changed.
+ * @param type   The kind of change that was applied.
+ */
+public record UserChangedEvent(int userId, Type type) {
+
+    /**
+     * The kind of change applied to a user.
+     */
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+}
@@ -17,4 +17,14 @@ public class InvalidUserInputException extends UserException {
     public InvalidUserInputException(String message) {
         super(message, HttpStatus.BAD_REQUEST);
     }
-}
\ No newline at end of file
+
+    /**
+     * Constructor for creating a new InvalidUserInputException that captures a stack trace or not.
+     *
+     * @param message            The detail message.
+     * @param writableStackTrace Whether the exception captures a stack trace.
+     */
+    public InvalidUserInputException(String message, boolean writableStackTrace) {
+        super(message, null, HttpStatus.BAD_REQUEST, writableStackTrace);
+    }
+}
@@ -21,4 +21,14 @@ public class UserAlreadyExistsException extends UserException {
     public UserAlreadyExistsException(String message, Throwable cause) {
         super(message, cause, HttpStatus.CONFLICT);
     }
+
+    /**
+     * Constructor for creating a new UserAlreadyExistsException that captures a stack trace or not.
+     *
+     * @param message            The detail message.
+     * @param writableStackTrace Whether the exception captures a stack trace.
+     */
+    public UserAlreadyExistsException(String message, boolean writableStackTrace) {
+        super(message, null, HttpStatus.CONFLICT, writableStackTrace);
+    }
 }
@@ -7,7 +7,12 @@ import org.springframework.http.HttpStatus;
  * This class is a part of the exception handling framework for the application.
  * It contains information about the error including a message,
  * the exception that caused this exception to be thrown, and the associated HTTP status code.
- *
+ * <p>
+ * UserExceptions describe expected client errors, such as a lookup of an unknown user, so by default they do not
+ * capture a stack trace: filling it in walks the whole call stack on every throw, and the trace only ever points
+ * at the service method that threw. Whether an exception captures one is decided when it is created; the
+ * {@link UserExceptionFactory} creates them as {@code app.errors.capture-stack-traces} says. An exception created
+ * with a cause keeps the cause's own stack trace either way.
  */
 public class UserException extends RuntimeException {
 
@@ -20,8 +25,7 @@ public class UserException extends RuntimeException {
      * @param httpStatus The HTTP status code that is suitable for this exception (which is saved for later retrieval by the getHttpStatus() method).
      */
     public UserException(String message, HttpStatus httpStatus) {
-        super(message);
-        this.httpStatus = httpStatus;
+        this(message, null, httpStatus, false);
     }
 
     /**
@@ -35,7 +39,19 @@ public class UserException extends RuntimeException {
      * @param httpStatus The HTTP status code associated with this exception, which is saved for later retrieval by the getHttpStatus() method.
      */
     public UserException(String message, Throwable cause, HttpStatus httpStatus) {
-        super(message, cause);
+        this(message, cause, httpStatus, false);
+    }
+
+    /**
+     * Constructs a new UserException that captures a stack trace or not.
+     *
+     * @param message            The detail message.
+     * @param cause              The root cause of this exception, or null.
+     * @param httpStatus         The HTTP status code associated with this exception.
+     * @param writableStackTrace Whether the exception captures a stack trace.
+     */
+    public UserException(String message, Throwable cause, HttpStatus httpStatus, boolean writableStackTrace) {
+        super(message, cause, true, writableStackTrace);
         this.httpStatus = httpStatus;
     }
 
@@ -0,0 +1,79 @@
+package com.example.mySpringApi.exception;
+
+import com.example.mySpringApi.config.ErrorHandlingProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * UserExceptionFactory creates the UserExceptions thrown by the application's beans, capturing stack traces only
+ * when {@code app.errors.capture-stack-traces} is true.
+ * <p>
+ * The setting belongs to the application context that created the factory, so contexts with different settings,
+ * such as test contexts sharing a JVM, do not affect each other. Exceptions created with their short constructors,
+ * outside the beans, are always stackless.
+ */
+@Component
+@Slf4j
+public class UserExceptionFactory {
+
+    private final boolean captureStackTraces;
+
+    /**
+     * Constructs the factory from the configuration. The properties are optional so that web slice tests, which do
+     * not bind configuration properties, get the defaults.
+     *
+     * @param properties The client error handling configuration.
+     */
+    @Autowired
+    public UserExceptionFactory(ObjectProvider<ErrorHandlingProperties> properties) {
+        this(properties.getIfAvailable(ErrorHandlingProperties::new).isCaptureStackTraces());
+        log.info("UserException stack trace capture {}", captureStackTraces ? "enabled" : "disabled");
+    }
+
+    /**
+     * @param captureStackTraces Whether the exceptions capture a stack trace.
+     */
+    public UserExceptionFactory(boolean captureStackTraces) {
+        this.captureStackTraces = captureStackTraces;
+    }
+
+    /**
+     * @return A UserNotFoundException with the default message.
+     */
+    public UserNotFoundException notFound() {
+        return notFound("User not found");
+    }
+
+    /**
+     * @param message The detail message.
+     * @return A UserNotFoundException.
+     */
+    public UserNotFoundException notFound(String message) {
+        return new UserNotFoundException(message, captureStackTraces);
+    }
+
+    /**
+     * @param message The detail message.
+     * @return A UserAlreadyExistsException.
+     */
+    public UserAlreadyExistsException alreadyExists(String message) {
+        return new UserAlreadyExistsException(message, captureStackTraces);
+    }
+
+    /**
+     * @param message The detail message.
+     * @return An InvalidUserInputException.
+     */
+    public InvalidUserInputException invalidInput(String message) {
+        return new InvalidUserInputException(message, captureStackTraces);
+    }
+
+    /**
+     * @return true if the created exceptions capture a stack trace.
+     */
+    public boolean isCaptureStackTraces() {
+        return captureStackTraces;
+    }
+}
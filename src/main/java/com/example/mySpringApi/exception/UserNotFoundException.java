@@ -34,4 +34,14 @@ UserNotFoundException extends UserException {
     public UserNotFoundException(String customMessage) {
         super(customMessage, HttpStatus.NOT_FOUND);
     }
+
+    /**
+     * Constructs a new UserNotFoundException with a custom detail message, capturing a stack trace or not.
+     *
+     * @param customMessage      the detail message of the exception
+     * @param writableStackTrace whether the exception captures a stack trace
+     */
+    public UserNotFoundException(String customMessage, boolean writableStackTrace) {
+        super(customMessage, null, HttpStatus.NOT_FOUND, writableStackTrace);
+    }
 }
@@ -0,0 +1,14 @@
+package com.example.mySpringApi.fixtures;
+
+import java.util.Set;
+
+/**
+ * One user produced by the {@link UserFixtureGenerator}.
+ *
+ * @param name  The full name.
+ * @param email The email address, unique across every user of a generator.
+ * @param age   The age, from 18 to 90.
+ * @param roles The names of the user's roles.
+ */
+public record SyntheticUser(String name, String email, int age, Set<String> roles) {
+}
@@ -0,0 +1,114 @@
+package com.example.mySpringApi.fixtures;
+
+import java.util.Locale;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * UserFixtureGenerator produces synthetic users with realistic distributions, for performance tests on large
+ * datasets.
+ * <ul>
+ *     <li>Names: first and last names are drawn from Zipf distributions, so a few names are very common and most
+ *     are rare, as in real user tables. This skew matters for name-based lookups and index selectivity.</li>
+ *     <li>Emails: {@code first.last.<index>@domain}, with the domain drawn from a weighted list dominated by large
+ *     webmail providers. The index makes every email unique.</li>
+ *     <li>Ages: normally distributed around 38 with a standard deviation of 14, clipped to 18 to 90.</li>
+ *     <li>Roles: 98.5% USER, 1% USER and ADMIN, 0.5% ADMIN only.</li>
+ * </ul>
+ * Generation is deterministic: user {@code index} of a generator with a given seed is always the same, whatever
+ * range it is generated in. Ranges can therefore be generated in chunks, in parallel, or resumed.
+ */
+public class UserFixtureGenerator {
+
+    private static final String[] FIRST_NAMES = {
+            "James", "Mary", "John", "Patricia", "Robert", "Jennifer", "Michael", "Linda", "David", "Elizabeth",
+            "William", "Barbara", "Richard", "Susan", "Joseph", "Jessica", "Thomas", "Sarah", "Charles", "Karen",
+            "Daniel", "Lisa", "Matthew", "Nancy", "Anthony", "Sandra", "Mark", "Ashley", "Steven", "Emily",
+            "Paul", "Michelle", "Andrew", "Amanda", "Joshua", "Melissa", "Kevin", "Stephanie", "Brian", "Rebecca",
+            "Wei", "Yuki", "Priya", "Mohammed", "Fatima", "Olga", "Sven", "Ingrid", "Mateo", "Lucia",
+            "Chidi", "Amara", "Kenji", "Aiko", "Arjun", "Ananya", "Omar", "Leila", "Luca", "Giulia"};
+
+    private static final String[] LAST_NAMES = {
+            "Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller", "Davis", "Rodriguez", "Martinez",
+            "Hernandez", "Lopez", "Gonzalez", "Wilson", "Anderson", "Thomas", "Taylor", "Moore", "Jackson", "Martin",
+            "Lee", "Perez", "Thompson", "White", "Harris", "Sanchez", "Clark", "Ramirez", "Lewis", "Robinson",
+            "Walker", "Young", "Allen", "King", "Wright", "Scott", "Torres", "Nguyen", "Hill", "Flores",
+            "Wang", "Li", "Zhang", "Chen", "Kim", "Park", "Sato", "Suzuki", "Patel", "Singh",
+            "Kumar", "Ivanov", "Novak", "Muller", "Schmidt", "Rossi", "Silva", "Okafor", "Haddad", "Nielsen"};
+
+    private static final String[] DOMAINS = {
+            "gmail.com", "yahoo.com", "outlook.com", "hotmail.com", "icloud.com", "proton.me", "aol.com",
+            "example.com", "example.org", "example.net"};
+    private static final double[] DOMAIN_WEIGHTS = {38, 12, 10, 8, 7, 3, 2, 10, 6, 4};
+
+    private static final Set<String> USER = Set.of("USER");
+    private static final Set<String> USER_AND_ADMIN = Set.of("USER", "ADMIN");
+    private static final Set<String> ADMIN = Set.of("ADMIN");
+
+    private final long seed;
+    private final double[] firstNameCdf = zipfCdf(FIRST_NAMES.length, 1.1);
+    private final double[] lastNameCdf = zipfCdf(LAST_NAMES.length, 0.9);
+    private final double[] domainCdf = cdf(DOMAIN_WEIGHTS);
+
+    /**
+     * @param seed The seed; generators with the same seed produce the same users.
+     */
+    public UserFixtureGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * @param index The position of the user, from 0.
+     * @return The user at that position.
+     */
+    public SyntheticUser generate(long index) {
+        SplittableRandom random = new SplittableRandom(seed * 0x9E3779B97F4A7C15L + index);
+        String first = FIRST_NAMES[pick(firstNameCdf, random.nextDouble())];
+        String last = LAST_NAMES[pick(lastNameCdf, random.nextDouble())];
+        String domain = DOMAINS[pick(domainCdf, random.nextDouble())];
+        int age = (int) Math.round(Math.max(18, Math.min(90, 38 + 14 * random.nextGaussian())));
+
+        double roleDraw = random.nextDouble();
+        Set<String> roles = roleDraw < 0.005 ? ADMIN : roleDraw < 0.015 ? USER_AND_ADMIN : USER;
+
+        String email = first.toLowerCase(Locale.ROOT) + "." + last.toLowerCase(Locale.ROOT) + "." + index + "@" + domain;
+        return new SyntheticUser(first + " " + last, email, age, roles);
+    }
+
+    private static int pick(double[] cdf, double draw) {
+        int low = 0;
+        int high = cdf.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (cdf[mid] < draw) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static double[] zipfCdf(int size, double exponent) {
+        double[] weights = new double[size];
+        for (int rank = 1; rank <= size; rank++) {
+            weights[rank - 1] = 1 / Math.pow(rank, exponent);
+        }
+        return cdf(weights);
+    }
+
+    private static double[] cdf(double[] weights) {
+        double total = 0;
+        for (double weight : weights) {
+            total += weight;
+        }
+        double[] cdf = new double[weights.length];
+        double sum = 0;
+        for (int i = 0; i < weights.length; i++) {
+            sum += weights[i];
+            cdf[i] = sum / total;
+        }
+        cdf[cdf.length - 1] = 1;
+        return cdf;
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.mySpringApi.fixtures;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * UserFixtureLoader inserts synthetic users straight into the user and role tables with batched JDBC statements,
+ * bypassing JPA and the PasswordEncoder.
+ * <p>
+ * Every user of a chunk is inserted with one batched statement, whose generated keys give the user IDs, followed by
+ * one batched statement for their roles. All users share one password hash, computed once by the caller, so loading
+ * does not cost a BCrypt hash per user. On MySQL, set {@code rewriteBatchedStatements=true} on the JDBC URL so each
+ * batch is sent as multi-row inserts.
+ * <p>
+ * {@link #load} commits each chunk in its own transaction, or joins the caller's transaction if there is one, as in
+ * a test. The roles must already exist.
+ */
+@Component
+@Slf4j
+public class UserFixtureLoader {
+
+    private static final String INSERT_USER = "insert into user_info (name, email, age, password) values (?, ?, ?, ?)";
+    private static final String INSERT_ROLE = "insert into user_roles (user_id, role_id) values (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    // Construct Injection
+    @Autowired
+    public UserFixtureLoader(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Inserts the users {@code from} to {@code from + count - 1} of a generator, in chunks of {@code batchSize}.
+     *
+     * @param generator    The generator producing the users.
+     * @param from         The index of the first user.
+     * @param count        The number of users.
+     * @param batchSize    The number of users per chunk, inserted with one batch and committed together.
+     * @param passwordHash The encoded password given to every user.
+     * @return The number of users inserted.
+     */
+    public long load(UserFixtureGenerator generator, long from, long count, int batchSize, String passwordHash) {
+        long start = System.nanoTime();
+        long inserted = 0;
+        long nextReport = count / 10;
+        while (inserted < count) {
+            int chunk = (int) Math.min(batchSize, count - inserted);
+            long chunkStart = from + inserted;
+            transactionTemplate.executeWithoutResult(status -> insert(generator, chunkStart, chunk, passwordHash));
+            inserted += chunk;
+            if (inserted >= nextReport && inserted < count) {
+                log.info("Loaded {} of {} fixture users", inserted, count);
+                nextReport += count / 10;
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        log.info("Loaded {} fixture users in {} s ({} users/s)", inserted, String.format("%.1f", seconds),
+                Math.round(inserted / Math.max(seconds, 1e-9)));
+        return inserted;
+    }
+
+    /**
+     * Inserts the users {@code from} to {@code from + count - 1} of a generator as one chunk.
+     *
+     * @param generator    The generator producing the users.
+     * @param from         The index of the first user.
+     * @param count        The number of users.
+     * @param passwordHash The encoded password given to every user.
+     * @return The number of users inserted.
+     * @throws IllegalStateException If a role of a generated user does not exist, or if the driver does not return
+     *                               the generated key of every user, which would leave their roles unassigned.
+     */
+    public int insert(UserFixtureGenerator generator, long from, int count, String passwordHash) {
+        Map<String, Integer> roleIds = roleIds();
+        return jdbcTemplate.execute((ConnectionCallback<Integer>) connection -> {
+            List<SyntheticUser> users = new ArrayList<>(count);
+            for (long index = from; index < from + count; index++) {
+                users.add(generator.generate(index));
+            }
+
+            int[] ids = new int[count];
+            try (PreparedStatement insertUsers = connection.prepareStatement(INSERT_USER, new String[]{"id"})) {
+                for (SyntheticUser user : users) {
+                    insertUsers.setString(1, user.name());
+                    insertUsers.setString(2, user.email());
+                    insertUsers.setInt(3, user.age());
+                    insertUsers.setString(4, passwordHash);
+                    insertUsers.addBatch();
+                }
+                insertUsers.executeBatch();
+                int returned = 0;
+                try (ResultSet keys = insertUsers.getGeneratedKeys()) {
+                    while (returned < count && keys.next()) {
+                        ids[returned++] = keys.getInt(1);
+                    }
+                }
+                if (returned < count) {
+                    throw new IllegalStateException("The driver returned " + returned + " generated keys for "
+                            + count + " inserted users");
+                }
+            }
+
+            try (PreparedStatement insertRoles = connection.prepareStatement(INSERT_ROLE)) {
+                for (int i = 0; i < count; i++) {
+                    for (String role : users.get(i).roles()) {
+                        Integer roleId = roleIds.get(role);
+                        if (roleId == null) {
+                            throw new IllegalStateException("Role " + role + " does not exist");
+                        }
+                        insertRoles.setInt(1, ids[i]);
+                        insertRoles.setInt(2, roleId);
+                        insertRoles.addBatch();
+                    }
+                }
+                insertRoles.executeBatch();
+            }
+            return count;
+        });
+    }
+
+    /**
+     * @param generator The generator.
+     * @param index     The index of a user.
+     * @return true if the user at that index has already been inserted, which is recognized by its unique email.
+     */
+    public boolean exists(UserFixtureGenerator generator, long index) {
+        Integer matches = jdbcTemplate.queryForObject("select count(*) from user_info where email = ?", Integer.class,
+                generator.generate(index).email());
+        return matches != null && matches > 0;
+    }
+
+    private Map<String, Integer> roleIds() {
+        Map<String, Integer> ids = new HashMap<>();
+        jdbcTemplate.query("select id, name from role", row -> {
+            ids.put(row.getString("name"), row.getInt("id"));
+        });
+        return ids;
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.mySpringApi.logging;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * RequestLogFilter gives every request a request ID and logs one line per completed request.
+ * <p>
+ * The request ID is taken from the {@code X-Request-Id} header when the caller sends a well-formed one, and
+ * generated otherwise. It is echoed in the response header and kept in the MDC under {@code requestId} while
+ * the request is handled, so every log line written on its behalf carries it. {@link UserMdcFilter} adds the
+ * authenticated user's ID under {@code userId} further down the chain.
+ * <p>
+ * The completion line reports method, path, status and latency (in microseconds) in key=value form. It runs outside the security
+ * filter chain, so the latency includes authentication. For async requests, the line is written when the async
+ * processing completes.
+ */
+@Slf4j
+public class RequestLogFilter extends OncePerRequestFilter {
+
+    public static final String REQUEST_ID_HEADER = "X-Request-Id";
+    public static final String REQUEST_ID = "requestId";
+    public static final String USER_ID = "userId";
+
+    private static final int MAX_REQUEST_ID_LENGTH = 64;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String requestId = requestId(request.getHeader(REQUEST_ID_HEADER));
+        MDC.put(REQUEST_ID, requestId);
+        response.setHeader(REQUEST_ID_HEADER, requestId);
+        long start = System.nanoTime();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new CompletionListener(requestId, MDC.get(USER_ID), start));
+            } else {
+                logCompletion(request, response, start);
+            }
+            MDC.remove(REQUEST_ID);
+            MDC.remove(USER_ID);
+        }
+    }
+
+    private static void logCompletion(HttpServletRequest request, HttpServletResponse response, long start) {
+        if (log.isInfoEnabled()) {
+            log.info("request method={} path={} status={} latencyUs={}",
+                    request.getMethod(), request.getRequestURI(), response.getStatus(),
+                    (System.nanoTime() - start) / 1_000);
+        }
+    }
+
+    /**
+     * Returns the caller's request ID if it is short and only uses letters, digits, '-', '_' and '.',
+     * so that it cannot inject content into log lines. Otherwise, returns a new random ID.
+     */
+    static String requestId(String header) {
+        if (header != null && !header.isEmpty() && header.length() <= MAX_REQUEST_ID_LENGTH) {
+            boolean valid = true;
+            for (int i = 0; i < header.length() && valid; i++) {
+                char c = header.charAt(i);
+                valid = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                        || c == '-' || c == '_' || c == '.';
+            }
+            if (valid) {
+                return header;
+            }
+        }
+        return Long.toHexString(ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Writes the completion line of an async request, on the thread that completes it.
+     */
+    private record CompletionListener(String requestId, String userId, long start) implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            MDC.put(REQUEST_ID, requestId);
+            if (userId != null) {
+                MDC.put(USER_ID, userId);
+            }
+            try {
+                logCompletion((HttpServletRequest) event.getSuppliedRequest(),
+                        (HttpServletResponse) event.getSuppliedResponse(), start);
+            } finally {
+                MDC.remove(REQUEST_ID);
+                MDC.remove(USER_ID);
+            }
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.mySpringApi.logging;
+
+import com.example.mySpringApi.service.UserAccountDetails;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * UserMdcFilter puts the authenticated user's numeric ID in the MDC under {@code userId}.
+ * <p>
+ * The ID comes from the {@link UserAccountDetails} principal, loaded once during authentication. The email, which
+ * is the username, is personal data and is never put in the MDC; an authentication with another principal, such as
+ * the warmup's synthetic one, leaves the field out.
+ * <p>
+ * It runs right after the Spring Security filter chain, once the request has been authenticated. The entry is
+ * left in place when the chain returns, so that the completion line of {@link RequestLogFilter}, which wraps the
+ * security chain, reports the user too. RequestLogFilter removes it.
+ */
+public class UserMdcFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)
+                && authentication.getPrincipal() instanceof UserAccountDetails account) {
+            MDC.put(RequestLogFilter.USER_ID, Integer.toString(account.getId()));
+        }
+        chain.doFilter(request, response);
+    }
+}
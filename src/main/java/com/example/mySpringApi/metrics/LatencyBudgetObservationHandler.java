@@ -0,0 +1,92 @@
+package com.example.mySpringApi.metrics;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * LatencyBudgetObservationHandler counts, per route, the requests that took longer than the route's latency
+ * budget.
+ * <p>
+ * It observes the same server request observations as {@code http.server.requests}, and its
+ * {@code http.server.requests.over.budget} counter carries the same {@code method} and {@code uri} tags, plus
+ * the {@code budget} in milliseconds. Dividing it by the request count gives the fraction of requests missing
+ * the SLO for each route.
+ * <p>
+ * Routes use the budget configured for their URI pattern, such as {@code /userAPI/id/{id}}, or the default budget.
+ */
+public class LatencyBudgetObservationHandler implements ObservationHandler<ServerRequestObservationContext> {
+
+    public static final String METRIC_NAME = "http.server.requests.over.budget";
+
+    private static final String START = LatencyBudgetObservationHandler.class.getName() + ".start";
+
+    private final MeterRegistry registry;
+    private final long defaultBudgetNanos;
+    private final Map<String, Duration> routeBudgets;
+    private final DefaultServerRequestObservationConvention convention = new DefaultServerRequestObservationConvention();
+    private final ConcurrentHashMap<KeyValues, Counter> counters = new ConcurrentHashMap<>();
+
+    /**
+     * @param registry      The registry the counters are registered in.
+     * @param defaultBudget The budget of routes without their own.
+     * @param routeBudgets  Budgets per URI pattern.
+     */
+    public LatencyBudgetObservationHandler(MeterRegistry registry, Duration defaultBudget, Map<String, Duration> routeBudgets) {
+        this.registry = registry;
+        this.defaultBudgetNanos = defaultBudget.toNanos();
+        this.routeBudgets = Map.copyOf(routeBudgets);
+    }
+
+    @Override
+    public void onStart(ServerRequestObservationContext context) {
+        context.put(START, System.nanoTime());
+    }
+
+    @Override
+    public void onStop(ServerRequestObservationContext context) {
+        Long start = context.get(START);
+        if (start == null) {
+            return;
+        }
+        long elapsed = System.nanoTime() - start;
+        if (elapsed <= defaultBudgetNanos && routeBudgets.isEmpty()) {
+            return;
+        }
+        KeyValue uri = convention.getLowCardinalityKeyValues(context).stream()
+                .filter(keyValue -> keyValue.getKey().equals("uri")).findFirst().orElse(null);
+        String pattern = uri == null ? "UNKNOWN" : uri.getValue();
+        Duration routeBudget = routeBudgets.get(pattern);
+        long budgetNanos = routeBudget == null ? defaultBudgetNanos : routeBudget.toNanos();
+        if (elapsed > budgetNanos) {
+            KeyValues tags = KeyValues.of(
+                    KeyValue.of("method", context.getCarrier().getMethod()),
+                    KeyValue.of("uri", pattern),
+                    KeyValue.of("budget", Long.toString(budgetNanos / 1_000_000) + "ms"));
+            counters.computeIfAbsent(tags, this::counter).increment();
+        }
+    }
+
+    @Override
+    public boolean supportsContext(Observation.Context context) {
+        return context instanceof ServerRequestObservationContext;
+    }
+
+    private Counter counter(KeyValues tags) {
+        Counter.Builder builder = Counter.builder(METRIC_NAME)
+                .description("Requests that took longer than the latency budget of their route");
+        for (KeyValue tag : tags) {
+            builder.tag(tag.getKey(), tag.getValue());
+        }
+        return builder.register(registry);
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.mySpringApi.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The JSON message converter used by Spring MVC, recording the time spent serializing each response body in
+ * the {@code http.server.response.serialization} timer.
+ * <p>
+ * This covers the ResponseHandler envelopes returned by the controllers, written straight to the response
+ * stream. Bodies served from the UserResponseBodyCache are already encoded and are not recorded.
+ */
+public class TimedJsonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    public static final String METRIC_NAME = "http.server.response.serialization";
+
+    private final Timer timer;
+
+    /**
+     * @param objectMapper The application's ObjectMapper.
+     * @param registry     The registry the timer is registered in.
+     */
+    public TimedJsonHttpMessageConverter(ObjectMapper objectMapper, MeterRegistry registry) {
+        super(objectMapper);
+        this.timer = Timer.builder(METRIC_NAME)
+                .description("Time spent serializing JSON response bodies")
+                .register(registry);
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        long start = System.nanoTime();
+        try {
+            super.writeInternal(object, type, outputMessage);
+        } finally {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+}
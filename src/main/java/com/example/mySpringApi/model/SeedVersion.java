@@ -0,0 +1,39 @@
+package com.example.mySpringApi.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * The SeedVersion entity records which version of the default data has been seeded into the database.
+ * It maps to the single row of the "seed_version" table, whose lock also serializes seeding across nodes.
+ *
+ * @see com.example.mySpringApi.seed.DefaultDataSeeder
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(name = "seed_version")
+public class SeedVersion {
+
+    /**
+     * ID of the only row.
+     */
+    public static final int ROW_ID = 1;
+
+    @Id
+    private int id;
+
+    private int version;
+
+    private LocalDateTime appliedAt;
+
+    public SeedVersion(int id, int version) {
+        this.id = id;
+        this.version = version;
+    }
+}
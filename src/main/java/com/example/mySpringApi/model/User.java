@@ -72,6 +72,15 @@ public class User {
         this.password = encoder.encode(rawPassword);
     }
 
+    /**
+     * Sets a password that has already been hashed, typically by the application's PasswordEncoder bean.
+     *
+     * @param passwordHash the encoded password
+     */
+    public void setPasswordHash(String passwordHash) {
+        this.password = passwordHash;
+    }
+
     /**
      * Helper method to represent the User object as a string. Excludes sensitive information such as password.
      *
@@ -0,0 +1,68 @@
+package com.example.mySpringApi.model;
+
+import com.example.mySpringApi.exception.InvalidUserInputException;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * The fields of a user that a client can select with the {@code fields} request parameter.
+ * <p>
+ * Each constant names the JSON property it produces and the User entity attribute it is read from.
+ * Requesting a sparse fieldset lets the repository select only those columns and skip the
+ * {@code user_roles} join unless {@link #ROLES} is requested.
+ */
+public enum UserField {
+    ID("id"),
+    NAME("name"),
+    EMAIL("email"),
+    AGE("age"),
+    ROLES("roles");
+
+    private final String jsonName;
+
+    UserField(String jsonName) {
+        this.jsonName = jsonName;
+    }
+
+    /**
+     * @return The property name used for this field in responses and in the {@code fields} parameter.
+     */
+    public String jsonName() {
+        return jsonName;
+    }
+
+    /**
+     * Parses a comma-separated list of field names such as {@code "id,email"}.
+     * <p>
+     * Names are matched case-insensitively and surrounding whitespace is ignored. The result keeps
+     * the declaration order of the constants, which is also the order of properties in the response.
+     *
+     * @param fields The comma-separated field names.
+     * @return The set of requested fields.
+     * @throws InvalidUserInputException If the list is empty or contains an unknown field name.
+     */
+    public static Set<UserField> parse(String fields) {
+        EnumSet<UserField> result = EnumSet.noneOf(UserField.class);
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            result.add(fromJsonName(trimmed));
+        }
+        if (result.isEmpty()) {
+            throw new InvalidUserInputException("At least one field must be requested.");
+        }
+        return result;
+    }
+
+    private static UserField fromJsonName(String name) {
+        for (UserField field : values()) {
+            if (field.jsonName.equalsIgnoreCase(name)) {
+                return field;
+            }
+        }
+        throw new InvalidUserInputException("Unknown field: " + name);
+    }
+}
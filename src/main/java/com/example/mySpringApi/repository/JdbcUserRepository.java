@@ -0,0 +1,87 @@
+package com.example.mySpringApi.repository;
+
+import com.example.mySpringApi.model.Role;
+import com.example.mySpringApi.model.User;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * JdbcUserRepository reads single users with plain JDBC, bypassing JPA and Hibernate.
+ * <p>
+ * Each lookup is one query joining user_info, user_roles and role, with one row per role. The rows are mapped by
+ * hand into a User snapshot and its Roles: plain objects that are not managed by any persistence context, so no
+ * entity is hydrated, registered or snapshotted for dirty checking. Changes made to a snapshot are never saved.
+ * <p>
+ * The repository is read-only and only covers the hottest lookups; everything else keeps going through the JPA
+ * {@link UserRepository}. Which of the two serves these lookups is decided by {@link UserLookup}.
+ */
+@Repository
+public class JdbcUserRepository {
+
+    private static final String SELECT = "select u.id, u.name, u.email, u.age, u.password,"
+            + " r.id as role_id, r.name as role_name"
+            + " from user_info u"
+            + " left join user_roles ur on ur.user_id = u.id"
+            + " left join role r on r.id = ur.role_id";
+
+    private static final ResultSetExtractor<Optional<User>> USER_WITH_ROLES = JdbcUserRepository::readUser;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // Construct Injection
+    @Autowired
+    public JdbcUserRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Finds a user by ID.
+     *
+     * @param id The ID of the user.
+     * @return The user with its roles, or an empty Optional if no user has this ID.
+     */
+    public Optional<User> findById(int id) {
+        return jdbcTemplate.query(SELECT + " where u.id = ?", USER_WITH_ROLES, id);
+    }
+
+    /**
+     * Finds a user by email.
+     *
+     * @param email The email of the user.
+     * @return The user with its roles, or an empty Optional if no user has this email.
+     */
+    public Optional<User> findByEmail(String email) {
+        return jdbcTemplate.query(SELECT + " where u.email = ?", USER_WITH_ROLES, email);
+    }
+
+    /**
+     * Folds the rows of one user, one per role, into a User. A user without roles has a single row with a null
+     * role.
+     */
+    private static Optional<User> readUser(ResultSet rs) throws SQLException {
+        if (!rs.next()) {
+            return Optional.empty();
+        }
+        User user = new User(rs.getString("name"), rs.getInt("age"), rs.getString("email"));
+        user.setId(rs.getInt("id"));
+        user.setPasswordHash(rs.getString("password"));
+
+        Set<Role> roles = new HashSet<>(4);
+        do {
+            String roleName = rs.getString("role_name");
+            if (roleName != null) {
+                roles.add(new Role(rs.getInt("role_id"), roleName));
+            }
+        } while (rs.next());
+        user.setRoles(roles);
+        return Optional.of(user);
+    }
+}
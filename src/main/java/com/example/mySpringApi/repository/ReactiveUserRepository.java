@@ -0,0 +1,110 @@
+package com.example.mySpringApi.repository;
+
+import com.example.mySpringApi.model.dto.UserResponseDTO;
+import io.r2dbc.spi.Readable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * ReactiveUserRepository reads users and their roles over R2DBC, without blocking the calling thread.
+ * <p>
+ * Each lookup is a single query joining user_info, user_roles and role, ordered by user ID, so that the
+ * rows of one user are adjacent. Adjacent rows are folded into one UserResponseDTO as they arrive. A user is
+ * emitted as soon as the first row of the next user is read, and rows are only pulled from the driver as the
+ * subscriber requests users, so listing all users never materializes the whole table in memory.
+ * <p>
+ * The repository is read-only; writes keep going through the JPA {@link UserRepository}.
+ */
+@Repository
+@ConditionalOnProperty(prefix = "app.reactive", name = "enabled", havingValue = "true")
+public class ReactiveUserRepository {
+
+    private static final String SELECT = "select u.id, u.name, u.email, u.age, r.name as role_name"
+            + " from user_info u"
+            + " left join user_roles ur on ur.user_id = u.id"
+            + " left join role r on r.id = ur.role_id";
+
+    private final DatabaseClient databaseClient;
+
+    // Construct Injection
+    @Autowired
+    public ReactiveUserRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    /**
+     * Finds a user by ID.
+     *
+     * @param id The ID of the user.
+     * @return A Mono emitting the user, or completing empty if no user has this ID.
+     */
+    public Mono<UserResponseDTO> findById(int id) {
+        return fold(databaseClient.sql(SELECT + " where u.id = :value")
+                .bind("value", id)
+                .map(ReactiveUserRepository::readRow)
+                .all()).next();
+    }
+
+    /**
+     * Finds a user by email.
+     *
+     * @param email The email of the user.
+     * @return A Mono emitting the user, or completing empty if no user has this email.
+     */
+    public Mono<UserResponseDTO> findByEmail(String email) {
+        return fold(databaseClient.sql(SELECT + " where u.email = :value")
+                .bind("value", email)
+                .map(ReactiveUserRepository::readRow)
+                .all()).next();
+    }
+
+    /**
+     * Streams every user in ID order.
+     *
+     * @return A Flux emitting one UserResponseDTO per user.
+     */
+    public Flux<UserResponseDTO> findAll() {
+        return fold(databaseClient.sql(SELECT + " order by u.id")
+                .map(ReactiveUserRepository::readRow)
+                .all());
+    }
+
+    private static Flux<UserResponseDTO> fold(Flux<UserRoleRow> rows) {
+        return rows.bufferUntilChanged(UserRoleRow::id).map(ReactiveUserRepository::toResponseDTO);
+    }
+
+    private static UserResponseDTO toResponseDTO(List<UserRoleRow> rows) {
+        UserRoleRow first = rows.get(0);
+        Set<String> roles = new HashSet<>();
+        for (UserRoleRow row : rows) {
+            if (row.roleName() != null) {
+                roles.add(row.roleName());
+            }
+        }
+        return new UserResponseDTO(first.id(), first.name(), first.email(), first.age(), roles);
+    }
+
+    private static UserRoleRow readRow(Readable row) {
+        Integer age = row.get("age", Integer.class);
+        return new UserRoleRow(
+                row.get("id", Integer.class),
+                row.get("name", String.class),
+                row.get("email", String.class),
+                age == null ? 0 : age,
+                row.get("role_name", String.class));
+    }
+
+    /**
+     * One row of the user/role join: a user's columns plus at most one of its roles.
+     */
+    private record UserRoleRow(int id, String name, String email, int age, String roleName) {
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.mySpringApi.repository;
+
+import com.example.mySpringApi.model.SeedVersion;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+/**
+ * SeedVersionRepository is a JPA repository for the SeedVersion entity.
+ */
+public interface SeedVersionRepository extends JpaRepository<SeedVersion, Integer> {
+
+    /**
+     * Reads a seed version row and locks it until the end of the transaction ({@code select ... for update}).
+     * Other transactions locking the same row wait until then.
+     *
+     * @param id The ID of the row.
+     * @return An Optional containing the locked row, or empty if it does not exist.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from SeedVersion s where s.id = :id")
+    Optional<SeedVersion> findByIdForUpdate(@Param("id") int id);
+}
@@ -0,0 +1,118 @@
+package com.example.mySpringApi.repository;
+
+import com.example.mySpringApi.config.UserLookupProperties;
+import com.example.mySpringApi.model.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * UserLookup serves the single-user lookups on the hot paths, by ID for GET /userAPI/id/{id} and by email for
+ * authentication, from one of two interchangeable implementations:
+ * <p>
+ * - JPA: the {@link UserRepository}, returning User entities loaded by Hibernate.
+ * - JDBC: the {@link JdbcUserRepository}, returning User snapshots mapped by hand from one query.
+ * <p>
+ * Both return a User with its roles. The implementation is chosen by {@code app.user-lookup.implementation} and
+ * can be switched at runtime, so the two can be compared on the same instance and traffic. Each lookup is timed
+ * in {@code user.lookup}, tagged with the implementation and the method.
+ */
+@Component
+@Slf4j
+public class UserLookup {
+
+    /**
+     * The implementations a lookup can be served by.
+     */
+    public enum Implementation {
+        JPA, JDBC
+    }
+
+    private final UserRepository userRepository;
+    private final JdbcUserRepository jdbcUserRepository;
+    private final Map<Implementation, Timer> findByIdTimers = new EnumMap<>(Implementation.class);
+    private final Map<Implementation, Timer> findByEmailTimers = new EnumMap<>(Implementation.class);
+    private volatile Implementation implementation;
+
+    // Construct Injection
+    @Autowired
+    public UserLookup(UserRepository userRepository, JdbcUserRepository jdbcUserRepository,
+                      UserLookupProperties properties, MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.jdbcUserRepository = jdbcUserRepository;
+        this.implementation = properties.getImplementation();
+        for (Implementation candidate : Implementation.values()) {
+            findByIdTimers.put(candidate, timer(meterRegistry, candidate, "findById"));
+            findByEmailTimers.put(candidate, timer(meterRegistry, candidate, "findByEmail"));
+        }
+    }
+
+    /**
+     * Finds a user by ID with the current implementation.
+     *
+     * @param id The ID of the user.
+     * @return The user with its roles, or an empty Optional if no user has this ID.
+     */
+    public Optional<User> findById(int id) {
+        Implementation current = implementation;
+        return record(findByIdTimers.get(current), current == Implementation.JDBC
+                ? () -> jdbcUserRepository.findById(id)
+                : () -> userRepository.findById(id));
+    }
+
+    /**
+     * Finds a user by email with the current implementation.
+     *
+     * @param email The email of the user.
+     * @return The user with its roles, or an empty Optional if no user has this email.
+     */
+    public Optional<User> findByEmail(String email) {
+        Implementation current = implementation;
+        return record(findByEmailTimers.get(current), current == Implementation.JDBC
+                ? () -> jdbcUserRepository.findByEmail(email)
+                : () -> userRepository.findByEmail(email));
+    }
+
+    /**
+     * @return The implementation currently serving lookups.
+     */
+    public Implementation getImplementation() {
+        return implementation;
+    }
+
+    /**
+     * Switches the implementation serving lookups. Lookups already running finish with the previous one.
+     *
+     * @param implementation The implementation to use from now on.
+     */
+    public void setImplementation(Implementation implementation) {
+        log.info("User lookups switched from {} to {}", this.implementation, implementation);
+        this.implementation = implementation;
+    }
+
+    private static Optional<User> record(Timer timer, Supplier<Optional<User>> lookup) {
+        long start = System.nanoTime();
+        try {
+            return lookup.get();
+        } finally {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static Timer timer(MeterRegistry meterRegistry, Implementation implementation, String method) {
+        return Timer.builder("user.lookup")
+                .description("Time spent looking up a single user")
+                .tag("implementation", implementation.name().toLowerCase(Locale.ROOT))
+                .tag("method", method)
+                .register(meterRegistry);
+    }
+}
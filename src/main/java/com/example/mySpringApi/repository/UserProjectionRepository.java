@@ -0,0 +1,56 @@
+package com.example.mySpringApi.repository;
+
+import com.example.mySpringApi.model.UserField;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * UserProjectionRepository is a custom Spring Data fragment that reads sparse fieldsets of users.
+ * <p>
+ * Instead of loading User entities, which always fetch their roles eagerly, these methods select only the
+ * columns for the requested fields and only join {@code user_roles} when roles are requested. Each row is
+ * returned as a map from the field's JSON name to its value, in {@link UserField} declaration order, so it
+ * can be serialized directly without building a UserResponseDTO.
+ *
+ * @see UserRepository
+ */
+public interface UserProjectionRepository {
+
+    /**
+     * Reads the requested fields of the user with the given ID.
+     *
+     * @param id The ID of the user.
+     * @param fields The fields to read.
+     * @return The row for the user, or an empty list if no user has that ID.
+     */
+    List<Map<String, Object>> findFieldsById(int id, Set<UserField> fields);
+
+    /**
+     * Reads the requested fields of the user with the given email.
+     *
+     * @param email The email of the user.
+     * @param fields The fields to read.
+     * @return The row for the user, or an empty list if no user has that email.
+     */
+    List<Map<String, Object>> findFieldsByEmail(String email, Set<UserField> fields);
+
+    /**
+     * Reads the requested fields of the users with the given IDs. Unknown IDs are skipped.
+     *
+     * @param ids The IDs of the users.
+     * @param fields The fields to read.
+     * @return One row per user found, ordered by ID.
+     */
+    List<Map<String, Object>> findFieldsByIdIn(Collection<Integer> ids, Set<UserField> fields);
+
+    /**
+     * Reads the requested fields of every user.
+     *
+     * @param fields The fields to read.
+     * @return One row per user, ordered by ID.
+     */
+    List<Map<String, Object>> findAllFields(Set<UserField> fields);
+}
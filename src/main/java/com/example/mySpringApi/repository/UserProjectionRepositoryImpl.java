@@ -0,0 +1,98 @@
+package com.example.mySpringApi.repository;
+
+import com.example.mySpringApi.model.UserField;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * JPQL implementation of {@link UserProjectionRepository}.
+ * <p>
+ * The scalar fields are read with a single tuple query that always includes the user ID. When roles are
+ * requested, one more query reads the (user ID, role name) pairs for the same users and merges them into
+ * the rows. Neither query loads a managed entity, so nothing is added to the persistence context.
+ */
+public class UserProjectionRepositoryImpl implements UserProjectionRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Map<String, Object>> findFieldsById(int id, Set<UserField> fields) {
+        return query(fields, " where u.id = :value", id);
+    }
+
+    @Override
+    public List<Map<String, Object>> findFieldsByEmail(String email, Set<UserField> fields) {
+        return query(fields, " where u.email = :value", email);
+    }
+
+    @Override
+    public List<Map<String, Object>> findFieldsByIdIn(Collection<Integer> ids, Set<UserField> fields) {
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return query(fields, " where u.id in :value", ids);
+    }
+
+    @Override
+    public List<Map<String, Object>> findAllFields(Set<UserField> fields) {
+        return query(fields, "", null);
+    }
+
+    private List<Map<String, Object>> query(Set<UserField> fields, String where, Object value) {
+        // Column 0 is always the ID, used to key rows and to attach roles; the scalars follow in field order.
+        StringBuilder jpql = new StringBuilder("select u.id");
+        for (UserField field : fields) {
+            if (field != UserField.ID && field != UserField.ROLES) {
+                jpql.append(", u.").append(field.jsonName());
+            }
+        }
+        jpql.append(" from User u").append(where).append(" order by u.id");
+
+        List<Object[]> tuples = bind(entityManager.createQuery(jpql.toString(), Object[].class), value).getResultList();
+
+        Map<Integer, Map<String, Object>> rows = new LinkedHashMap<>(tuples.size() * 2);
+        for (Object[] tuple : tuples) {
+            Map<String, Object> row = new LinkedHashMap<>(fields.size() * 2);
+            int column = 1;
+            for (UserField field : fields) {
+                switch (field) {
+                    case ID -> row.put(field.jsonName(), tuple[0]);
+                    case ROLES -> row.put(field.jsonName(), new TreeSet<String>());
+                    default -> row.put(field.jsonName(), tuple[column++]);
+                }
+            }
+            rows.put((Integer) tuple[0], row);
+        }
+
+        if (fields.contains(UserField.ROLES) && !rows.isEmpty()) {
+            attachRoles(rows, where, value);
+        }
+        return new ArrayList<>(rows.values());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void attachRoles(Map<Integer, Map<String, Object>> rows, String where, Object value) {
+        String jpql = "select u.id, r.name from User u join u.roles r" + where;
+        for (Object[] pair : bind(entityManager.createQuery(jpql, Object[].class), value).getResultList()) {
+            Map<String, Object> row = rows.get((Integer) pair[0]);
+            if (row != null) {
+                ((Set<String>) row.get(UserField.ROLES.jsonName())).add((String) pair[1]);
+            }
+        }
+    }
+
+    private static TypedQuery<Object[]> bind(TypedQuery<Object[]> query, Object value) {
+        return value == null ? query : query.setParameter("value", value);
+    }
+}
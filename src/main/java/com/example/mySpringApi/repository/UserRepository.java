@@ -1,8 +1,16 @@
 package com.example.mySpringApi.repository;
 
 import com.example.mySpringApi.model.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -17,15 +25,47 @@ import java.util.Optional;
  * - save(User user): Persists the provided User entity to the database. If the User already exists,
  *   its existing record will be updated; otherwise, a new record will be created. Returns the persisted User.
  *
+ * The roles are eager, and Hibernate loads an eager collection with one extra query per user returned by a
+ * query method. The methods returning several users, and findByEmail, which authentication calls on every
+ * request, declare an entity graph so the roles are fetched in the same statement.
+ *
+ * The methods returning several users are only used by read paths and carry Hibernate's read-only and flush-mode
+ * hints, so the loaded users are never snapshotted for dirty checking and the query never flushes the session,
+ * even when called from a read-write transaction. Changes made to those users are therefore not saved.
+ *
+ * findIdsAfter reads one keyset page of IDs, the IDs following a given one in ascending order. The users of a page
+ * are then loaded with findAllById: limiting a query that fetches the roles would make Hibernate apply the limit in
+ * memory, after reading every row.
+ *
+ * The UserProjectionRepository fragment adds sparse-fieldset reads that select only the requested columns.
+ *
  * TODO: Implement error handling in the repository layer for potential database exceptions.
  * TODO: Consider adding a method to check if a user with the same name or email already exists.
  *
  * TODO: Find a way to restrict people from using userRepository.save(user) without permissions
  */
-public interface UserRepository extends JpaRepository<User, Integer> {
+public interface UserRepository extends JpaRepository<User, Integer>, UserProjectionRepository {
 
     // Methods
     Optional<User> findByName(String name);
+
+    @EntityGraph(attributePaths = "roles")
     Optional<User> findByEmail(String email);
+
+    @Override
+    @EntityGraph(attributePaths = "roles")
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "COMMIT")})
+    List<User> findAll();
+
+    @Override
+    @EntityGraph(attributePaths = "roles")
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "COMMIT")})
+    List<User> findAllById(Iterable<Integer> ids);
+
+    @Query("select u.id from User u where u.id > :afterId order by u.id")
+    List<Integer> findIdsAfter(@Param("afterId") int afterId, Pageable pageable);
+
     User save(User user);
 }
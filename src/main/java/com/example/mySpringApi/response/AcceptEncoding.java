@@ -0,0 +1,69 @@
+package com.example.mySpringApi.response;
+
+import java.util.Locale;
+
+/**
+ * AcceptEncoding reads the Accept-Encoding request header, so that the endpoints serving precompressed bodies agree
+ * on when a client accepts gzip.
+ * <p>
+ * The header is parsed as RFC 9110 §12.5.3 describes it: a comma-separated list of content codings, each with an
+ * optional weight {@code ;q=}. A coding with a weight of 0 is not acceptable, so {@code gzip;q=0} refuses gzip
+ * rather than asking for it. {@code x-gzip} is an alias of {@code gzip}, and {@code *} stands for every coding
+ * not listed. A weight that cannot be parsed counts as 0, so a malformed header falls back to the identity body,
+ * which every client accepts.
+ */
+public final class AcceptEncoding {
+
+    private AcceptEncoding() {
+    }
+
+    /**
+     * Decides whether a client accepts a gzip-encoded body.
+     *
+     * @param acceptEncoding The Accept-Encoding request header, or null if the request has none.
+     * @return true if gzip, or {@code *} without gzip being listed, has a weight above 0.
+     */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        float gzip = -1;
+        float any = -1;
+        int start = 0;
+        while (start < acceptEncoding.length()) {
+            int end = acceptEncoding.indexOf(',', start);
+            if (end < 0) {
+                end = acceptEncoding.length();
+            }
+            int parameters = acceptEncoding.indexOf(';', start);
+            int codingEnd = parameters >= 0 && parameters < end ? parameters : end;
+            String coding = acceptEncoding.substring(start, codingEnd).trim();
+            if (coding.equalsIgnoreCase("gzip") || coding.equalsIgnoreCase("x-gzip")) {
+                gzip = Math.max(gzip, weight(acceptEncoding, codingEnd, end));
+            } else if (coding.equals("*")) {
+                any = weight(acceptEncoding, codingEnd, end);
+            }
+            start = end + 1;
+        }
+        return gzip >= 0 ? gzip > 0 : any > 0;
+    }
+
+    /**
+     * @return The q parameter among the parameters between {@code start} and {@code end}, 1 if there is none, or 0
+     * if it is not a number between 0 and 1.
+     */
+    private static float weight(String acceptEncoding, int start, int end) {
+        for (String parameter : acceptEncoding.substring(start, end).split(";")) {
+            String trimmed = parameter.trim().toLowerCase(Locale.ROOT);
+            if (trimmed.startsWith("q=")) {
+                try {
+                    float q = Float.parseFloat(trimmed.substring(2).trim());
+                    return q >= 0 && q <= 1 ? q : 0;
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.mySpringApi.response;
 
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
@@ -12,6 +13,7 @@ import java.util.Map;
  * By using this class, we can ensure consistency across all API endpoints
  * and make it easier for clients to parse the response.
  */
+@Slf4j
 public class ResponseHandler {
 
     /**
@@ -28,7 +30,7 @@ public class ResponseHandler {
      * @return a ResponseEntity containing a Map with the message, status and responseObj.
      */
     public static ResponseEntity<Object> generateResponse(String message, HttpStatus status, Object responseObj) {
-        System.out.println("DEBUG: I am in the generateResponse ResponseHandler method");
+        log.debug("Generating response: {} {}", status, message);
         Map<String, Object> map = new HashMap<>();
         map.put("status", status.value());
         map.put("message", message);
@@ -0,0 +1,60 @@
+package com.example.mySpringApi.runner;
+
+import com.example.mySpringApi.config.FastStartProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+/**
+ * This runner ends the training run of the {@code fast-start} build profile, which starts the application once
+ * with {@code -XX:ArchiveClassesAtExit} to record the classes it loads in a class-data sharing archive.
+ * <p>
+ * It does nothing unless {@code app.fast-start.training-run} is true. Otherwise, once the other runners are done,
+ * it sends {@code app.fast-start.training-request-path} to the application itself, so that the classes loaded
+ * to serve a request are archived too, and exits.
+ * <p>
+ * The property is checked when the runner runs rather than with a condition on the bean, because AOT processing
+ * evaluates conditions at build time.
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+@Slf4j
+public class FastStartTrainingRunner implements ApplicationRunner {
+
+    private final FastStartProperties properties;
+    private final ConfigurableApplicationContext context;
+
+    @Autowired
+    public FastStartTrainingRunner(FastStartProperties properties, ConfigurableApplicationContext context) {
+        this.properties = properties;
+        this.context = context;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException, InterruptedException {
+        if (!properties.isTrainingRun()) {
+            return;
+        }
+        String port = context.getEnvironment().getProperty("local.server.port");
+        if (port != null) {
+            URI uri = URI.create("http://localhost:" + port + properties.getTrainingRequestPath());
+            HttpResponse<Void> response = HttpClient.newHttpClient()
+                    .send(HttpRequest.newBuilder(uri).build(), HttpResponse.BodyHandlers.discarding());
+            log.info("Training request {} returned {}", uri, response.statusCode());
+        }
+        log.info("Training run complete, exiting");
+        System.exit(SpringApplication.exit(context));
+    }
+}
@@ -1,42 +1,53 @@
 package com.example.mySpringApi.runner;
 
-import com.example.mySpringApi.model.Role;
-import com.example.mySpringApi.model.User;
-import com.example.mySpringApi.repository.RoleRepository;
-import com.example.mySpringApi.repository.UserRepository;
-import com.example.mySpringApi.service.RoleService;
-import com.example.mySpringApi.service.RoleServiceImpl;
-import com.example.mySpringApi.service.UserService;
+import com.example.mySpringApi.diagnostics.BulkJobEvent;
+import com.example.mySpringApi.seed.DefaultDataSeeder;
+import com.example.mySpringApi.seed.DefaultRole;
+import com.example.mySpringApi.seed.DefaultUser;
+import com.example.mySpringApi.startup.ReadinessGate;
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.CommandLineRunner;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
-import java.util.Collections;
-import java.util.HashSet;
-import java.util.Optional;
-import java.util.Set;
+import java.util.List;
 
 /**
  * This class serves as a CommandLineRunner for the application.
  * It is annotated with @Component to be automatically detected by the Spring framework
  * during classpath scanning and automatically instantiated as a bean in the application context.
  *
- * Upon startup, it populates the UserRepository with initial data.
+ * Upon startup, it seeds the default roles and users through the DefaultDataSeeder, recorded as a "seed"
+ * BulkJobEvent and held as a "seed" startup task by the ReadinessGate. Once SEED_VERSION is recorded in the
+ * database, later starts only read it.
+ * It runs before the other runners, which rely on the roles it creates.
  */
 @Component
+@Order(0)
 @Slf4j
 public class MyCommandLineRunner implements CommandLineRunner {
 
-    private final UserService userService;
-    private final RoleService roleService;
+    /**
+     * Version of the default data below. Increment it whenever the data changes, so that it is seeded again.
+     */
+    static final int SEED_VERSION = 1;
+
+    static final List<DefaultRole> DEFAULT_ROLES = List.of(new DefaultRole(1, "ADMIN"), new DefaultRole(2, "USER"));
+
+    static final List<DefaultUser> DEFAULT_USERS = List.of(
+            new DefaultUser("Default Admin", "admin@example.com", 0, "admin", "ADMIN"),
+            new DefaultUser("Default User", "user@example.com", 0, "user", "USER")
+    );
+
+    private final DefaultDataSeeder seeder;
+    private final ReadinessGate readinessGate;
 
     @Autowired
-    public MyCommandLineRunner(UserService userService, RoleService roleService) {
-        this.userService = userService;
-        this.roleService = roleService;
+    public MyCommandLineRunner(DefaultDataSeeder seeder, ReadinessGate readinessGate) {
+        this.seeder = seeder;
+        this.readinessGate = readinessGate;
     }
 
     @PostConstruct
@@ -46,23 +57,18 @@ public class MyCommandLineRunner implements CommandLineRunner {
 
     @Override
     public void run(String... args) throws Exception {
-        // Create roles if they do not exist
-        roleService.createRoleIfNotFound(1, "ADMIN");
-        roleService.createRoleIfNotFound(2, "USER");
-
-        // Create default user and admin if they don't exist
-        userService.createDefaultUserIfNotFound(
-                "Default Admin",
-                "admin@example.com",
-                0, "admin",
-                "ADMIN"
-        );
-        userService.createDefaultUserIfNotFound(
-                "Default User",
-                "user@example.com",
-                0,
-                "user",
-                "USER"
-        );
+        BulkJobEvent job = BulkJobEvent.start("seed");
+        job.requested = DEFAULT_ROLES.size() + DEFAULT_USERS.size();
+        try (ReadinessGate.Task task = readinessGate.begin("seed")) {
+            if (seeder.isSeeded(SEED_VERSION)) {
+                log.debug("Seed version {} already recorded", SEED_VERSION);
+            } else {
+                job.processed = seeder.seed(SEED_VERSION, DEFAULT_ROLES, DEFAULT_USERS);
+            }
+            job.finish(null);
+        } catch (RuntimeException e) {
+            job.finish(e);
+            throw e;
+        }
     }
 }
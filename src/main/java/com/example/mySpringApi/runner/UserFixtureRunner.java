@@ -0,0 +1,90 @@
+package com.example.mySpringApi.runner;
+
+import com.example.mySpringApi.config.FixtureProperties;
+import com.example.mySpringApi.fixtures.UserFixtureGenerator;
+import com.example.mySpringApi.fixtures.UserFixtureLoader;
+import com.example.mySpringApi.startup.ReadinessGate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+/**
+ * This runner loads {@code app.fixtures.users} synthetic users at startup, for performance testing on a realistic
+ * dataset. It does nothing unless that property is greater than 0.
+ * <p>
+ * Loading resumes where a previous run stopped: users already present, recognized by their email, are skipped.
+ * With {@code app.fixtures.exit=true}, the application exits once the users are loaded, which makes it a command
+ * line loader:
+ * <pre>
+ * java -jar mySpringApi.jar --app.fixtures.users=1000000 --app.fixtures.exit=true
+ * </pre>
+ * It runs after MyCommandLineRunner, which creates the roles, and before WarmupRunner.
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 2)
+@Slf4j
+public class UserFixtureRunner implements ApplicationRunner {
+
+    private final FixtureProperties properties;
+    private final UserFixtureLoader loader;
+    private final PasswordEncoder passwordEncoder;
+    private final ConfigurableApplicationContext context;
+    private final ReadinessGate readinessGate;
+
+    @Autowired
+    public UserFixtureRunner(FixtureProperties properties, UserFixtureLoader loader, PasswordEncoder passwordEncoder,
+                             ConfigurableApplicationContext context, ReadinessGate readinessGate) {
+        this.properties = properties;
+        this.loader = loader;
+        this.passwordEncoder = passwordEncoder;
+        this.context = context;
+        this.readinessGate = readinessGate;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long users = properties.getUsers();
+        if (users <= 0) {
+            return;
+        }
+        try (ReadinessGate.Task task = readinessGate.begin("fixtures")) {
+            UserFixtureGenerator generator = new UserFixtureGenerator(properties.getSeed());
+            long loaded = alreadyLoaded(generator, users);
+            if (loaded == users) {
+                log.info("All {} fixture users are already loaded", users);
+            } else {
+                log.info("Loading fixture users {} to {} (seed {})", loaded, users - 1, properties.getSeed());
+                loader.load(generator, loaded, users - loaded, properties.getBatchSize(),
+                        passwordEncoder.encode(properties.getPassword()));
+            }
+        }
+        if (properties.isExit()) {
+            System.exit(SpringApplication.exit(context));
+        }
+    }
+
+    /**
+     * Finds how many users were loaded by previous runs. Chunks are committed in order, so the loaded users are a
+     * prefix and a binary search over their emails finds its length in a few lookups.
+     */
+    private long alreadyLoaded(UserFixtureGenerator generator, long users) {
+        long low = 0;
+        long high = users;
+        while (low < high) {
+            long mid = (low + high) >>> 1;
+            if (loader.exists(generator, mid)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
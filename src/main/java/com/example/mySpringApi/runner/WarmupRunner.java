@@ -0,0 +1,54 @@
+package com.example.mySpringApi.runner;
+
+import com.example.mySpringApi.config.WarmupProperties;
+import com.example.mySpringApi.diagnostics.BulkJobEvent;
+import com.example.mySpringApi.startup.ReadinessGate;
+import com.example.mySpringApi.warmup.UserApiWarmup;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * This runner warms the application up with the UserApiWarmup when {@code app.warmup.enabled} is set. The warmup is
+ * held as a "warmup" startup task, so the readiness probe reports OUT_OF_SERVICE until it is done, and recorded as a
+ * "warmup" BulkJobEvent.
+ * <p>
+ * It runs after UserFixtureRunner, so it reads the loaded users, and before FastStartTrainingRunner, so the classes
+ * it loads are part of the class-data sharing archive.
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+@Slf4j
+public class WarmupRunner implements ApplicationRunner {
+
+    private final WarmupProperties properties;
+    private final UserApiWarmup warmup;
+    private final ReadinessGate readinessGate;
+
+    @Autowired
+    public WarmupRunner(WarmupProperties properties, UserApiWarmup warmup, ReadinessGate readinessGate) {
+        this.properties = properties;
+        this.warmup = warmup;
+        this.readinessGate = readinessGate;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        BulkJobEvent job = BulkJobEvent.start("warmup");
+        job.requested = properties.getCalls();
+        try (ReadinessGate.Task task = readinessGate.begin("warmup")) {
+            job.processed = warmup.run().calls();
+            job.finish(null);
+        } catch (Exception e) {
+            job.finish(e);
+            throw e;
+        }
+    }
+}
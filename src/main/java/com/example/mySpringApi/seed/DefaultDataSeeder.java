@@ -0,0 +1,192 @@
+package com.example.mySpringApi.seed;
+
+import com.example.mySpringApi.model.SeedVersion;
+import com.example.mySpringApi.repository.SeedVersionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * DefaultDataSeeder creates the default roles and users in a single transaction, once per seed version.
+ * <p>
+ * The transaction starts by locking the row of the seed_version table. When several nodes start together, the
+ * first one to get the lock seeds the data and records the version; the others wait for its commit, find the
+ * version recorded and do nothing. If the row does not exist yet, because the schema was not created by the
+ * migrations, each node first inserts it: the insert of one node waits for the other's to commit and then fails
+ * as a duplicate, which is ignored, so that every node locks the same row.
+ * <p>
+ * A row lock is used rather than an advisory lock such as MySQL's {@code GET_LOCK}. An advisory lock belongs to the
+ * session, so it outlives a rolled-back transaction and stays with the pooled connection until released by hand,
+ * and H2 has no equivalent. The row lock gives the same exclusion, is released with the transaction even if it is
+ * rolled back, and works the same on the H2 database of the tests.
+ * <p>
+ * Only the missing rows are inserted, each table with one batched statement. Existing roles and users are left
+ * as they are, so a default password changed by an administrator is not reset. Passwords are only hashed for the
+ * users that are created. Roles are created with their fixed ID, unless another role already has it. MySQL moves
+ * the AUTO_INCREMENT counter past an inserted ID; H2 does not, so on H2 a role inserted later without an ID may
+ * collide with a fixed one.
+ *
+ * @see com.example.mySpringApi.runner.MyCommandLineRunner
+ */
+@Component
+@Slf4j
+public class DefaultDataSeeder {
+
+    private static final String INSERT_VERSION_ROW = "insert into seed_version (id, version) values (?, 0)";
+    private static final String INSERT_ROLE = "insert into role (id, name) values (?, ?)";
+    private static final String INSERT_ROLE_WITHOUT_ID = "insert into role (name) values (?)";
+    private static final String INSERT_USER = "insert into user_info (name, email, age, password) values (?, ?, ?, ?)";
+    private static final String INSERT_USER_ROLE = "insert into user_roles (user_id, role_id) values (?, ?)";
+
+    private final SeedVersionRepository seedVersionRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+
+    // Construct Injection
+    @Autowired
+    public DefaultDataSeeder(SeedVersionRepository seedVersionRepository, JdbcTemplate jdbcTemplate,
+                             PasswordEncoder passwordEncoder) {
+        this.seedVersionRepository = seedVersionRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.passwordEncoder = passwordEncoder;
+    }
+
+    /**
+     * Checks, without taking the lock, whether a seed version has already been recorded.
+     *
+     * @param version The seed version.
+     * @return true if this version or a later one has been seeded.
+     */
+    @Transactional(readOnly = true)
+    public boolean isSeeded(int version) {
+        return seedVersionRepository.findById(SeedVersion.ROW_ID)
+                .map(seedVersion -> seedVersion.getVersion() >= version)
+                .orElse(false);
+    }
+
+    /**
+     * Creates the missing roles and users, then records the seed version, unless another node has already recorded
+     * it. The seed_version row is created if the schema was not created by the migrations.
+     *
+     * @param version The seed version, to increment whenever the default data changes.
+     * @param roles   The roles.
+     * @param users   The users, whose roles must be among {@code roles} or already exist.
+     * @return The number of roles and users created.
+     * @throws IllegalStateException if the role of a user does not exist.
+     */
+    @Transactional
+    public int seed(int version, List<DefaultRole> roles, List<DefaultUser> users) {
+        insertVersionRowIfAbsent();
+        SeedVersion seedVersion = seedVersionRepository.findByIdForUpdate(SeedVersion.ROW_ID)
+                .orElseThrow(() -> new IllegalStateException("The seed_version row does not exist"));
+        if (seedVersion.getVersion() >= version) {
+            log.info("Seed version {} was recorded by another node", seedVersion.getVersion());
+            return 0;
+        }
+
+        int created = insertMissingRoles(roles);
+        created += insertMissingUsers(users);
+
+        seedVersion.setVersion(version);
+        seedVersion.setAppliedAt(LocalDateTime.now());
+        log.info("Seed version {} recorded, {} roles and users created", version, created);
+        return created;
+    }
+
+    /**
+     * Inserts the seed_version row if it is missing. The row is looked up first, because on MySQL a failed duplicate
+     * insert keeps a shared lock on the row, and two nodes upgrading their shared locks would deadlock.
+     */
+    private void insertVersionRowIfAbsent() {
+        Integer rows = jdbcTemplate.queryForObject("select count(*) from seed_version where id = ?", Integer.class,
+                SeedVersion.ROW_ID);
+        if (rows != null && rows > 0) {
+            return;
+        }
+        try {
+            jdbcTemplate.update(INSERT_VERSION_ROW, SeedVersion.ROW_ID);
+        } catch (DuplicateKeyException e) {
+            log.debug("The seed_version row was inserted by another node");
+        }
+    }
+
+    private int insertMissingRoles(List<DefaultRole> roles) {
+        Set<String> existingNames = new HashSet<>();
+        Set<Integer> existingIds = new HashSet<>();
+        jdbcTemplate.query("select id, name from role", row -> {
+            existingIds.add(row.getInt("id"));
+            existingNames.add(row.getString("name"));
+        });
+        List<DefaultRole> missing = roles.stream().filter(role -> !existingNames.contains(role.name())).toList();
+        List<DefaultRole> withId = missing.stream().filter(role -> !existingIds.contains(role.id())).toList();
+        List<DefaultRole> withoutId = missing.stream().filter(role -> existingIds.contains(role.id())).toList();
+        if (!withId.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_ROLE, withId, withId.size(), (statement, role) -> {
+                statement.setInt(1, role.id());
+                statement.setString(2, role.name());
+            });
+        }
+        if (!withoutId.isEmpty()) {
+            log.warn("Role IDs {} are taken, creating the roles with generated IDs", withoutId);
+            jdbcTemplate.batchUpdate(INSERT_ROLE_WITHOUT_ID, withoutId, withoutId.size(),
+                    (statement, role) -> statement.setString(1, role.name()));
+        }
+        return missing.size();
+    }
+
+    private int insertMissingUsers(List<DefaultUser> users) {
+        if (users.isEmpty()) {
+            return 0;
+        }
+        Set<String> existing = new HashSet<>(jdbcTemplate.queryForList(
+                "select email from user_info where email in (" + placeholders(users.size()) + ")",
+                String.class, users.stream().map(DefaultUser::email).toArray()));
+        List<DefaultUser> missing = users.stream().filter(user -> !existing.contains(user.email())).toList();
+        if (missing.isEmpty()) {
+            return 0;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_USER, missing, missing.size(), (statement, user) -> {
+            statement.setString(1, user.name());
+            statement.setString(2, user.email());
+            statement.setInt(3, user.age());
+            statement.setString(4, passwordEncoder.encode(user.password()));
+        });
+
+        Map<String, Integer> userIds = new HashMap<>();
+        jdbcTemplate.query("select id, email from user_info where email in (" + placeholders(missing.size()) + ")",
+                row -> {
+                    userIds.put(row.getString("email"), row.getInt("id"));
+                }, missing.stream().map(DefaultUser::email).toArray());
+        Map<String, Integer> roleIds = new HashMap<>();
+        jdbcTemplate.query("select id, name from role", row -> {
+            roleIds.put(row.getString("name"), row.getInt("id"));
+        });
+
+        jdbcTemplate.batchUpdate(INSERT_USER_ROLE, missing, missing.size(), (statement, user) -> {
+            Integer roleId = roleIds.get(user.role());
+            if (roleId == null) {
+                throw new IllegalStateException("Role " + user.role() + " does not exist");
+            }
+            statement.setInt(1, userIds.get(user.email()));
+            statement.setInt(2, roleId);
+        });
+        return missing.size();
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+}
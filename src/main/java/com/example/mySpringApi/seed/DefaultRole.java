@@ -0,0 +1,10 @@
+package com.example.mySpringApi.seed;
+
+/**
+ * A role created by the {@link DefaultDataSeeder} if no role has its name.
+ *
+ * @param id   The role's ID, used unless another role already has it.
+ * @param name The role's name, which identifies it.
+ */
+public record DefaultRole(int id, String name) {
+}
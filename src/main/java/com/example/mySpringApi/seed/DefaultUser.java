@@ -0,0 +1,13 @@
+package com.example.mySpringApi.seed;
+
+/**
+ * A user created by the {@link DefaultDataSeeder} if no user has its email.
+ *
+ * @param name     The user's name.
+ * @param email    The user's email, which identifies it.
+ * @param age      The user's age.
+ * @param password The raw password, hashed when the user is created.
+ * @param role     The name of the user's role.
+ */
+public record DefaultUser(String name, String email, int age, String password, String role) {
+}
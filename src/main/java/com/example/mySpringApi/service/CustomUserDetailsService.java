@@ -1,7 +1,9 @@
 package com.example.mySpringApi.service;
 
 import com.example.mySpringApi.model.User;
-import com.example.mySpringApi.repository.UserRepository;
+import com.example.mySpringApi.repository.UserLookup;
+import io.micrometer.core.annotation.Timed;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -9,6 +11,7 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Collections;
 import java.util.Set;
@@ -19,49 +22,55 @@ import java.util.stream.Collectors;
  * a custom way of fetching user details.
  * <p>
  * This service is used by Spring Security to perform authentication and authorization
- * by loading user-specific data.
+ * by loading user-specific data. The lookup runs in a read-only transaction, so the user is loaded without a
+ * dirty-checking snapshot and, with {@code app.read-replica} enabled, from the replica.
  * <p>
  * Methods:
  * - loadUserByUsername(String email): Overrides the method from UserDetailsService
  *   to load the user by email instead of a username.
  */
 @Service
+@Slf4j
 public class CustomUserDetailsService implements UserDetailsService {
 
-    private final UserRepository userRepository;
+    private final UserLookup userLookup;
 
     /**
-     * Constructs the CustomUserDetailsService with a UserRepository.
+     * Constructs the CustomUserDetailsService with a UserLookup.
      *
-     * @param userRepository The repository for accessing user data.
+     * @param userLookup The switchable JPA or JDBC lookup for accessing user data.
      */
     @Autowired
-    public CustomUserDetailsService(UserRepository userRepository) {
-        this.userRepository = userRepository;
+    public CustomUserDetailsService(UserLookup userLookup) {
+        this.userLookup = userLookup;
     }
 
     /**
      * Loads a user by their email address.
      * <p>
      * This method is used by Spring Security to fetch user details required for authentication.
-     * It converts the roles of the user to GrantedAuthority objects for role-based security.
+     * It converts the roles of the user to GrantedAuthority objects for role-based security, and keeps the user's ID
+     * in the returned {@link UserAccountDetails}.
      *
      * @param email The email of the user to load.
-     * @return UserDetails object containing user data and authorities.
+     * @return UserAccountDetails object containing user data and authorities.
      * @throws UsernameNotFoundException if the user is not found with the provided email.
      */
     @Override
+    @Transactional(readOnly = true)
+    @Timed(value = "user.details.load", description = "Time spent loading a user for authentication")
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        System.out.println("DEBUG: I am in the loadUserByUsername CustomUserDetailsService method");
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
+        log.debug("Loading user details");
+        User user = userLookup.findByEmail(email)
+                .orElseThrow(() -> new UsernameNotFoundException("User not found"));
 
         // Convert Roles to GrantedAuthority
         Set<GrantedAuthority> grantedAuthorities = user.getRoles().stream()
                 .map(role -> new SimpleGrantedAuthority("ROLE_" + role.getName()))
                 .collect(Collectors.toSet());
 
-        return new org.springframework.security.core.userdetails.User(
+        return new UserAccountDetails(
+                user.getId(),
                 user.getEmail(),
                 user.getPassword(),
                 grantedAuthorities);
@@ -23,17 +23,4 @@ public interface RoleService {
      * @return A set of Role entities corresponding to the given names.
      */
     Set<Role> findRolesByNames(Set<String> roleNames);
-
-    /**
-     * Ensures the creation of a specific role if it does not exist in the database.
-     * <p>
-     * This method is responsible for verifying the existence of a role based on its name.
-     * If the role is not found, it creates a new role with the specified id and name,
-     * then persists it to the database. This method is crucial during initial setup or
-     * application startup to guarantee the availability of key roles in the system.
-     *
-     * @param id The identifier to be used for the role if it is created.
-     * @param name The name of the role to check and potentially create.
-     */
-    void createRoleIfNotFound(int id, String name);
 }
\ No newline at end of file
@@ -37,17 +37,4 @@ public class RoleServiceImpl implements RoleService {
     public Set<Role> findRolesByNames(Set<String> roleNames) {
         return roleRepository.findByNameIn(roleNames);
     }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public void createRoleIfNotFound(int id, String name) {
-        if (roleRepository.findByName(name).isEmpty()) {
-            Role role = new Role();
-            role.setId(id);
-            role.setName(name);
-            roleRepository.save(role);
-        }
-    }
 }
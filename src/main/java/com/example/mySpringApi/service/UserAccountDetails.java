@@ -0,0 +1,34 @@
+package com.example.mySpringApi.service;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collection;
+
+/**
+ * UserAccountDetails are the UserDetails loaded by the {@link CustomUserDetailsService}. Besides the email, used as
+ * the username, they carry the user's ID, so that it is known for the rest of the request without another lookup.
+ * Once authenticated, they are the principal of the Authentication.
+ */
+public class UserAccountDetails extends User {
+
+    private final int id;
+
+    /**
+     * @param id          The user's ID.
+     * @param email       The user's email, used as the username.
+     * @param password    The user's password hash.
+     * @param authorities The authorities granted by the user's roles.
+     */
+    public UserAccountDetails(int id, String email, String password, Collection<? extends GrantedAuthority> authorities) {
+        super(email, password, authorities);
+        this.id = id;
+    }
+
+    /**
+     * @return The user's ID.
+     */
+    public int getId() {
+        return id;
+    }
+}
@@ -4,10 +4,14 @@ import com.example.mySpringApi.exception.InvalidUserInputException;
 import com.example.mySpringApi.exception.UserAlreadyExistsException;
 import com.example.mySpringApi.exception.UserNotFoundException;
 import com.example.mySpringApi.model.User;
+import com.example.mySpringApi.model.UserField;
 import com.example.mySpringApi.model.dto.UserDTO;
 import com.example.mySpringApi.model.dto.UserResponseDTO;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * UserService is the interface for the user service, defining the contract for the user service
@@ -57,6 +61,71 @@ public interface UserService {
      */
     List<User> getAllUsers();
 
+    /**
+     * Retrieves the users matching a collection of identifiers.
+     * <p>
+     * This method is intended for batch resolution, where a caller holds many user IDs and needs
+     * the corresponding users in a single round trip. Identifiers that do not match a user are
+     * silently skipped, so the result may contain fewer elements than the input.
+     *
+     * @param ids The identifiers of the users to retrieve.
+     * @return A list of the User objects that were found. The order is not guaranteed.
+     */
+    List<User> getUsers(Collection<Integer> ids);
+
+    /**
+     * Retrieves one page of users in ascending ID order, starting after a given ID.
+     * <p>
+     * This method lets callers walk every user page by page, passing the last ID of a page to read the next
+     * one, without holding all users in memory. Pages stay consistent while users are created or deleted.
+     *
+     * @param afterId The ID after which the page starts; 0 reads the first page.
+     * @param size The maximum number of users in the page.
+     * @return The users of the page ordered by ID, or an empty list after the last page.
+     */
+    List<User> getUsersAfter(int afterId, int size);
+
+    /**
+     * Retrieves only the requested fields of a user by their unique identifier.
+     * <p>
+     * This method serves sparse fieldset requests. Only the selected fields are read from the data store,
+     * and the result can be serialized directly in place of a UserResponseDTO.
+     *
+     * @param id The unique identifier of the user to retrieve.
+     * @param fields The fields to include in the result.
+     * @return A map from field name to value, containing exactly the requested fields.
+     * @throws UserNotFoundException If no user is found with the provided ID.
+     */
+    Map<String, Object> getUserFields(int id, Set<UserField> fields);
+
+    /**
+     * Retrieves only the requested fields of a user by their email address.
+     *
+     * @param email The email address of the user to retrieve.
+     * @param fields The fields to include in the result.
+     * @return A map from field name to value, containing exactly the requested fields.
+     * @throws UserNotFoundException If no user is found with the provided email address.
+     */
+    Map<String, Object> getUserFields(String email, Set<UserField> fields);
+
+    /**
+     * Retrieves only the requested fields of the users matching a collection of identifiers.
+     * Identifiers that do not match a user are skipped.
+     *
+     * @param ids The identifiers of the users to retrieve.
+     * @param fields The fields to include in each result.
+     * @return One map per user found, ordered by ID.
+     */
+    List<Map<String, Object>> getUsersFields(Collection<Integer> ids, Set<UserField> fields);
+
+    /**
+     * Retrieves only the requested fields of every user.
+     *
+     * @param fields The fields to include in each result.
+     * @return One map per user, ordered by ID. If no users are found, it returns an empty list.
+     */
+    List<Map<String, Object>> getAllUsersFields(Set<UserField> fields);
+
     /**
      * Creates a new user and saves it to the repository.
      * <p>
@@ -110,20 +179,6 @@ public interface UserService {
      */
     boolean isValidUser(User user);
 
-    /**
-     * Ensures the creation of a default user if they are not already present in the database.
-     * <p>
-     * This method checks for the existence of a user with a given email. If the user does not exist,
-     * it creates and persists a new user with the provided details and assigns them the specified role.
-     *
-     * @param name The name of the user to be created.
-     * @param email The email of the user, used for checking existence and creating the user.
-     * @param age The age of the user.
-     * @param password The password for the user.
-     * @param roleName The name of the role to be assigned to the user.
-     */
-    void createDefaultUserIfNotFound(String name, String email, int age, String password, String roleName);
-
     /**
      * Converts a UserDTO object into a User entity.
      * <p>
@@ -1,29 +1,35 @@
 package com.example.mySpringApi.service;
 
-import com.example.mySpringApi.exception.InvalidUserInputException;
-import com.example.mySpringApi.exception.UserAlreadyExistsException;
-import com.example.mySpringApi.exception.UserNotFoundException;
+import com.example.mySpringApi.event.UserChangedEvent;
+import com.example.mySpringApi.exception.UserExceptionFactory;
 import com.example.mySpringApi.model.Role;
 import com.example.mySpringApi.model.User;
+import com.example.mySpringApi.model.UserField;
 import com.example.mySpringApi.model.dto.UserDTO;
 import com.example.mySpringApi.model.dto.UserResponseDTO;
+import com.example.mySpringApi.repository.UserLookup;
 import com.example.mySpringApi.repository.UserRepository;
+import com.example.mySpringApi.validation.UserInputValidator;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Collections;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 /**
@@ -33,11 +39,18 @@ import java.util.stream.Collectors;
  * This class is marked with the @Service annotation, which indicates that it's a Spring
  * service and a candidate for Spring's component scanning to detect and add to the application context.
  * <p>
- * This service class uses UserRepository for data access.
+ * This service class uses UserRepository for data access. Every successful create, update or delete
+ * publishes a {@link UserChangedEvent} so that derived state, such as cached responses, can be discarded.
+ * <p>
+ * Methods run in read-only transactions unless they declare otherwise. Hibernate then loads entities read-only,
+ * without the snapshot kept for dirty checking, and never flushes the session. With {@code app.read-replica}
+ * enabled, these transactions also run on the replica. Methods that write declare a read-write transaction, and
+ * methods that only convert objects already loaded join the caller's transaction, if any, rather than open one.
  * <p>
  * TODO: Validate that the user making the request has the necessary permissions.
  */
 @Service
+@Transactional(readOnly = true)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -46,16 +59,35 @@ public class UserServiceImpl implements UserService {
 
     private UserRepository userRepository;
     private RoleService roleService;
+    private ApplicationEventPublisher eventPublisher;
+    private UserInputValidator userInputValidator;
+    private PasswordEncoder passwordEncoder;
+    private UserLookup userLookup;
+    private UserExceptionFactory exceptionFactory;
 
     /**
      * Constructs a new UserServiceImpl with a UserRepository.
      *
      * @param userRepository the repository that provides access to the user data store
+     * @param roleService the service used to resolve role names to Role entities
+     * @param eventPublisher the publisher used to announce user changes
+     * @param userInputValidator the validator shared with the UserController
+     * @param passwordEncoder the encoder used to hash passwords, shared with authentication
+     * @param userLookup the switchable JPA or JDBC implementation of the single-user lookups
+     * @param exceptionFactory the factory of the UserExceptions thrown to the caller
      */
     @Autowired
-    public UserServiceImpl(UserRepository userRepository, RoleService roleService) {
+    public UserServiceImpl(UserRepository userRepository, RoleService roleService,
+                           ApplicationEventPublisher eventPublisher, UserInputValidator userInputValidator,
+                           PasswordEncoder passwordEncoder, UserLookup userLookup,
+                           UserExceptionFactory exceptionFactory) {
         this.userRepository = userRepository;
         this.roleService = roleService;
+        this.eventPublisher = eventPublisher;
+        this.userInputValidator = userInputValidator;
+        this.passwordEncoder = passwordEncoder;
+        this.userLookup = userLookup;
+        this.exceptionFactory = exceptionFactory;
     }
 
 
@@ -65,23 +97,23 @@ public class UserServiceImpl implements UserService {
     /**
      * {@inheritDoc}
      * <p>
-     * In this implementation, the method queries the UserRepository using the provided ID.
-     * It uses the `findById` method of the UserRepository, which returns an Optional.
+     * In this implementation, the method queries the UserLookup using the provided ID, which delegates to the
+     * UserRepository or to the plain JDBC repository depending on its current implementation. It returns an Optional.
      * If the Optional is empty (indicating that no user was found with the given ID),
      * a UserNotFoundException is thrown, ensuring that the caller is informed of the
      * absence of a user with the requested ID.
      */
     @Override
     public User getUser(Integer id) {
-        System.out.println("DEBUG: I am in the getUserByID service method");
-        return userRepository.findById(id).orElseThrow(() -> new UserNotFoundException());
+        log.debug("Fetching user {}", id);
+        return userLookup.findById(id).orElseThrow(exceptionFactory::notFound);
     }
 
     /**
      * {@inheritDoc}
      *
-     * This implementation retrieves the User entity by its email using the `findByEmail` method
-     * of the UserRepository. It returns an Optional<User>, and if no user is found with the
+     * This implementation retrieves the User by its email using the `findByEmail` method
+     * of the UserLookup. It returns an Optional<User>, and if no user is found with the
      * given email (i.e., the Optional is empty), a UserNotFoundException is thrown.
      * This ensures that the caller is made aware of the non-existence of a user with the given email.
      * <p>
@@ -89,8 +121,8 @@ public class UserServiceImpl implements UserService {
      */
     @Override
     public User getUser(String email) {
-        System.out.println("DEBUG: I am in the getUserByEmail service method");
-        return userRepository.findByEmail(email).orElseThrow(() -> new UserNotFoundException());
+        log.debug("Fetching user by email");
+        return userLookup.findByEmail(email).orElseThrow(exceptionFactory::notFound);
     }
 
     /**
@@ -103,10 +135,79 @@ public class UserServiceImpl implements UserService {
      */
     @Override
     public List<User> getAllUsers() {
-        System.out.println("DEBUG: I am in the getAllUsers service method");
+        log.debug("Fetching all users");
         return userRepository.findAll();
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * This implementation delegates to the `findAllById` method of the UserRepository, which
+     * resolves all identifiers with a single query instead of one lookup per ID.
+     */
+    @Override
+    public List<User> getUsers(Collection<Integer> ids) {
+        log.debug("Fetching users by IDs");
+        return userRepository.findAllById(ids);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This implementation reads the IDs of the page with a keyset query on the primary key, then loads those users
+     * and their roles with `findAllById`, so each page costs two indexed queries wherever it starts.
+     */
+    @Override
+    public List<User> getUsersAfter(int afterId, int size) {
+        log.debug("Fetching {} users after {}", size, afterId);
+        List<Integer> ids = userRepository.findIdsAfter(afterId, PageRequest.ofSize(size));
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        List<User> users = new ArrayList<>(userRepository.findAllById(ids));
+        users.sort(Comparator.comparingInt(User::getId));
+        return users;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This implementation reads the fields through the UserProjectionRepository fragment, which selects
+     * only the requested columns and joins roles only when they are requested.
+     */
+    @Override
+    public Map<String, Object> getUserFields(int id, Set<UserField> fields) {
+        log.debug("Fetching fields {} of user {}", fields, id);
+        return single(userRepository.findFieldsById(id, fields));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, Object> getUserFields(String email, Set<UserField> fields) {
+        log.debug("Fetching fields {} of user by email", fields);
+        return single(userRepository.findFieldsByEmail(email, fields));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Map<String, Object>> getUsersFields(Collection<Integer> ids, Set<UserField> fields) {
+        log.debug("Fetching fields {} of users by IDs", fields);
+        return userRepository.findFieldsByIdIn(ids, fields);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Map<String, Object>> getAllUsersFields(Set<UserField> fields) {
+        log.debug("Fetching fields {} of all users", fields);
+        return userRepository.findAllFields(fields);
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -119,21 +220,23 @@ public class UserServiceImpl implements UserService {
     @Override
     @Transactional
     public User createUser(User user) {
-        System.out.println("DEBUG: I am in the createUser service method");
+        log.debug("Creating user");
 
         if (!isValidUser(user)) {
-            throw new InvalidUserInputException("The provided user details are invalid.");
+            throw exceptionFactory.invalidInput("The provided user details are invalid.");
         }
 
         // Check if a user with the same email exists
         Optional<User> existingUser = userRepository.findByEmail(user.getEmail());
 
         if(existingUser.isPresent()){
-            throw new UserAlreadyExistsException("A user with email " + user.getEmail() + " already exists.");
+            throw exceptionFactory.alreadyExists("A user with this email already exists.");
         }
 
         try {
-            return userRepository.save(user);
+            User savedUser = userRepository.save(user);
+            eventPublisher.publishEvent(new UserChangedEvent(savedUser.getId(), UserChangedEvent.Type.CREATED));
+            return savedUser;
         } catch (DataIntegrityViolationException e) { // consider testing
             throw new RuntimeException("Could not save the user to the database", e);
         }
@@ -153,24 +256,26 @@ public class UserServiceImpl implements UserService {
     @Override
     @Transactional
     public User updateUser(User user) {
-        System.out.println("DEBUG: I am in the updateUser service method");
+        log.debug("Updating user {}", user.getId());
 
         if (!userRepository.existsById(user.getId())) {
-            throw new UserNotFoundException("User with id " + user.getId() + " does not exist.");
+            throw exceptionFactory.notFound("User with id " + user.getId() + " does not exist.");
         }
 
         if (!isValidUser(user)) {
-            throw new InvalidUserInputException("The provided user details are invalid.");
+            throw exceptionFactory.invalidInput("The provided user details are invalid.");
         }
 
         Optional<User> userWithSameEmail = userRepository.findByEmail(user.getEmail());
 
         if (userWithSameEmail.isPresent() && userWithSameEmail.get().getId() != user.getId()) {
-            throw new UserAlreadyExistsException("A user with email " + user.getEmail() + " already exists.");
+            throw exceptionFactory.alreadyExists("A user with this email already exists.");
         }
 
         try {
-            return userRepository.save(user);
+            User updatedUser = userRepository.save(user);
+            eventPublisher.publishEvent(new UserChangedEvent(updatedUser.getId(), UserChangedEvent.Type.UPDATED));
+            return updatedUser;
         } catch (DataIntegrityViolationException e) { // consider testing
             throw new RuntimeException("Could not update the user in the database", e);
         }
@@ -181,19 +286,21 @@ public class UserServiceImpl implements UserService {
      *
      * This implementation first verifies the existence of the User in the database using the provided ID.
      * If the user is not found, a UserNotFoundException is thrown. Otherwise, the method proceeds
-     * to delete the user and logs a warning message indicating successful deletion.
+     * to delete the user and logs the deletion.
      */
     @Override
+    @Transactional
     public void deleteUser(int id) {
-        System.out.println("DEBUG: I am in the deleteUser service method");
+        log.debug("Deleting user {}", id);
 
         // Check if user exists before trying to delete
         if (!userRepository.existsById(id)) {
-            throw new UserNotFoundException("User not found with id " + id);
+            throw exceptionFactory.notFound("User not found with id " + id);
         }
 
         userRepository.deleteById(id);
-        log.warn("(deleteUser service method) User with id " + id + " deleted successfully");
+        eventPublisher.publishEvent(new UserChangedEvent(id, UserChangedEvent.Type.DELETED));
+        log.info("User {} deleted", id);
     }
 
 
@@ -201,86 +308,51 @@ public class UserServiceImpl implements UserService {
 
 
     /**
-     * {@inheritDoc}
+     * Returns the only row of a single-user projection query.
      *
-     * This implementation checks various aspects of the User object:
-     * - Ensures the user's name and email are not null.
-     * - Verifies the name is not an empty string and is within a length range of 2 to 50 characters.
-     * - Checks the email format against a standard email regex pattern.
+     * @param rows The rows returned by the projection query.
+     * @return The first row.
+     * @throws UserNotFoundException If the query returned no rows.
      */
-    @Override
-    public boolean isValidUser(User user) {
-        System.out.println("DEBUG: I am in the isValidUser service method");
-
-        if (user.getName() == null || user.getEmail() == null) {
-            return false;
-        }
-
-        String trimmedName = user.getName().trim();
-        String trimmedEmail = user.getEmail().trim();
-
-        // Check for empty strings
-        if (trimmedName.isEmpty() || trimmedEmail.isEmpty()) {
-            return false;
-        }
-
-        // Check for name length
-        if (trimmedName.length() < 2 || trimmedName.length() > 50) {
-            return false;
+    private Map<String, Object> single(List<Map<String, Object>> rows) {
+        if (rows.isEmpty()) {
+            throw exceptionFactory.notFound();
         }
-
-        // Check for valid email format
-        String emailRegex = "^[A-Za-z0-9+_.-]+@(.+)$";
-        Pattern pattern = Pattern.compile(emailRegex);
-        Matcher matcher = pattern.matcher(trimmedEmail);
-
-        return matcher.matches();
+        return rows.get(0);
     }
 
     /**
      * {@inheritDoc}
      *
-     * This implementation first checks if a user with the specified email exists in the database.
-     * If not, it creates a new User entity with the provided name, email, age, and password.
-     * The user is then assigned a role based on the roleName parameter. The role is retrieved
-     * using the RoleServiceImpl. The newly created user is then saved to the UserRepository.
+     * This implementation delegates to the UserInputValidator, which applies the same name and email rules
+     * as the request validation in UserController:
+     * - Ensures the user's name and email are not null.
+     * - Verifies the trimmed name is within a length range of 2 to 50 characters.
+     * - Checks the email format with a single-pass scan.
      */
     @Override
-    @Transactional
-    public void createDefaultUserIfNotFound(String name, String email, int age, String password, String roleName) {
-        System.out.println("DEBUG: I am in the createDefaultUserIfNotFound service method");
-
-        Optional<User> existingUser = userRepository.findByEmail(email);
-        if (existingUser.isEmpty()) {
-            User user = new User();
-            user.setName(name);
-            user.setEmail(email);
-            user.setAge(age);
-            user.setPassword(password);
-            Set<Role> roles = roleService.findRolesByNames(Collections.singleton(roleName)); // Example method
-            user.setRoles(roles);
-            userRepository.save(user);
-        }
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public boolean isValidUser(User user) {
+        log.debug("Validating user {}", user.getId());
+        return userInputValidator.isValidUser(user);
     }
 
     /**
      * {@inheritDoc}
      *
-     * In this implementation, the password from the DTO is directly set to the User entity.
-     * In a real-world scenario, consider encrypting or hashing the password before setting it.
+     * In this implementation, the raw password from the DTO is hashed with the PasswordEncoder bean.
      * Additionally, this method retrieves roles by their names using the RoleServiceImpl
      * and sets these roles to the User entity.
      */
     @Override
-    @Transactional
     public User convertToUserEntity(UserDTO userDTO) {
-        System.out.println("DEBUG: I am in the convertToUserEntity service method");
+        log.debug("Converting UserDTO to User entity");
         User user = new User();
         user.setId(userDTO.id());
         user.setName(userDTO.name());
         user.setEmail(userDTO.email());
         user.setAge(userDTO.age());
-        user.setPassword(userDTO.rawPassword()); // This would ideally encrypt the password before setting.
+        user.setPasswordHash(passwordEncoder.encode(userDTO.rawPassword()));
         Set<Role> roles = roleService.findRolesByNames(userDTO.roles()); // Example method
         user.setRoles(roles);
         return user;
@@ -293,11 +365,12 @@ public class UserServiceImpl implements UserService {
      * This implementation converts the User entity into a UserResponseDTO.
      * It includes user details and their associated roles, formatted as a list of role names.
      * Sensitive information like the user's password is not included in the UserResponseDTO.
+     * The roles are loaded eagerly with the user, so the conversion needs no transaction of its own.
      */
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.SUPPORTS)
     public UserResponseDTO convertToResponseDTO(User user) {
-        System.out.println("DEBUG: I am in the convertToResponseDTO controller method");
+        log.debug("Converting User entity to UserResponseDTO");
         Set<String> roles = user.getRoles().stream()
                 .map(Role::getName)
                 .collect(Collectors.toSet());
@@ -319,6 +392,7 @@ public class UserServiceImpl implements UserService {
      * It facilitates the conversion of multiple User entities for client responses.
      */
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<UserResponseDTO> convertUsersToResponseDTOs(List<User> users) {
         return users.stream()
                 .map(this::convertToResponseDTO) // Assuming convertToResponseDTO is already implemented here
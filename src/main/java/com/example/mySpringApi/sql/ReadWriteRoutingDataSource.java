@@ -0,0 +1,70 @@
+package com.example.mySpringApi.sql;
+
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * DataSource that hands out replica connections inside read-only transactions and primary connections
+ * everywhere else.
+ * <p>
+ * Transaction managers fetch their connection before the transaction is marked read-only, so the choice cannot
+ * be made when the connection is requested. The returned connection is therefore a lazy proxy: the settings
+ * applied during transaction begin are recorded, and the physical connection is only fetched, from the right
+ * pool, when the first statement runs.
+ * <p>
+ * Work that must not read stale data, such as building a body the response cache keeps until the next change of
+ * the user, runs through {@link #onPrimary}: its read-only transactions are served by the primary, so a lagging
+ * replica cannot hand back a row older than a committed change.
+ * <p>
+ * This class does not own the pools; whoever created them closes them.
+ */
+public class ReadWriteRoutingDataSource extends LazyConnectionDataSourceProxy {
+
+    private static final String PRIMARY = "primary";
+    private static final String REPLICA = "replica";
+
+    private static final ThreadLocal<Boolean> PRIMARY_REQUIRED = ThreadLocal.withInitial(() -> false);
+
+    /**
+     * @param primary The DataSource for writes and for work outside transactions.
+     * @param replica The DataSource for read-only transactions.
+     */
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica) {
+        AbstractRoutingDataSource router = new AbstractRoutingDataSource() {
+            @Override
+            protected Object determineCurrentLookupKey() {
+                return TransactionSynchronizationManager.isCurrentTransactionReadOnly() && !PRIMARY_REQUIRED.get()
+                        ? REPLICA : PRIMARY;
+            }
+        };
+        router.setTargetDataSources(Map.of(PRIMARY, primary, REPLICA, replica));
+        router.setDefaultTargetDataSource(primary);
+        router.afterPropertiesSet();
+        setTargetDataSource(router);
+        afterPropertiesSet();
+    }
+
+    /**
+     * Runs work whose statements all go to the primary, read-only transactions included. Connections are chosen
+     * when their first statement runs, so this applies to the transactions the work starts, not to a transaction
+     * that already ran a statement on the replica.
+     *
+     * @param work The work to run on the calling thread.
+     * @param <T>  The type of the result.
+     * @return The result of the work.
+     */
+    public static <T> T onPrimary(Supplier<T> work) {
+        boolean previous = PRIMARY_REQUIRED.get();
+        PRIMARY_REQUIRED.set(true);
+        try {
+            return work.get();
+        } finally {
+            PRIMARY_REQUIRED.set(previous);
+        }
+    }
+}
@@ -0,0 +1,263 @@
+package com.example.mySpringApi.sql;
+
+import com.example.mySpringApi.config.SlowQueryProperties;
+import com.example.mySpringApi.repository.JdbcUserRepository;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * SlowQueryLog logs the JDBC statements that take longer than {@code app.slow-query.threshold}, and keeps a
+ * summary of the slowest statement shapes.
+ * <p>
+ * Each slow statement is logged at WARN with its duration, the repository method that issued it, its SQL and
+ * its bind values. String and binary binds are redacted unless {@code app.slow-query.redact-binds} is false,
+ * since they may hold emails or password hashes. Statements under the threshold cost one comparison.
+ * <p>
+ * The repository method is found by walking the stack of the slow statement only, looking for the Spring Data
+ * proxy of a repository interface of this application, or for the JdbcUserRepository. Statements issued outside
+ * a repository are reported as "-".
+ * <p>
+ * When {@code app.slow-query.explain} is true, the first slow execution of each SELECT shape is followed by an
+ * {@code EXPLAIN} of the same statement with the same binds, on the same connection. The plan is logged and kept
+ * in the summary.
+ */
+@Slf4j
+public class SlowQueryLog implements QueryExecutionListener {
+
+    private static final String REPOSITORY_PACKAGE = "com.example.mySpringApi.repository.";
+
+    private final SlowQueryProperties properties;
+    private final long thresholdMillis;
+    private final ConcurrentHashMap<String, ShapeStats> shapes = new ConcurrentHashMap<>();
+    private final AtomicLong untracked = new AtomicLong();
+    private final ThreadLocal<Boolean> explaining = new ThreadLocal<>();
+
+    public SlowQueryLog(SlowQueryProperties properties) {
+        this.properties = properties;
+        this.thresholdMillis = properties.getThreshold().toMillis();
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (execInfo.getElapsedTime() < thresholdMillis || explaining.get() != null) {
+            return;
+        }
+        String repositoryMethod = repositoryMethod();
+        for (QueryInfo queryInfo : queryInfoList) {
+            String binds = binds(queryInfo);
+            ShapeStats stats = statsFor(queryInfo.getQuery(), repositoryMethod);
+            String plan = null;
+            if (stats != null) {
+                stats.record(execInfo.getElapsedTime(), binds);
+                if (properties.isExplain() && stats.plan == null && isSelect(queryInfo.getQuery())) {
+                    plan = explain(execInfo, queryInfo);
+                    stats.plan = plan;
+                }
+            }
+            if (plan == null) {
+                log.warn("Slow query {}ms repository={} sql={} binds={}",
+                        execInfo.getElapsedTime(), repositoryMethod, queryInfo.getQuery(), binds);
+            } else {
+                log.warn("Slow query {}ms repository={} sql={} binds={} plan:\n{}",
+                        execInfo.getElapsedTime(), repositoryMethod, queryInfo.getQuery(), binds, plan);
+            }
+        }
+    }
+
+    /**
+     * @param limit The maximum number of shapes to return.
+     * @return The slow statement shapes, by maximum duration, slowest first.
+     */
+    public List<SlowQuerySummary> slowest(int limit) {
+        List<SlowQuerySummary> summaries = new ArrayList<>(shapes.size());
+        shapes.forEach((sql, stats) -> summaries.add(stats.summary(sql)));
+        summaries.sort(Comparator.comparingLong(SlowQuerySummary::maxMillis).reversed());
+        return summaries.size() > limit ? new ArrayList<>(summaries.subList(0, limit)) : summaries;
+    }
+
+    /**
+     * @return The number of slow executions not added to the summary because it already held
+     * {@code app.slow-query.max-shapes} shapes.
+     */
+    public long getUntrackedCount() {
+        return untracked.get();
+    }
+
+    private ShapeStats statsFor(String sql, String repositoryMethod) {
+        ShapeStats stats = shapes.get(sql);
+        if (stats == null) {
+            if (shapes.size() >= properties.getMaxShapes()) {
+                untracked.incrementAndGet();
+                return null;
+            }
+            stats = shapes.computeIfAbsent(sql, key -> new ShapeStats(repositoryMethod));
+        }
+        return stats;
+    }
+
+    private String binds(QueryInfo queryInfo) {
+        if (queryInfo.getParametersList().isEmpty()) {
+            return "[]";
+        }
+        StringBuilder binds = new StringBuilder();
+        for (List<ParameterSetOperation> parameters : queryInfo.getParametersList()) {
+            binds.append('[');
+            for (int i = 0; i < parameters.size(); i++) {
+                ParameterSetOperation parameter = parameters.get(i);
+                Object[] args = parameter.getArgs();
+                // setNull(index, sqlType) carries the SQL type, not a value
+                Object value = ParameterSetOperation.isSetNullParameterOperation(parameter) || args.length < 2 ? null : args[1];
+                binds.append(i == 0 ? "" : ", ").append(format(value));
+            }
+            binds.append(']');
+        }
+        return binds.toString();
+    }
+
+    private String format(Object value) {
+        if (value == null || value instanceof Number || value instanceof Boolean
+                || value instanceof Date || value instanceof TemporalAccessor) {
+            return String.valueOf(value);
+        }
+        if (!properties.isRedactBinds()) {
+            return "'" + value + "'";
+        }
+        if (value instanceof CharSequence text) {
+            return "<string:" + text.length() + ">";
+        }
+        if (value instanceof byte[] bytes) {
+            return "<bytes:" + bytes.length + ">";
+        }
+        return "<" + value.getClass().getSimpleName() + ">";
+    }
+
+    private String explain(ExecutionInfo execInfo, QueryInfo queryInfo) {
+        explaining.set(Boolean.TRUE);
+        try {
+            Connection connection = execInfo.getStatement().getConnection();
+            try (PreparedStatement explain = connection.prepareStatement("EXPLAIN " + queryInfo.getQuery())) {
+                if (!queryInfo.getParametersList().isEmpty()) {
+                    for (ParameterSetOperation parameter : queryInfo.getParametersList().get(0)) {
+                        Object[] args = parameter.getArgs();
+                        if (args.length > 1 && args[0] instanceof Integer index) {
+                            if (ParameterSetOperation.isSetNullParameterOperation(parameter)) {
+                                explain.setNull(index, (Integer) args[1]);
+                            } else {
+                                explain.setObject(index, args[1]);
+                            }
+                        }
+                    }
+                }
+                try (ResultSet rows = explain.executeQuery()) {
+                    return formatPlan(rows);
+                }
+            }
+        } catch (SQLException | RuntimeException e) {
+            log.debug("Could not EXPLAIN slow query", e);
+            return "EXPLAIN failed: " + e.getMessage();
+        } finally {
+            explaining.remove();
+        }
+    }
+
+    private static String formatPlan(ResultSet rows) throws SQLException {
+        int columns = rows.getMetaData().getColumnCount();
+        StringBuilder plan = new StringBuilder();
+        if (columns > 1) {
+            for (int i = 1; i <= columns; i++) {
+                plan.append(i == 1 ? "" : " | ").append(rows.getMetaData().getColumnLabel(i));
+            }
+            plan.append('\n');
+        }
+        while (rows.next()) {
+            for (int i = 1; i <= columns; i++) {
+                plan.append(i == 1 ? "" : " | ").append(rows.getString(i));
+            }
+            plan.append('\n');
+        }
+        return plan.toString().stripTrailing();
+    }
+
+    private static boolean isSelect(String sql) {
+        return sql.stripLeading().toLowerCase(Locale.ROOT).startsWith("select");
+    }
+
+    /**
+     * Returns "Interface.method" for the innermost repository proxy on the stack, "JdbcUserRepository.method" for
+     * the plain JDBC repository, or "-".
+     */
+    private static String repositoryMethod() {
+        return StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE).walk(frames -> frames
+                .filter(frame -> frame.getDeclaringClass() == JdbcUserRepository.class
+                        || Proxy.isProxyClass(frame.getDeclaringClass()))
+                .map(frame -> {
+                    if (frame.getDeclaringClass() == JdbcUserRepository.class) {
+                        return JdbcUserRepository.class.getSimpleName() + "." + frame.getMethodName();
+                    }
+                    for (Class<?> type : frame.getDeclaringClass().getInterfaces()) {
+                        if (type.getName().startsWith(REPOSITORY_PACKAGE)) {
+                            return type.getSimpleName() + "." + frame.getMethodName();
+                        }
+                    }
+                    return null;
+                })
+                .filter(name -> name != null)
+                .findFirst()
+                .orElse("-"));
+    }
+
+    /**
+     * Slow executions of one statement shape.
+     */
+    private static final class ShapeStats {
+        private final String repositoryMethod;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalMillis = new LongAdder();
+        private final LongAccumulator maxMillis = new LongAccumulator(Math::max, 0);
+        private volatile String lastBinds;
+        private volatile Instant lastSeen;
+        private volatile String plan;
+
+        private ShapeStats(String repositoryMethod) {
+            this.repositoryMethod = repositoryMethod;
+        }
+
+        private void record(long millis, String binds) {
+            count.increment();
+            totalMillis.add(millis);
+            maxMillis.accumulate(millis);
+            lastBinds = binds;
+            lastSeen = Instant.now();
+        }
+
+        private SlowQuerySummary summary(String sql) {
+            long executions = count.sum();
+            return new SlowQuerySummary(sql, repositoryMethod, executions, maxMillis.get(),
+                    executions == 0 ? 0 : totalMillis.sum() / executions, lastBinds, lastSeen, plan);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.mySpringApi.sql;
+
+import java.time.Instant;
+
+/**
+ * Summary of the slow executions of one statement shape, as kept by {@link SlowQueryLog}.
+ *
+ * @param sql              The statement, with its placeholders.
+ * @param repositoryMethod The repository method that first issued it slowly, such as "UserRepository.findAll".
+ * @param count            The number of slow executions.
+ * @param maxMillis        The duration of the slowest execution.
+ * @param averageMillis    The average duration of the slow executions.
+ * @param lastBinds        The (possibly redacted) bind values of the last slow execution.
+ * @param lastSeen         When the last slow execution completed.
+ * @param plan             The EXPLAIN output, or null if plan capture is disabled or the statement is not a SELECT.
+ */
+public record SlowQuerySummary(String sql, String repositoryMethod, long count, long maxMillis, long averageMillis,
+                               String lastBinds, Instant lastSeen, String plan) {
+}
@@ -0,0 +1,12 @@
+package com.example.mySpringApi.sql;
+
+/**
+ * Thrown by {@link SqlBudgetFilter} when a request executes more statements than its budget allows and
+ * {@code app.sql-budget.fail-on-violation} is true.
+ */
+public class SqlBudgetExceededException extends IllegalStateException {
+
+    public SqlBudgetExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.mySpringApi.sql;
+
+import com.example.mySpringApi.config.SqlBudgetProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * SqlBudgetFilter counts the SQL statements of each request and reports requests that exceed the budget.
+ * <p>
+ * A request is over budget when it executes more than {@code app.sql-budget.max-statements} statements, or
+ * the same statement shape more than {@code app.sql-budget.max-repeats} times. It is then logged as a warning
+ * with the most repeated statement, or fails with a {@link SqlBudgetExceededException} when
+ * {@code app.sql-budget.fail-on-violation} is true, as in the tests.
+ * <p>
+ * The filter runs ahead of the security filter chain, so statements issued during authentication count.
+ * Statements executed on other threads, such as the body of a streaming response, do not.
+ */
+@Slf4j
+public class SqlBudgetFilter extends OncePerRequestFilter {
+
+    private final SqlStatementCounter counter;
+    private final SqlBudgetProperties properties;
+
+    public SqlBudgetFilter(SqlStatementCounter counter, SqlBudgetProperties properties) {
+        this.counter = counter;
+        this.properties = properties;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        SqlStatementCounter.Scope scope = counter.open();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            scope.close();
+        }
+        if (scope.total() > properties.getMaxStatements() || scope.maxRepeats() > properties.getMaxRepeats()) {
+            String message = String.format(
+                    "SQL budget exceeded: %s %s executed %d statements (budget %d), most repeated %d times (budget %d): %s",
+                    request.getMethod(), request.getRequestURI(), scope.total(), properties.getMaxStatements(),
+                    scope.maxRepeats(), properties.getMaxRepeats(), scope.mostRepeatedShape());
+            if (properties.isFailOnViolation()) {
+                throw new SqlBudgetExceededException(message);
+            }
+            log.warn(message);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.mySpringApi.sql;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SqlStatementCounter counts the SQL statements executed by the current thread while a {@link Scope} is open.
+ * <p>
+ * It listens to every statement executed through the application DataSource, whether issued by Hibernate,
+ * a JdbcTemplate or plain JDBC. Statements are also counted per shape, the SQL text with its {@code ?}
+ * placeholders, so a statement repeated once per row of a previous result (an N+1 query) stands out.
+ * <p>
+ * Scopes nest: a statement is counted in every open scope of its thread. When no scope is open, the
+ * listener does a single ThreadLocal read per statement.
+ */
+public class SqlStatementCounter implements QueryExecutionListener {
+
+    private final ThreadLocal<Scope> current = new ThreadLocal<>();
+
+    /**
+     * Opens a scope on the current thread. Close it on the same thread, usually with try-with-resources.
+     *
+     * @return The new scope.
+     */
+    public Scope open() {
+        Scope scope = new Scope(this, current.get());
+        current.set(scope);
+        return scope;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        for (Scope scope = current.get(); scope != null; scope = scope.parent) {
+            for (QueryInfo queryInfo : queryInfoList) {
+                scope.record(queryInfo.getQuery());
+            }
+        }
+    }
+
+    /**
+     * The statements counted between {@link SqlStatementCounter#open()} and {@link #close()}.
+     */
+    public static final class Scope implements AutoCloseable {
+
+        private final SqlStatementCounter counter;
+        private final Scope parent;
+        private final Map<String, Integer> shapes = new HashMap<>();
+        private int total;
+        private boolean closed;
+
+        private Scope(SqlStatementCounter counter, Scope parent) {
+            this.counter = counter;
+            this.parent = parent;
+        }
+
+        private void record(String sql) {
+            total++;
+            shapes.merge(sql, 1, Integer::sum);
+        }
+
+        /**
+         * @return The number of statements executed in this scope.
+         */
+        public int total() {
+            return total;
+        }
+
+        /**
+         * @return The number of executions per statement shape.
+         */
+        public Map<String, Integer> shapes() {
+            return Collections.unmodifiableMap(shapes);
+        }
+
+        /**
+         * @return The shape executed most often, or null if no statement was executed.
+         */
+        public String mostRepeatedShape() {
+            String shape = null;
+            int max = 0;
+            for (Map.Entry<String, Integer> entry : shapes.entrySet()) {
+                if (entry.getValue() > max) {
+                    max = entry.getValue();
+                    shape = entry.getKey();
+                }
+            }
+            return shape;
+        }
+
+        /**
+         * @return The number of executions of the most repeated shape.
+         */
+        public int maxRepeats() {
+            String shape = mostRepeatedShape();
+            return shape == null ? 0 : shapes.get(shape);
+        }
+
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                if (parent == null) {
+                    counter.current.remove();
+                } else {
+                    counter.current.set(parent);
+                }
+            }
+        }
+    }
+}
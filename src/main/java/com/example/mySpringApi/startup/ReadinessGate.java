@@ -0,0 +1,101 @@
+package com.example.mySpringApi.startup;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ReadinessGate keeps the application out of the load balancer until its startup tasks are done.
+ * <p>
+ * Work that a node must finish before it serves traffic efficiently, such as seeding, cache warmup or index builds,
+ * is wrapped in a {@link Task}:
+ * <pre>
+ * try (ReadinessGate.Task task = readinessGate.begin("seed")) {
+ *     ...
+ * }
+ * </pre>
+ * While any task is open, the readiness probe ({@code /actuator/health/readiness}) reports OUT_OF_SERVICE, even
+ * after Spring Boot considers the application ready. Tasks may run on other threads and outlive the runners.
+ * Each task is also recorded as an "app.startup.task" step, so it appears in the {@link StartupReport}.
+ *
+ * @see com.example.mySpringApi.config.ReadinessConfig
+ */
+@Component
+@Slf4j
+public class ReadinessGate {
+
+    private final ApplicationStartup applicationStartup;
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    public ReadinessGate(ApplicationStartup applicationStartup) {
+        this.applicationStartup = applicationStartup;
+    }
+
+    /**
+     * Opens a startup task. Readiness is held until it is closed.
+     *
+     * @param name The name of the task, unique among the open tasks.
+     * @return The task, to close once the work is done, successfully or not.
+     * @throws IllegalStateException if a task with the same name is already open.
+     */
+    public Task begin(String name) {
+        if (!pending.add(name)) {
+            throw new IllegalStateException("Startup task already open: " + name);
+        }
+        StartupStep step = applicationStartup.start("app.startup.task").tag("name", name);
+        log.info("Startup task {} started, readiness held", name);
+        return new Task(name, step, System.nanoTime());
+    }
+
+    /**
+     * @return true if no startup task is open.
+     */
+    public boolean isOpen() {
+        return pending.isEmpty();
+    }
+
+    /**
+     * @return The names of the open startup tasks, sorted.
+     */
+    public Set<String> getPending() {
+        return new TreeSet<>(pending);
+    }
+
+    /**
+     * A startup task in progress. Closing it more than once has no effect.
+     */
+    public final class Task implements AutoCloseable {
+
+        private final String name;
+        private final StartupStep step;
+        private final long startNanos;
+        private boolean closed;
+
+        private Task(String name, StartupStep step, long startNanos) {
+            this.name = name;
+            this.step = step;
+            this.startNanos = startNanos;
+        }
+
+        @Override
+        public synchronized void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            step.end();
+            pending.remove(name);
+            log.info("Startup task {} finished in {} ms", name, (System.nanoTime() - startNanos) / 1_000_000);
+            if (pending.isEmpty()) {
+                log.info("All startup tasks finished, readiness released");
+            }
+        }
+    }
+}
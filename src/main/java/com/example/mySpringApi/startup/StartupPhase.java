@@ -0,0 +1,16 @@
+package com.example.mySpringApi.startup;
+
+import java.util.Map;
+
+/**
+ * One recorded step of the application startup, as reported by {@link StartupReport}.
+ *
+ * @param name           The step name, such as "spring.beans.instantiate" or "app.startup.task".
+ * @param tags           The step tags, such as the bean name or the startup task name.
+ * @param startMillis    When the step started, in milliseconds since the application started.
+ * @param durationMillis The duration of the step, nested steps included.
+ * @param selfMillis     The duration of the step, nested steps excluded.
+ */
+public record StartupPhase(String name, Map<String, String> tags, long startMillis, long durationMillis,
+                           long selfMillis) {
+}
@@ -0,0 +1,86 @@
+package com.example.mySpringApi.startup;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * StartupReport ranks the startup steps recorded by the {@link BufferingApplicationStartup} set in
+ * MySpringApiApplication.main.
+ * <p>
+ * Steps nest: the refresh of the context contains the instantiation of every bean, and the instantiation of a bean
+ * contains that of its dependencies. Ranking by duration would only list the outer steps, so steps are ranked by
+ * their self time, the part of their duration not spent in nested steps. Steps recorded on other threads, such as
+ * asynchronous startup tasks, can be attached to an unrelated parent; their own duration is still exact.
+ * <p>
+ * The timeline is read without draining it, so the report can be requested any number of times.
+ */
+@Component
+public class StartupReport {
+
+    private final ApplicationStartup applicationStartup;
+
+    @Autowired
+    public StartupReport(ApplicationStartup applicationStartup) {
+        this.applicationStartup = applicationStartup;
+    }
+
+    /**
+     * @return true if startup steps are recorded, which is not the case when the application is not started
+     * through its main method, as in tests.
+     */
+    public boolean isRecording() {
+        return applicationStartup instanceof BufferingApplicationStartup;
+    }
+
+    /**
+     * Returns the startup steps with the longest self time.
+     *
+     * @param limit The maximum number of steps to return.
+     * @return The steps, longest self time first, or an empty list if steps are not recorded.
+     */
+    public List<StartupPhase> slowest(int limit) {
+        if (!(applicationStartup instanceof BufferingApplicationStartup buffering)) {
+            return Collections.emptyList();
+        }
+        StartupTimeline timeline = buffering.getBufferedTimeline();
+        List<StartupTimeline.TimelineEvent> events = timeline.getEvents();
+
+        Map<Long, Duration> nested = new HashMap<>();
+        for (StartupTimeline.TimelineEvent event : events) {
+            Long parentId = event.getStartupStep().getParentId();
+            if (parentId != null) {
+                nested.merge(parentId, event.getDuration(), Duration::plus);
+            }
+        }
+
+        return events.stream()
+                .map(event -> phase(event, timeline, nested.getOrDefault(event.getStartupStep().getId(), Duration.ZERO)))
+                .sorted(Comparator.comparingLong(StartupPhase::selfMillis).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    private static StartupPhase phase(StartupTimeline.TimelineEvent event, StartupTimeline timeline, Duration nested) {
+        StartupStep step = event.getStartupStep();
+        Map<String, String> tags = new LinkedHashMap<>();
+        for (StartupStep.Tag tag : step.getTags()) {
+            tags.put(tag.getKey(), tag.getValue());
+        }
+        Duration self = event.getDuration().minus(nested);
+        return new StartupPhase(step.getName(), tags,
+                Duration.between(timeline.getStartTime(), event.getStartTime()).toMillis(),
+                event.getDuration().toMillis(), self.isNegative() ? 0 : self.toMillis());
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.mySpringApi.tracing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * DispatchSpanFilter runs right after the security filter chain. It closes the {@code security} span opened by
+ * {@link TracingFilter} and times the rest of the request in a {@code dispatch} span.
+ * <p>
+ * The dispatch span contains the controller span; the difference between the two is Spring MVC's own work,
+ * mostly argument binding and response serialization.
+ */
+public class DispatchSpanFilter extends OncePerRequestFilter {
+
+    private final Tracer tracer;
+
+    public DispatchSpanFilter(Tracer tracer) {
+        this.tracer = tracer;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (!(request.getAttribute(TracingFilter.SECURITY_SPAN) instanceof Span security)) {
+            chain.doFilter(request, response);
+            return;
+        }
+        security.close();
+        try (Span ignored = tracer.start("dispatch")) {
+            chain.doFilter(request, response);
+        }
+    }
+}
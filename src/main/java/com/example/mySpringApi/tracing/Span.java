@@ -0,0 +1,58 @@
+package com.example.mySpringApi.tracing;
+
+/**
+ * A timed section of a {@link Trace}, such as one service call or one repository query.
+ * <p>
+ * Spans are opened with {@link Tracer#start(String)} and closed with {@link #close()}, usually in a
+ * try-with-resources block. Closing a span twice has no effect.
+ */
+public class Span implements AutoCloseable {
+
+    /**
+     * The span returned when the current thread is not being traced. Closing it does nothing.
+     */
+    static final Span NOOP = new Span(null, null, 0, 0);
+
+    private final Trace trace;
+    private final String name;
+    private final int depth;
+    private final long startNanos;
+    private long endNanos;
+
+    Span(Trace trace, String name, int depth, long startNanos) {
+        this.trace = trace;
+        this.name = name;
+        this.depth = depth;
+        this.startNanos = startNanos;
+    }
+
+    @Override
+    public void close() {
+        if (trace != null && endNanos == 0) {
+            endNanos = System.nanoTime();
+            trace.closed(this);
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return The nesting level of the span; 0 for spans opened directly under the request.
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    long getStartNanos() {
+        return startNanos;
+    }
+
+    /**
+     * @return The duration in nanoseconds, or -1 if the span was never closed.
+     */
+    public long getDurationNanos() {
+        return endNanos == 0 ? -1 : endNanos - startNanos;
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.mySpringApi.tracing;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The spans recorded for one request, in the order they were opened.
+ * <p>
+ * A trace belongs to the thread handling the request and is not thread-safe. Work handed off to other
+ * threads, such as the body of a streaming response, is not part of it. Once finished, a trace is only
+ * read, through the {@link Tracer} ring buffer.
+ */
+public class Trace {
+
+    private final String name;
+    private final String requestId;
+    private final long startEpochMillis;
+    private final long startNanos;
+    private final int maxSpans;
+    private final List<Span> spans;
+    private int depth;
+    private int droppedSpans;
+    private long durationNanos = -1;
+    private int status;
+
+    Trace(String name, String requestId, int maxSpans) {
+        this.name = name;
+        this.requestId = requestId;
+        this.maxSpans = maxSpans;
+        this.spans = new ArrayList<>(Math.min(maxSpans, 16));
+        this.startEpochMillis = System.currentTimeMillis();
+        this.startNanos = System.nanoTime();
+    }
+
+    Span open(String spanName) {
+        Span span = new Span(this, spanName, depth, System.nanoTime());
+        if (spans.size() < maxSpans) {
+            spans.add(span);
+        } else {
+            droppedSpans++;
+        }
+        depth++;
+        return span;
+    }
+
+    void closed(Span span) {
+        depth = span.getDepth();
+    }
+
+    void finish(int status) {
+        this.status = status;
+        this.durationNanos = System.nanoTime() - startNanos;
+    }
+
+    /**
+     * @return The request this trace describes, such as "GET /userAPI/id/1".
+     */
+    public String getName() {
+        return name;
+    }
+
+    public String getRequestId() {
+        return requestId;
+    }
+
+    public long getStartEpochMillis() {
+        return startEpochMillis;
+    }
+
+    /**
+     * @return The duration in nanoseconds, or -1 while the request is in progress.
+     */
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    /**
+     * @return The HTTP status of the response, or 0 if the trace was not started by a request.
+     */
+    public int getStatus() {
+        return status;
+    }
+
+    public List<Span> getSpans() {
+        return Collections.unmodifiableList(spans);
+    }
+
+    /**
+     * @return The number of spans over {@code app.tracing.max-spans} that were timed but not recorded.
+     */
+    public int getDroppedSpans() {
+        return droppedSpans;
+    }
+
+    /**
+     * @return The offset of a span's start from the start of the trace, in nanoseconds.
+     */
+    public long offsetNanos(Span span) {
+        return span.getStartNanos() - startNanos;
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.mySpringApi.tracing;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Serializable view of a completed {@link Trace}, with times in microseconds.
+ *
+ * @param name           The request, such as "GET /userAPI/id/1".
+ * @param requestId      The request ID, or null if request logging is disabled.
+ * @param status         The HTTP status of the response.
+ * @param startedAt      When the request started.
+ * @param durationMicros The total duration of the request.
+ * @param droppedSpans   The number of spans over the per-trace limit that were not recorded.
+ * @param spans          The recorded spans, in the order they were opened.
+ */
+public record TraceSummary(String name, String requestId, int status, Instant startedAt, long durationMicros,
+                           int droppedSpans, List<SpanSummary> spans) {
+
+    /**
+     * @param name           The span name, such as "repository UserRepository.findByEmail".
+     * @param depth          The nesting level; 0 for spans directly under the request.
+     * @param offsetMicros   The start of the span relative to the start of the request.
+     * @param durationMicros The duration of the span, or -1 if it was never closed.
+     */
+    public record SpanSummary(String name, int depth, long offsetMicros, long durationMicros) {
+    }
+
+    public static TraceSummary of(Trace trace) {
+        List<SpanSummary> spans = new ArrayList<>(trace.getSpans().size());
+        for (Span span : trace.getSpans()) {
+            long duration = span.getDurationNanos();
+            spans.add(new SpanSummary(span.getName(), span.getDepth(), trace.offsetNanos(span) / 1_000,
+                    duration < 0 ? -1 : duration / 1_000));
+        }
+        return new TraceSummary(trace.getName(), trace.getRequestId(), trace.getStatus(),
+                Instant.ofEpochMilli(trace.getStartEpochMillis()), trace.getDurationNanos() / 1_000,
+                trace.getDroppedSpans(), spans);
+    }
+}
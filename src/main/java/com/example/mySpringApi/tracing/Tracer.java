@@ -0,0 +1,114 @@
+package com.example.mySpringApi.tracing;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Tracer records the spans of sampled requests and keeps the most recent completed traces in a ring buffer.
+ * <p>
+ * The trace of the request being handled is held in a ThreadLocal. When the current thread is not traced,
+ * {@link #start(String)} performs one ThreadLocal read and returns a shared no-op span, so instrumented code
+ * costs next to nothing for unsampled requests. Sampled requests allocate one Span per instrumented call.
+ * <p>
+ * Completed traces are written to a fixed-size array at an atomically incremented position, overwriting the
+ * oldest one. Writers never wait for each other or for readers.
+ */
+public class Tracer {
+
+    private final ThreadLocal<Trace> current = new ThreadLocal<>();
+    private final double sampleRate;
+    private final int maxSpans;
+    private final AtomicReferenceArray<Trace> buffer;
+    private final AtomicLong written = new AtomicLong();
+
+    /**
+     * @param sampleRate Fraction of requests to trace, from 0 to 1.
+     * @param bufferSize Number of completed traces to keep.
+     * @param maxSpans   Maximum number of spans recorded per trace.
+     */
+    public Tracer(double sampleRate, int bufferSize, int maxSpans) {
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("The trace buffer size must be at least 1");
+        }
+        this.sampleRate = sampleRate;
+        this.maxSpans = maxSpans;
+        this.buffer = new AtomicReferenceArray<>(bufferSize);
+    }
+
+    /**
+     * Starts a trace on the current thread if the request is sampled.
+     *
+     * @param name      The name of the request, such as "GET /userAPI/id/1".
+     * @param requestId The request ID, or null.
+     * @return The new trace, or null if the request is not sampled or the thread is already traced.
+     */
+    public Trace begin(String name, String requestId) {
+        if (current.get() != null || !sampled()) {
+            return null;
+        }
+        Trace trace = new Trace(name, requestId, maxSpans);
+        current.set(trace);
+        return trace;
+    }
+
+    /**
+     * Completes a trace started on the current thread and publishes it to the ring buffer.
+     *
+     * @param trace  The trace returned by {@link #begin(String, String)}.
+     * @param status The HTTP status of the response.
+     */
+    public void end(Trace trace, int status) {
+        current.remove();
+        trace.finish(status);
+        buffer.set((int) (written.getAndIncrement() % buffer.length()), trace);
+    }
+
+    /**
+     * Opens a span in the trace of the current thread.
+     *
+     * @param name The name of the span.
+     * @return The open span, or a no-op span if the current thread is not traced.
+     */
+    public Span start(String name) {
+        Trace trace = current.get();
+        return trace == null ? Span.NOOP : trace.open(name);
+    }
+
+    /**
+     * @return true if the current thread is being traced.
+     */
+    public boolean isTracing() {
+        return current.get() != null;
+    }
+
+    /**
+     * @param limit The maximum number of traces to return.
+     * @return The slowest traces in the ring buffer, slowest first.
+     */
+    public List<Trace> slowest(int limit) {
+        List<Trace> traces = new ArrayList<>(buffer.length());
+        for (int i = 0; i < buffer.length(); i++) {
+            Trace trace = buffer.get(i);
+            if (trace != null) {
+                traces.add(trace);
+            }
+        }
+        traces.sort(Comparator.comparingLong(Trace::getDurationNanos).reversed());
+        return traces.size() > limit ? new ArrayList<>(traces.subList(0, limit)) : traces;
+    }
+
+    /**
+     * @return The number of traces completed since startup, including those no longer in the buffer.
+     */
+    public long getCompletedCount() {
+        return written.get();
+    }
+
+    private boolean sampled() {
+        return sampleRate >= 1.0 || (sampleRate > 0.0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
+}
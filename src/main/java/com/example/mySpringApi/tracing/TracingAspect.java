@@ -0,0 +1,89 @@
+package com.example.mySpringApi.tracing;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * TracingAspect opens a span around each call into the instrumented layers:
+ * <ul>
+ *     <li>{@code controller}: handler methods of every @RestController.</li>
+ *     <li>{@code service}: every UserServiceImpl method, and CustomUserDetailsService for authentication.</li>
+ *     <li>{@code repository}: every Spring Data repository method, one span per query method call, and the
+ *     JdbcUserRepository.</li>
+ *     <li>{@code password}: every PasswordEncoder call, which covers BCrypt hashing and matching.</li>
+ * </ul>
+ * Span names are the layer followed by the simple class and method name, and are computed once per method.
+ * Calls on an untraced thread proceed straight away after one ThreadLocal read.
+ */
+@Aspect
+public class TracingAspect {
+
+    private final Tracer tracer;
+    private final ConcurrentHashMap<NameKey, String> names = new ConcurrentHashMap<>();
+
+    public TracingAspect(Tracer tracer) {
+        this.tracer = tracer;
+    }
+
+    @Around("@within(org.springframework.web.bind.annotation.RestController)")
+    public Object traceController(ProceedingJoinPoint joinPoint) throws Throwable {
+        return trace(joinPoint, "controller ");
+    }
+
+    @Around("execution(* com.example.mySpringApi.service.UserServiceImpl.*(..))"
+            + " || execution(* com.example.mySpringApi.service.CustomUserDetailsService.*(..))")
+    public Object traceService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return trace(joinPoint, "service ");
+    }
+
+    @Around("target(org.springframework.data.repository.Repository)"
+            + " || execution(* com.example.mySpringApi.repository.JdbcUserRepository.*(..))")
+    public Object traceRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return trace(joinPoint, "repository ");
+    }
+
+    @Around("execution(* org.springframework.security.crypto.password.PasswordEncoder.*(..))")
+    public Object tracePasswordEncoder(ProceedingJoinPoint joinPoint) throws Throwable {
+        return trace(joinPoint, "password ");
+    }
+
+    private Object trace(ProceedingJoinPoint joinPoint, String layer) throws Throwable {
+        if (!tracer.isTracing()) {
+            return joinPoint.proceed();
+        }
+        try (Span ignored = tracer.start(name(joinPoint, layer))) {
+            return joinPoint.proceed();
+        }
+    }
+
+    private String name(ProceedingJoinPoint joinPoint, String layer) {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        // Inherited repository methods such as findById are shared by every repository, so the target is part of the key.
+        NameKey key = new NameKey(joinPoint.getTarget().getClass(), method);
+        String name = names.get(key);
+        if (name == null) {
+            Class<?> type = layer.equals("repository ") ? repositoryInterface(key.targetType(), method)
+                    : method.getDeclaringClass();
+            name = layer + type.getSimpleName() + "." + method.getName();
+            names.putIfAbsent(key, name);
+        }
+        return name;
+    }
+
+    private static Class<?> repositoryInterface(Class<?> targetType, Method method) {
+        for (Class<?> type : targetType.getInterfaces()) {
+            if (type.getName().startsWith("com.example.mySpringApi")) {
+                return type;
+            }
+        }
+        return method.getDeclaringClass();
+    }
+
+    private record NameKey(Class<?> targetType, Method method) {
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.mySpringApi.tracing;
+
+import com.example.mySpringApi.logging.RequestLogFilter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * TracingFilter starts a trace for each sampled request and publishes it when the request completes.
+ * <p>
+ * It runs ahead of the security filter chain and opens a {@code security} span that {@link DispatchSpanFilter},
+ * registered right after the chain, closes. When the security chain rejects the request, the span is closed
+ * here instead and covers the whole rejection.
+ */
+public class TracingFilter extends OncePerRequestFilter {
+
+    static final String SECURITY_SPAN = TracingFilter.class.getName() + ".SECURITY_SPAN";
+
+    private final Tracer tracer;
+
+    public TracingFilter(Tracer tracer) {
+        this.tracer = tracer;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Trace trace = tracer.begin(request.getMethod() + " " + request.getRequestURI(),
+                MDC.get(RequestLogFilter.REQUEST_ID));
+        if (trace == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+        Span security = tracer.start("security");
+        request.setAttribute(SECURITY_SPAN, security);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            security.close();
+            request.removeAttribute(SECURITY_SPAN);
+            tracer.end(trace, response.getStatus());
+        }
+    }
+}
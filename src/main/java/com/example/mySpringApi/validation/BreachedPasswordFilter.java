@@ -0,0 +1,125 @@
+package com.example.mySpringApi.validation;
+
+import org.springframework.core.io.Resource;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
+/**
+ * BreachedPasswordFilter is a Bloom filter over the SHA-1 hashes of known breached passwords.
+ * <p>
+ * A lookup hashes the candidate password once and probes a fixed number of bits, so it costs the same
+ * whatever the size of the list. The filter has no false negatives: every listed password is reported. A small,
+ * configurable share of other passwords is reported as well, which only asks those users for another password.
+ * <p>
+ * The filter needs about 1.8 bytes per listed hash at a 0.1% false-positive rate, against 20 bytes for the raw
+ * hashes, so a list of ten million passwords fits in about 18 MB. The bit positions are derived from the SHA-1
+ * digest itself by double hashing, which is sound because SHA-1 output is uniformly distributed.
+ */
+public final class BreachedPasswordFilter {
+
+    private static final ThreadLocal<MessageDigest> SHA1 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-1");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-1 is not available", e);
+        }
+    });
+
+    private final long[] bits;
+    private final long bitCount;
+    private final int hashCount;
+    private final int size;
+
+    private BreachedPasswordFilter(long[] firstHalves, long[] secondHalves, int size, double falsePositiveRate) {
+        this.size = size;
+        long m = (long) Math.ceil(-Math.max(size, 1) * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bitCount = Math.max(64, m);
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / Math.max(size, 1) * Math.log(2)));
+        this.bits = new long[(int) ((bitCount + 63) >>> 6)];
+        for (int i = 0; i < size; i++) {
+            add(firstHalves[i], secondHalves[i]);
+        }
+    }
+
+    /**
+     * Builds the filter from a list of SHA-1 hashes in hexadecimal, one per line. Lines may carry a
+     * {@code :count} suffix. Blank lines and lines starting with {@code #} are skipped.
+     *
+     * @param resource          The list to load.
+     * @param falsePositiveRate The target false-positive rate, for example 0.001.
+     * @return The filter.
+     * @throws IOException if the list cannot be read.
+     * @throws IllegalArgumentException if a line is not a SHA-1 hash.
+     */
+    public static BreachedPasswordFilter load(Resource resource, double falsePositiveRate) throws IOException {
+        long[] first = new long[1024];
+        long[] second = new long[1024];
+        int size = 0;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource.getInputStream(), StandardCharsets.US_ASCII))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.strip();
+                if (line.isEmpty() || line.charAt(0) == '#') {
+                    continue;
+                }
+                if (line.length() < 40 || (line.length() > 40 && line.charAt(40) != ':')) {
+                    throw new IllegalArgumentException("Not a SHA-1 hash in " + resource.getDescription() + ": " + line);
+                }
+                if (size == first.length) {
+                    first = Arrays.copyOf(first, size * 2);
+                    second = Arrays.copyOf(second, size * 2);
+                }
+                first[size] = Long.parseUnsignedLong(line, 0, 16, 16);
+                second[size] = Long.parseUnsignedLong(line, 16, 32, 16);
+                size++;
+            }
+        }
+        return new BreachedPasswordFilter(first, second, size, falsePositiveRate);
+    }
+
+    /**
+     * @param password The raw password.
+     * @return true if the password is probably in the list; false if it is certainly not.
+     */
+    public boolean mightContain(String password) {
+        MessageDigest sha1 = SHA1.get();
+        byte[] digest = sha1.digest(password.getBytes(StandardCharsets.UTF_8));
+        long h1 = readLong(digest, 0);
+        long h2 = readLong(digest, 8);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Long.remainderUnsigned(h1 + i * h2, bitCount);
+            if ((bits[(int) (bit >>> 6)] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return The number of hashes loaded into the filter.
+     */
+    public int size() {
+        return size;
+    }
+
+    private void add(long h1, long h2) {
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Long.remainderUnsigned(h1 + i * h2, bitCount);
+            bits[(int) (bit >>> 6)] |= 1L << bit;
+        }
+    }
+
+    private static long readLong(byte[] bytes, int offset) {
+        long value = 0;
+        for (int i = offset; i < offset + 8; i++) {
+            value = (value << 8) | (bytes[i] & 0xFF);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,195 @@
+package com.example.mySpringApi.validation;
+
+import com.example.mySpringApi.config.PasswordPolicyProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+/**
+ * PasswordPolicyChecker applies the configured password policy to raw passwords.
+ * <p>
+ * One scan over the characters records which character classes occur, the longest run of a repeated character and
+ * the length of the password in UTF-8. BCrypt hashes at most 72 bytes of that encoding and ignores the rest, so a
+ * password longer than 72 bytes is rejected whatever the configured maximum length, which counts characters. Every
+ * rule is then evaluated from those results into one bit per broken rule, so adding a rule does not add another pass,
+ * and a password breaking several rules is told about all of them. The breached-password lookup runs last, and only
+ * for passwords that passed every other rule, because it is the only step that hashes the password.
+ * <p>
+ * Messages are built once from the policy, so a check allocates nothing unless the breached-password lookup runs.
+ *
+ * @see PasswordPolicyProperties
+ */
+@Component
+@Slf4j
+public class PasswordPolicyChecker {
+
+    public static final String PASSWORD_NULL = "Password cannot be null.";
+    public static final String PASSWORD_DIGIT = "Password must contain at least one digit.";
+    public static final String PASSWORD_LOWERCASE = "Password must contain at least one lowercase character.";
+    public static final String PASSWORD_UPPERCASE = "Password must contain at least one uppercase character.";
+    public static final String PASSWORD_SPECIAL = "Password must contain at least one special character.";
+    public static final String PASSWORD_BREACHED = "Password appears in a list of breached passwords.";
+    public static final String PASSWORD_TOO_MANY_BYTES = "Password must be at most 72 bytes long in UTF-8.";
+
+    /**
+     * The number of bytes of a password that BCrypt hashes.
+     */
+    static final int BCRYPT_MAX_BYTES = 72;
+
+    // One bit per rule, in the order the rules are reported
+    private static final int NULL = 1;
+    private static final int TOO_SHORT = 1 << 1;
+    private static final int TOO_LONG = 1 << 2;
+    private static final int TOO_MANY_BYTES = 1 << 3;
+    private static final int NO_DIGIT = 1 << 4;
+    private static final int NO_LOWERCASE = 1 << 5;
+    private static final int NO_UPPERCASE = 1 << 6;
+    private static final int NO_SPECIAL = 1 << 7;
+    private static final int REPEAT = 1 << 8;
+    private static final int BREACHED = 1 << 9;
+
+    private final PasswordPolicyProperties policy;
+    private final boolean[] special;
+    private final String[] messages;
+    private final BreachedPasswordFilter breachedPasswords;
+
+    // Construct Injection
+    @Autowired
+    public PasswordPolicyChecker(PasswordPolicyProperties policy) {
+        this.policy = policy;
+        this.special = new boolean[policy.getSpecialCharacters().chars().max().orElse(-1) + 1];
+        policy.getSpecialCharacters().chars().forEach(c -> special[c] = true);
+        this.messages = new String[]{
+                PASSWORD_NULL,
+                "Password must be at least " + policy.getMinLength() + " characters long.",
+                "Password must be at most " + policy.getMaxLength() + " characters long.",
+                PASSWORD_TOO_MANY_BYTES,
+                PASSWORD_DIGIT,
+                PASSWORD_LOWERCASE,
+                PASSWORD_UPPERCASE,
+                PASSWORD_SPECIAL,
+                "Password must not repeat a character more than " + policy.getMaxRepeat() + " times in a row.",
+                PASSWORD_BREACHED};
+        this.breachedPasswords = loadBreachedPasswords(policy);
+    }
+
+    /**
+     * Checks a raw password against the policy.
+     *
+     * @param password The raw password.
+     * @return The message of the first rule the password breaks, or null if it satisfies the policy.
+     */
+    public String check(String password) {
+        int violated = violations(password);
+        return violated == 0 ? null : messages[Integer.numberOfTrailingZeros(violated)];
+    }
+
+    /**
+     * Checks a raw password against the policy and reports every rule it breaks, in the order of the policy.
+     *
+     * @param password   The raw password.
+     * @param violations Receives the message of each broken rule; it is not called if the password is valid.
+     */
+    public void check(String password, Consumer<String> violations) {
+        for (int violated = violations(password); violated != 0; violated &= violated - 1) {
+            violations.accept(messages[Integer.numberOfTrailingZeros(violated)]);
+        }
+    }
+
+    /**
+     * Runs the single scan and evaluates every rule from its results.
+     *
+     * @param password The raw password.
+     * @return One bit per broken rule, indexing {@link #messages}, or 0 if the password satisfies the policy.
+     */
+    private int violations(String password) {
+        if (password == null) {
+            return NULL;
+        }
+        int length = password.length();
+        boolean digit = false;
+        boolean lower = false;
+        boolean upper = false;
+        boolean hasSpecial = false;
+        int longestRun = 0;
+        int run = 0;
+        int utf8Length = 0;
+        char previous = 0;
+        for (int i = 0; i < length; i++) {
+            char c = password.charAt(i);
+            utf8Length += c < 0x80 ? 1 : c < 0x800 ? 2 : Character.isSurrogate(c) ? surrogateUtf8Length(password, i) : 3;
+            if (c >= '0' && c <= '9') {
+                digit = true;
+            } else if (c >= 'a' && c <= 'z') {
+                lower = true;
+            } else if (c >= 'A' && c <= 'Z') {
+                upper = true;
+            } else if (c < special.length && special[c]) {
+                hasSpecial = true;
+            }
+            run = i > 0 && c == previous ? run + 1 : 1;
+            longestRun = Math.max(longestRun, run);
+            previous = c;
+        }
+
+        int violated = 0;
+        if (length < policy.getMinLength()) {
+            violated |= TOO_SHORT;
+        }
+        if (length > policy.getMaxLength()) {
+            violated |= TOO_LONG;
+        }
+        if (utf8Length > BCRYPT_MAX_BYTES) {
+            violated |= TOO_MANY_BYTES;
+        }
+        if (policy.isRequireDigit() && !digit) {
+            violated |= NO_DIGIT;
+        }
+        if (policy.isRequireLowercase() && !lower) {
+            violated |= NO_LOWERCASE;
+        }
+        if (policy.isRequireUppercase() && !upper) {
+            violated |= NO_UPPERCASE;
+        }
+        if (policy.isRequireSpecial() && !hasSpecial) {
+            violated |= NO_SPECIAL;
+        }
+        if (policy.getMaxRepeat() > 0 && longestRun > policy.getMaxRepeat()) {
+            violated |= REPEAT;
+        }
+        if (violated == 0 && breachedPasswords != null && breachedPasswords.mightContain(password)) {
+            violated |= BREACHED;
+        }
+        return violated;
+    }
+
+    /**
+     * @return The UTF-8 length contributed by the surrogate at {@code i}: 4 for the high surrogate of a pair, 0 for
+     * its low surrogate, and 1 for an unpaired surrogate, which the encoder replaces with '?'.
+     */
+    private static int surrogateUtf8Length(String password, int i) {
+        char c = password.charAt(i);
+        if (Character.isHighSurrogate(c)) {
+            return i + 1 < password.length() && Character.isLowSurrogate(password.charAt(i + 1)) ? 4 : 1;
+        }
+        return i > 0 && Character.isHighSurrogate(password.charAt(i - 1)) ? 0 : 1;
+    }
+
+    private static BreachedPasswordFilter loadBreachedPasswords(PasswordPolicyProperties policy) {
+        if (policy.getBreachedPasswords() == null) {
+            return null;
+        }
+        try {
+            BreachedPasswordFilter filter = BreachedPasswordFilter.load(
+                    policy.getBreachedPasswords(), policy.getBreachedFalsePositiveRate());
+            log.info("Loaded {} breached password hashes from {}", filter.size(), policy.getBreachedPasswords().getDescription());
+            return filter;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not load the breached password list", e);
+        }
+    }
+}
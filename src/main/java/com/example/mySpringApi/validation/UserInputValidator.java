@@ -0,0 +1,176 @@
+package com.example.mySpringApi.validation;
+
+import com.example.mySpringApi.model.User;
+import com.example.mySpringApi.model.dto.UserDTO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.Errors;
+import org.springframework.validation.Validator;
+
+/**
+ * UserInputValidator holds the single set of rules for user input, shared by the web and service layers.
+ * <p>
+ * UserController registers it as the validator for {@code @Valid UserDTO} request bodies, and
+ * UserServiceImpl uses it in isValidUser before a User is saved. The same name and email rules
+ * therefore apply on both paths.
+ * <p>
+ * The name, age and email rules are hand-written checks that scan their input at most once, with no
+ * regular expression and no allocation. Passwords are checked by the configurable PasswordPolicyChecker,
+ * whose optional breached-password lookup hashes the password. A check returns the message of the first
+ * rule the value breaks, or null if the value is valid. {@link #validate(Object, Errors)} runs every check
+ * and reports every rule broken, by every field, in one call: each password rule broken is a separate field
+ * error, while the name, age and email rules exclude one another, so each of those fields breaks at most one.
+ * {@link #isValidUser(User)} checks the name and email only, stops at the first failure and allocates nothing.
+ */
+@Component
+public class UserInputValidator implements Validator {
+
+    public static final String NAME_NULL = "Name cannot be null.";
+    public static final String NAME_LENGTH = "Name must be between 2 and 50 characters.";
+    public static final String AGE_NEGATIVE = "Age must be positive.";
+    public static final String AGE_UNREALISTIC = "Age value is unrealistic.";
+    public static final String EMAIL_NULL = "Email cannot be null.";
+    public static final String EMAIL_FORMAT = "Invalid email format.";
+
+    private static final int NAME_MIN = 2;
+    private static final int NAME_MAX = 50;
+    private static final int AGE_MAX = 150;
+    private static final int EMAIL_MAX = 254;
+
+    private final PasswordPolicyChecker passwordPolicyChecker;
+
+    // Construct Injection
+    @Autowired
+    public UserInputValidator(PasswordPolicyChecker passwordPolicyChecker) {
+        this.passwordPolicyChecker = passwordPolicyChecker;
+    }
+
+    @Override
+    public boolean supports(Class<?> clazz) {
+        return UserDTO.class.isAssignableFrom(clazz);
+    }
+
+    /**
+     * Validates a UserDTO and rejects every invalid field, with one message per broken rule.
+     *
+     * @param target The UserDTO to validate.
+     * @param errors The errors to which field errors are added.
+     */
+    @Override
+    public void validate(Object target, Errors errors) {
+        UserDTO user = (UserDTO) target;
+        reject(errors, "name", checkName(user.name()));
+        reject(errors, "age", checkAge(user.age()));
+        reject(errors, "email", checkEmail(user.email()));
+        passwordPolicyChecker.check(user.rawPassword(), message -> reject(errors, "rawPassword", message));
+    }
+
+    /**
+     * Checks the fields of a User entity that can still be validated before it is saved: its name and email.
+     * The password has already been hashed by then.
+     *
+     * @param user The User to check.
+     * @return true if the name and email are valid; otherwise, false.
+     */
+    public boolean isValidUser(User user) {
+        return checkName(user.getName()) == null && checkEmail(user.getEmail()) == null;
+    }
+
+    /**
+     * Checks that a name has 2 to 50 characters once leading and trailing whitespace is ignored. A null name only
+     * breaks the null rule, so a name breaks at most one rule.
+     *
+     * @param name The name to check.
+     * @return The violated rule's message, or null if the name is valid.
+     */
+    public String checkName(String name) {
+        if (name == null) {
+            return NAME_NULL;
+        }
+        int start = 0;
+        int end = name.length();
+        while (start < end && name.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && name.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        int length = end - start;
+        return length < NAME_MIN || length > NAME_MAX ? NAME_LENGTH : null;
+    }
+
+    /**
+     * Checks that an age is between 0 and 150.
+     *
+     * @param age The age to check.
+     * @return The violated rule's message, or null if the age is valid.
+     */
+    public String checkAge(int age) {
+        if (age < 0) {
+            return AGE_NEGATIVE;
+        }
+        return age > AGE_MAX ? AGE_UNREALISTIC : null;
+    }
+
+    /**
+     * Checks the format of an email address, ignoring leading and trailing whitespace.
+     * <p>
+     * The local part must be non-empty and use only letters, digits and {@code + _ . -}. It must be followed by
+     * exactly one {@code @} and a domain of dot-separated, non-empty labels of letters, digits and hyphens.
+     *
+     * @param email The email to check.
+     * @return The violated rule's message, or null if the email is valid.
+     */
+    public String checkEmail(String email) {
+        if (email == null) {
+            return EMAIL_NULL;
+        }
+        int start = 0;
+        int end = email.length();
+        while (start < end && email.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && email.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (end - start > EMAIL_MAX) {
+            return EMAIL_FORMAT;
+        }
+
+        int at = -1;
+        int labelLength = 0;
+        for (int i = start; i < end; i++) {
+            char c = email.charAt(i);
+            if (at < 0) {
+                if (c == '@') {
+                    if (i == start) {
+                        return EMAIL_FORMAT;
+                    }
+                    at = i;
+                } else if (!isAsciiLetterOrDigit(c) && c != '+' && c != '_' && c != '.' && c != '-') {
+                    return EMAIL_FORMAT;
+                }
+            } else if (c == '.') {
+                if (labelLength == 0) {
+                    return EMAIL_FORMAT;
+                }
+                labelLength = 0;
+            } else if (isAsciiLetterOrDigit(c) || c == '-') {
+                labelLength++;
+            } else {
+                return EMAIL_FORMAT;
+            }
+        }
+        return at < 0 || labelLength == 0 ? EMAIL_FORMAT : null;
+    }
+
+    private static boolean isAsciiLetterOrDigit(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+    }
+
+    private static void reject(Errors errors, String field, String message) {
+        if (message != null) {
+            errors.rejectValue(field, field + ".invalid", message);
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package com.example.mySpringApi.warmup;
+
+import com.example.mySpringApi.api.controller.UserController;
+import com.example.mySpringApi.cache.UserResponseBodyCache;
+import com.example.mySpringApi.config.WarmupProperties;
+import com.example.mySpringApi.service.RoleService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * UserApiWarmup brings a new instance to its steady-state latency before it takes traffic.
+ * <p>
+ * A cold instance serves its first requests slowly: the code runs interpreted until the JIT compiles it, Hibernate
+ * builds its query plans, the pool opens its connections and the caches are empty. The warmup pays these costs
+ * in-process, in this order:
+ * <ol>
+ *     <li>opens the pool connections, instead of leaving the pool to open them in the background;</li>
+ *     <li>loads every role;</li>
+ *     <li>primes the responses of the first {@code app.warmup.users} users in the UserResponseBodyCache, when it is
+ *     enabled;</li>
+ *     <li>replays {@code app.warmup.calls} calls of the UserController read endpoints over the same users, picked at
+ *     random with the weights of {@code app.warmup.mix}, and serializes their bodies as Spring MVC would.</li>
+ * </ol>
+ * Only read-only endpoints are called, so the warmup changes no data. They are called directly on the controller
+ * bean, through its security and transaction proxies, by a synthetic administrator; the HTTP layer, the filters and
+ * authentication are not exercised.
+ *
+ * @see com.example.mySpringApi.runner.WarmupRunner
+ */
+@Component
+@Slf4j
+public class UserApiWarmup {
+
+    /**
+     * The UserController calls of the warmup.
+     */
+    public enum Operation {
+        /** GET /userAPI/id/{id} */
+        BY_ID,
+        /** GET /userAPI/email/{email} */
+        BY_EMAIL,
+        /** GET /userAPI/batch?ids=... */
+        BATCH,
+        /** GET /userAPI/id/{id}?fields=id,name,email */
+        FIELDS
+    }
+
+    private static final String FIELDS = "id,name,email";
+    private static final long SEED = 42;
+
+    private final UserController userController;
+    private final RoleService roleService;
+    private final UserResponseBodyCache responseBodyCache;
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSource dataSource;
+    private final ObjectMapper objectMapper;
+    private final WarmupProperties properties;
+
+    private volatile WarmupReport report;
+
+    // Construct Injection
+    @Autowired
+    public UserApiWarmup(UserController userController, RoleService roleService, UserResponseBodyCache responseBodyCache,
+                         JdbcTemplate jdbcTemplate, DataSource dataSource, ObjectMapper objectMapper,
+                         WarmupProperties properties) {
+        this.userController = userController;
+        this.roleService = roleService;
+        this.responseBodyCache = responseBodyCache;
+        this.jdbcTemplate = jdbcTemplate;
+        this.dataSource = dataSource;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+    }
+
+    /**
+     * Runs the warmup.
+     *
+     * @return The report, also kept for {@link #getReport()}.
+     * @throws SQLException if a pool connection cannot be opened.
+     */
+    public WarmupReport run() throws SQLException {
+        long start = System.nanoTime();
+        int connections = openConnections();
+
+        SecurityContext previous = SecurityContextHolder.getContext();
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(UsernamePasswordAuthenticationToken.authenticated("warmup", null,
+                AuthorityUtils.createAuthorityList("ROLE_ADMIN", "ROLE_USER")));
+        SecurityContextHolder.setContext(context);
+        WarmupReport result;
+        try {
+            int roles = roleService.findRolesByNames(
+                    new HashSet<>(jdbcTemplate.queryForList("select name from role", String.class))).size();
+
+            List<Integer> ids = new ArrayList<>();
+            List<String> emails = new ArrayList<>();
+            jdbcTemplate.query("select id, email from user_info order by id limit ?", row -> {
+                ids.add(row.getInt("id"));
+                emails.add(row.getString("email"));
+            }, properties.getUsers());
+
+            if (responseBodyCache.isEnabled()) {
+                ids.forEach(id -> userController.getUser(id, null, "gzip"));
+            }
+            int cachedUsers = responseBodyCache.isEnabled() ? responseBodyCache.size() : 0;
+
+            Calls calls = ids.isEmpty() ? new Calls(0) : call(ids, emails, start);
+            result = new WarmupReport((System.nanoTime() - start) / 1_000_000, connections, roles, cachedUsers,
+                    calls.count, calls.errors, calls.latencies());
+        } finally {
+            SecurityContextHolder.setContext(previous);
+        }
+        log.info("Warmup finished in {} ms: {} connections, {} roles, {} cached users, {} calls, {} errors",
+                result.durationMillis(), connections, result.roles(), result.cachedUsers(), result.calls(),
+                result.errors());
+        result.operations().forEach(latency -> log.info("Warmup {}: {} calls, {} us cold, {} us warm",
+                latency.operation(), latency.calls(), latency.coldMicros(), latency.warmMicros()));
+        report = result;
+        return result;
+    }
+
+    /**
+     * @return The report of the last warmup, or null if none ran.
+     */
+    public WarmupReport getReport() {
+        return report;
+    }
+
+    /**
+     * Holds the connections open together, so that the pool has to create each of them.
+     */
+    private int openConnections() throws SQLException {
+        int count = properties.getConnections();
+        if (dataSource.isWrapperFor(HikariDataSource.class)) {
+            int maximumPoolSize = dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+            count = count < 0 ? maximumPoolSize : Math.min(count, maximumPoolSize);
+        } else if (count < 0) {
+            count = 1;
+        }
+        List<Connection> open = new ArrayList<>(count);
+        try {
+            for (int i = 0; i < count; i++) {
+                open.add(dataSource.getConnection());
+            }
+        } finally {
+            for (Connection connection : open) {
+                connection.close();
+            }
+        }
+        return count;
+    }
+
+    private Calls call(List<Integer> ids, List<String> emails, long start) {
+        List<Operation> weighted = new ArrayList<>();
+        properties.getMix().forEach((operation, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                weighted.add(operation);
+            }
+        });
+        if (weighted.isEmpty()) {
+            return new Calls(0);
+        }
+
+        SplittableRandom random = new SplittableRandom(SEED);
+        long deadline = start + properties.getMaxDuration().toNanos();
+        Calls calls = new Calls(properties.getCalls());
+        while (calls.count < properties.getCalls() && System.nanoTime() < deadline) {
+            Operation operation = weighted.get(random.nextInt(weighted.size()));
+            int user = random.nextInt(ids.size());
+            long callStart = System.nanoTime();
+            try {
+                ResponseEntity<Object> response = switch (operation) {
+                    case BY_ID -> userController.getUser(ids.get(user), null, null);
+                    case BY_EMAIL -> userController.getUser(emails.get(user), null);
+                    case BATCH -> userController.getUsers(
+                            ids.subList(user, Math.min(ids.size(), user + properties.getBatchSize())), null);
+                    case FIELDS -> userController.getUser(ids.get(user), FIELDS, null);
+                };
+                if (!(response.getBody() instanceof byte[])) {
+                    objectMapper.writeValueAsBytes(response.getBody());
+                }
+            } catch (RuntimeException | JsonProcessingException e) {
+                log.debug("Warmup call {} failed", operation, e);
+                calls.errors++;
+            }
+            calls.record(operation, System.nanoTime() - callStart);
+        }
+        return calls;
+    }
+
+    /**
+     * Latencies of the calls, in call order for each operation.
+     */
+    private static final class Calls {
+
+        private final Map<Operation, long[]> nanos = new EnumMap<>(Operation.class);
+        private final Map<Operation, Integer> counts = new EnumMap<>(Operation.class);
+        private final int capacity;
+        private int count;
+        private int errors;
+
+        Calls(int capacity) {
+            this.capacity = capacity;
+        }
+
+        void record(Operation operation, long duration) {
+            int index = counts.merge(operation, 1, Integer::sum) - 1;
+            nanos.computeIfAbsent(operation, o -> new long[capacity])[index] = duration;
+            count++;
+        }
+
+        List<WarmupReport.OperationLatency> latencies() {
+            List<WarmupReport.OperationLatency> latencies = new ArrayList<>();
+            counts.forEach((operation, calls) -> {
+                long[] durations = nanos.get(operation);
+                int tenth = Math.max(1, calls / 10);
+                latencies.add(new WarmupReport.OperationLatency(operation, calls,
+                        meanMicros(durations, 0, tenth), meanMicros(durations, calls - tenth, calls)));
+            });
+            return latencies;
+        }
+
+        private static long meanMicros(long[] durations, int from, int to) {
+            long sum = 0;
+            for (int i = from; i < to; i++) {
+                sum += durations[i];
+            }
+            return sum / (to - from) / 1_000;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.mySpringApi.warmup;
+
+import java.util.List;
+
+/**
+ * Outcome of a warmup run.
+ *
+ * @param durationMillis Total duration of the warmup.
+ * @param connections    Number of pool connections opened.
+ * @param roles          Number of roles loaded.
+ * @param cachedUsers    Number of users with a primed response in the response cache.
+ * @param calls          Number of UserController calls made.
+ * @param errors         Number of calls that threw an exception.
+ * @param operations     Latency of each operation at the start and at the end of the calls.
+ */
+public record WarmupReport(long durationMillis, int connections, int roles, int cachedUsers, int calls, int errors,
+                           List<OperationLatency> operations) {
+
+    /**
+     * Mean latency of the first and the last tenth of the calls of one operation. The first are what the first
+     * clients of a cold instance would get, the last what they get once it is warm.
+     *
+     * @param operation  The operation.
+     * @param calls      Number of calls of this operation.
+     * @param coldMicros Mean latency of the first tenth of its calls, in microseconds.
+     * @param warmMicros Mean latency of the last tenth of its calls, in microseconds.
+     */
+    public record OperationLatency(UserApiWarmup.Operation operation, int calls, long coldMicros, long warmMicros) {
+    }
+}
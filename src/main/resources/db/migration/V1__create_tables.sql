@@ -0,0 +1,37 @@
+-- Tables as previously created by Hibernate's ddl-auto: update. Databases created that way are baselined at this
+-- version (spring.flyway.baseline-on-migrate) and only receive the later migrations.
+-- The statements are kept to the syntax shared by MySQL and H2.
+
+create table role (
+    id   integer      not null auto_increment,
+    name varchar(255),
+    primary key (id)
+);
+
+create table user_info (
+    id       integer      not null auto_increment,
+    name     varchar(255),
+    email    varchar(255),
+    age      integer      not null,
+    password varchar(255),
+    primary key (id),
+    constraint uk_user_info_email unique (email)
+);
+
+create table user_roles (
+    user_id integer not null,
+    role_id integer not null,
+    primary key (user_id, role_id),
+    constraint fk_user_roles_user foreign key (user_id) references user_info (id),
+    constraint fk_user_roles_role foreign key (role_id) references role (id)
+);
+
+create table address (
+    id       bigint       not null auto_increment,
+    street   varchar(255),
+    city     varchar(255),
+    state    varchar(255),
+    zip_code varchar(255),
+    country  varchar(255),
+    primary key (id)
+);
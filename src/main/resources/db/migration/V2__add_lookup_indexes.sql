@@ -0,0 +1,40 @@
+-- Indexes for the lookups that ddl-auto never created.
+
+-- UserRepository.findByName
+create index idx_user_info_name on user_info (name);
+
+-- Filtering and sorting users by age
+create index idx_user_info_age on user_info (age);
+
+-- Role membership: the users holding a role. Lookups by user are served by the primary key (user_id, role_id).
+create index idx_user_roles_role on user_roles (role_id, user_id);
+
+-- RoleRepository.findByName and findByNameIn; role names are unique by design.
+-- Schemas created by ddl-auto had no such constraint and may hold duplicate role names. Each name keeps its role
+-- with the lowest id: the users of a duplicate are moved to the kept role, then the duplicates are deleted.
+-- The duplicates are selected through a distinct derived table, which MySQL materializes, because MySQL rejects
+-- a delete whose subquery reads the table being deleted from.
+insert into user_roles (user_id, role_id)
+select distinct ur.user_id, kept.id
+from user_roles ur
+         join role r on r.id = ur.role_id
+         join (select name, min(id) as id from role group by name) kept on kept.name = r.name
+where ur.role_id <> kept.id
+  and not exists (select 1 from user_roles existing
+                  where existing.user_id = ur.user_id and existing.role_id = kept.id);
+
+delete from user_roles
+where role_id in (select duplicate.id
+                  from (select distinct r.id
+                        from role r
+                                 join (select name, min(id) as id from role group by name) kept on kept.name = r.name
+                        where r.id <> kept.id) duplicate);
+
+delete from role
+where id in (select duplicate.id
+             from (select distinct r.id
+                   from role r
+                            join (select name, min(id) as id from role group by name) kept on kept.name = r.name
+                   where r.id <> kept.id) duplicate);
+
+alter table role add constraint uk_role_name unique (name);
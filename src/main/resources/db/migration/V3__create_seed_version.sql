@@ -0,0 +1,11 @@
+-- Version of the default roles and users seeded at startup (MyCommandLineRunner). The single row is also locked by
+-- the seeding transaction, so that nodes starting together seed one after the other.
+
+create table seed_version (
+    id         integer      not null,
+    version    integer      not null,
+    applied_at timestamp(6),
+    primary key (id)
+);
+
+insert into seed_version (id, version) values (1, 0);
@@ -0,0 +1,99 @@
+package com.example.mySpringApi.api.advice;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.example.mySpringApi.exception.InvalidUserInputException;
+import com.example.mySpringApi.exception.UserAlreadyExistsException;
+import com.example.mySpringApi.exception.UserExceptionFactory;
+import com.example.mySpringApi.exception.UserNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.slf4j.event.Level;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * This class tests the counting and rate limiting of {@link ClientErrorLog}, and the stackless UserException.
+ */
+class ClientErrorLogTests {
+
+    private final Logger logger = (Logger) LoggerFactory.getLogger(ClientErrorLogTests.class);
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() {
+        appender.start();
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+    }
+
+    /**
+     * Test to verify that every error is counted per type while only the allowed number is logged.
+     */
+    @Test
+    void record_overLimit_shouldCountEveryErrorAndLogOnlyTheLimit() {
+        ClientErrorLog clientErrorLog = new ClientErrorLog(logger, Level.INFO, 3, registry);
+
+        for (int i = 0; i < 50; i++) {
+            clientErrorLog.record("User not found", new UserNotFoundException());
+        }
+        clientErrorLog.record("Invalid user input", new InvalidUserInputException("bad"));
+
+        assertThat(count("UserNotFoundException")).isEqualTo(50);
+        assertThat(count("InvalidUserInputException")).isEqualTo(1);
+        // At most 3 lines per type per second, plus one more if the loop crossed a second boundary
+        assertThat(appender.list).hasSizeBetween(4, 7);
+        assertThat(appender.list).allSatisfy(event -> assertThat(event.getLevel().toString()).isEqualTo("INFO"));
+    }
+
+    /**
+     * Test to verify that logged lines name the exception type but leave out its message, which can carry client input.
+     */
+    @Test
+    void record_shouldLogTypeWithoutMessage() {
+        ClientErrorLog clientErrorLog = new ClientErrorLog(logger, Level.INFO, 0);
+
+        clientErrorLog.record("User already exists", new UserAlreadyExistsException("user@example.com"));
+
+        assertThat(appender.list).singleElement().satisfies(event -> assertThat(event.getFormattedMessage())
+                .isEqualTo("User already exists (UserAlreadyExistsException)"));
+    }
+
+    /**
+     * Test to verify that errors are still counted when their level is disabled.
+     */
+    @Test
+    void record_levelDisabled_shouldCountWithoutLogging() {
+        ClientErrorLog clientErrorLog = new ClientErrorLog(logger, Level.TRACE, 0, registry);
+
+        clientErrorLog.record("User not found", new UserNotFoundException());
+
+        assertThat(count("UserNotFoundException")).isEqualTo(1);
+        assertThat(appender.list).isEmpty();
+    }
+
+    /**
+     * Test to verify that UserExceptions are stackless unless their factory captures stack traces.
+     */
+    @Test
+    void userException_shouldCaptureStackTraceOnlyWhenEnabled() {
+        assertThat(new UserNotFoundException().getStackTrace()).isEmpty();
+        assertThat(new UserExceptionFactory(false).notFound().getStackTrace()).isEmpty();
+
+        assertThat(new UserExceptionFactory(true).notFound().getStackTrace()).isNotEmpty();
+        assertThat(new UserNotFoundException().getStackTrace()).isEmpty();
+    }
+
+    private double count(String exception) {
+        return registry.get("user.client.errors").tag("exception", exception).functionCounter().count();
+    }
+}
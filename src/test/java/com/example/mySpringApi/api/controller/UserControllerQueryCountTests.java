@@ -0,0 +1,173 @@
+package com.example.mySpringApi.api.controller;
+
+import com.example.mySpringApi.model.User;
+import com.example.mySpringApi.model.dto.UserDTO;
+import com.example.mySpringApi.service.UserService;
+import com.example.mySpringApi.sql.SqlStatementCounter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * UserControllerQueryCountTests locks the number of SQL statements each UserController endpoint executes.
+ * <p>
+ * {@link UserControllerTests} runs the controller against a mocked UserService, so it cannot see queries. These
+ * tests run the whole application on H2 instead, authenticated as the seeded admin. Authentication itself
+ * executes one statement, {@code findByEmail} with the roles joined, which every count below includes.
+ * <p>
+ * A failing count means an endpoint started issuing more (or fewer) statements. Check the shapes in the
+ * failure message for a statement repeated per user, the usual sign of an N+1 query. The test configuration
+ * also sets {@code app.sql-budget.fail-on-violation}, so any request over the global budget fails.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:querycounttest;DB_CLOSE_DELAY=-1")
+@AutoConfigureMockMvc
+class UserControllerQueryCountTests {
+
+    private static final String ADMIN = "Basic " + Base64.getEncoder()
+            .encodeToString("admin@example.com:admin".getBytes(StandardCharsets.UTF_8));
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SqlStatementCounter counter;
+
+    @Autowired
+    private UserService userService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * Test to verify that a user read by ID costs one statement, roles included.
+     *
+     * @throws Exception if any MVC exception occurs.
+     */
+    @Test
+    public void getUserById_shouldExecuteOneStatement() throws Exception {
+        assertStatements(1 + 1, get("/userAPI/id/1"), 200);
+    }
+
+    /**
+     * Test to verify that an unknown ID costs one statement.
+     *
+     * @throws Exception if any MVC exception occurs.
+     */
+    @Test
+    public void getUserById_nonExistingId_shouldExecuteOneStatement() throws Exception {
+        assertStatements(1 + 1, get("/userAPI/id/999"), 404);
+    }
+
+    /**
+     * Test to verify that a sparse read with roles costs one statement for the fields and one for the roles.
+     *
+     * @throws Exception if any MVC exception occurs.
+     */
+    @Test
+    public void getUserById_withFields_shouldExecuteTwoStatements() throws Exception {
+        assertStatements(1 + 2, get("/userAPI/id/1").param("fields", "id,email,roles"), 200);
+    }
+
+    /**
+     * Test to verify that a user read by email costs one statement, roles included.
+     *
+     * @throws Exception if any MVC exception occurs.
+     */
+    @Test
+    public void getUserByEmail_shouldExecuteOneStatement() throws Exception {
+        assertStatements(1 + 1, get("/userAPI/email/user@example.com"), 200);
+    }
+
+    /**
+     * Test to verify that listing users costs one statement however many users exist.
+     *
+     * @throws Exception if any MVC exception occurs.
+     */
+    @Test
+    public void getAllUsers_shouldExecuteOneStatement() throws Exception {
+        assertStatements(1 + 1, get("/userAPI"), 200);
+    }
+
+    /**
+     * Test to verify that a batch read costs one statement for all the IDs.
+     *
+     * @throws Exception if any MVC exception occurs.
+     */
+    @Test
+    public void getUsers_batch_shouldExecuteOneStatement() throws Exception {
+        assertStatements(1 + 1, get("/userAPI/batch").param("ids", "1", "2", "3"), 200);
+    }
+
+    /**
+     * Test to verify the statements of a create: role lookup, email check, and the two inserts.
+     *
+     * @throws Exception if any MVC or JSON parsing exception occurs.
+     */
+    @Test
+    public void createUser_shouldExecuteFourStatements() throws Exception {
+        UserDTO alice = new UserDTO(0, "Alice", 30, "alice.count@example.com", "Str0ng!Passw0rd", Set.of("USER"));
+
+        assertStatements(1 + 4, post("/userAPI/createUser")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(alice)), 201);
+    }
+
+    /**
+     * Test to verify the statements of an update: role lookup, existence and email checks, the update and the
+     * role insert. The role is new to the user, and with open-in-view disabled the role resolved from the request
+     * is detached in the update's transaction, so merging it costs one more lookup by ID.
+     *
+     * @throws Exception if any MVC or JSON parsing exception occurs.
+     */
+    @Test
+    public void updateUser_shouldExecuteSixStatements() throws Exception {
+        User bob = createUser("bob.count@example.com");
+        UserDTO update = new UserDTO(bob.getId(), "Bobby", 31, "bob.count@example.com", "Str0ng!Passw0rd", Set.of("USER"));
+
+        assertStatements(1 + 6, put("/userAPI/updateUser")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(update)), 200);
+    }
+
+    /**
+     * Test to verify the statements of a delete: existence check, load and delete. The user has no roles, so
+     * there are no role rows to delete.
+     *
+     * @throws Exception if any MVC exception occurs.
+     */
+    @Test
+    public void deleteUser_shouldExecuteThreeStatements() throws Exception {
+        User carol = createUser("carol.count@example.com");
+
+        assertStatements(1 + 3, delete("/userAPI/deleteUser/" + carol.getId()), 200);
+    }
+
+    private User createUser(String email) {
+        User user = new User("Count", 30, email);
+        user.setPassword("Str0ng!Passw0rd");
+        return userService.createUser(user);
+    }
+
+    private void assertStatements(int expected, MockHttpServletRequestBuilder request, int status) throws Exception {
+        try (SqlStatementCounter.Scope scope = counter.open()) {
+            mockMvc.perform(request.header(HttpHeaders.AUTHORIZATION, ADMIN)).andExpect(status().is(status));
+            assertThat(scope.total()).as("statements executed, by shape: %s", scope.shapes()).isEqualTo(expected);
+        }
+    }
+}
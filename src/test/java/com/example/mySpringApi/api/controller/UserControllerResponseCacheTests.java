@@ -0,0 +1,117 @@
+package com.example.mySpringApi.api.controller;
+
+import com.example.mySpringApi.cache.UserResponseBodyCache;
+import com.example.mySpringApi.config.PasswordPolicyProperties;
+import com.example.mySpringApi.config.ResponseCacheProperties;
+import com.example.mySpringApi.event.UserChangedEvent;
+import com.example.mySpringApi.exception.UserNotFoundException;
+import com.example.mySpringApi.model.Role;
+import com.example.mySpringApi.model.User;
+import com.example.mySpringApi.model.dto.UserResponseDTO;
+import com.example.mySpringApi.service.UserService;
+import com.example.mySpringApi.validation.PasswordPolicyChecker;
+import com.example.mySpringApi.validation.UserInputValidator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Collections;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * UserControllerResponseCacheTests verifies GET /userAPI/id/{id} with the UserResponseBodyCache enabled: hits skip
+ * the UserService, committed changes are reloaded, and missing users are not cached.
+ */
+@WebMvcTest(value = UserController.class, properties = {
+        "app.response-cache.enabled=true",
+        "app.response-cache.gzip=true"
+})
+@Import({UserInputValidator.class, PasswordPolicyChecker.class, UserResponseBodyCache.class})
+@EnableConfigurationProperties({PasswordPolicyProperties.class, ResponseCacheProperties.class})
+class UserControllerResponseCacheTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserResponseBodyCache responseBodyCache;
+
+    @MockBean
+    private UserService userService;
+
+    private User john;
+
+    @BeforeEach
+    void setUp() {
+        john = new User("John", 40, "john@example.com");
+        john.setId(1);
+        john.setRoles(Collections.singleton(new Role(1, "USER")));
+        given(userService.getUser(1)).willReturn(john);
+        given(userService.convertToResponseDTO(john)).willAnswer(invocation ->
+                new UserResponseDTO(john.getId(), john.getName(), john.getEmail(), john.getAge(), Set.of("USER")));
+        responseBodyCache.invalidate(1);  // the cache is shared by the tests of this context
+    }
+
+    /**
+     * Test to verify that a second read is served from the cache, plain or gzipped, without the UserService.
+     *
+     * @throws Exception if any MVC or JSON parsing exception occurs.
+     */
+    @Test
+    public void getUserById_repeatedRead_shouldHitCache() throws Exception {
+        mockMvc.perform(get("/userAPI/id/1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.name").value("John"));
+        mockMvc.perform(get("/userAPI/id/1").header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"));
+        mockMvc.perform(get("/userAPI/id/1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.name").value("John"));
+
+        verify(userService, times(1)).getUser(1);
+    }
+
+    /**
+     * Test to verify that a committed change makes the next read fetch the user again.
+     *
+     * @throws Exception if any MVC or JSON parsing exception occurs.
+     */
+    @Test
+    public void getUserById_afterUserChanged_shouldReload() throws Exception {
+        mockMvc.perform(get("/userAPI/id/1")).andExpect(jsonPath("$.data.name").value("John"));
+        john.setName("Johnny");
+        responseBodyCache.onUserChanged(new UserChangedEvent(1, UserChangedEvent.Type.UPDATED));
+
+        mockMvc.perform(get("/userAPI/id/1")).andExpect(jsonPath("$.data.name").value("Johnny"));
+        verify(userService, times(2)).getUser(1);
+    }
+
+    /**
+     * Test to verify that reads of missing users answer 404 and take no space in the cache.
+     *
+     * @throws Exception if any MVC or JSON parsing exception occurs.
+     */
+    @Test
+    public void getUserById_missingUsers_shouldNotBeCached() throws Exception {
+        given(userService.getUser(anyInt())).willThrow(new UserNotFoundException());
+        int size = responseBodyCache.size();
+
+        for (int id = 100; id < 110; id++) {
+            mockMvc.perform(get("/userAPI/id/" + id)).andExpect(status().isNotFound());
+        }
+
+        assertThat(responseBodyCache.size()).isEqualTo(size);
+    }
+}
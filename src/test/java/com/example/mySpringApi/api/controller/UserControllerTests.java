@@ -1,12 +1,18 @@
 package com.example.mySpringApi.api.controller;
 
+import com.example.mySpringApi.cache.UserResponseBodyCache;
+import com.example.mySpringApi.config.BatchProperties;
+import com.example.mySpringApi.config.PasswordPolicyProperties;
 import com.example.mySpringApi.exception.UserNotFoundException;
 import com.example.mySpringApi.model.Role;
 import com.example.mySpringApi.model.User;
+import com.example.mySpringApi.model.UserField;
 import com.example.mySpringApi.model.dto.UserDTO;
 import com.example.mySpringApi.model.dto.UserResponseDTO;
 import com.example.mySpringApi.service.RoleServiceImpl;
 import com.example.mySpringApi.service.UserService;
+import com.example.mySpringApi.validation.PasswordPolicyChecker;
+import com.example.mySpringApi.validation.UserInputValidator;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.AfterEach;
@@ -14,8 +20,11 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.*;
@@ -40,6 +49,9 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * disabling full autoconfiguration and applying only configuration relevant to MVC tests.
  */
 @WebMvcTest(UserController.class)
+@Import({UserInputValidator.class, PasswordPolicyChecker.class})
+@EnableConfigurationProperties({PasswordPolicyProperties.class, BatchProperties.class})
+@TestPropertySource(properties = "app.batch.max-ids=3")
 class UserControllerTests {
 
     @Autowired
@@ -48,6 +60,9 @@ class UserControllerTests {
     @MockBean
     private UserService userService;
 
+    @MockBean  // disabled by default, so requests take the uncached path
+    private UserResponseBodyCache responseBodyCache;
+
     @MockBean
     private RoleServiceImpl roleServiceImpl;
 
@@ -290,6 +305,79 @@ class UserControllerTests {
                 .andExpect(jsonPath("$.data", hasSize(0)));
     }
 
+    /*
+     * -------------------------------
+     * TESTS FOR sparse fieldsets and getUsers(List ids)
+     * -------------------------------
+     */
+
+    /**
+     * Test to verify that the fields parameter returns only the requested fields, without building a DTO.
+     *
+     * @throws Exception if any MVC or JSON parsing exception occurs.
+     */
+    @Test
+    public void getUserById_withFields_shouldReturnOnlyRequestedFields() throws Exception {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("id", 1);
+        row.put("email", "john@example.com");
+        given(userService.getUserFields(1, EnumSet.of(UserField.ID, UserField.EMAIL))).willReturn(row);
+
+        mockMvc.perform(get("/userAPI/id/1").param("fields", "id, EMAIL"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.id").value(1))
+                .andExpect(jsonPath("$.data.email").value("john@example.com"))
+                .andExpect(jsonPath("$.data.name").doesNotExist())
+                .andExpect(jsonPath("$.data.roles").doesNotExist());
+
+        verify(userService, never()).convertToResponseDTO(any());
+    }
+
+    /**
+     * Test to verify that an unknown field name is rejected with a 400 status.
+     *
+     * @throws Exception if any MVC or JSON parsing exception occurs.
+     */
+    @Test
+    public void getAllUsers_withUnknownField_shouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/userAPI").param("fields", "id,password"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Unknown field: password"));
+    }
+
+    /**
+     * Test to verify that the batch endpoint resolves several IDs with the full user representation.
+     *
+     * @throws Exception if any MVC or JSON parsing exception occurs.
+     */
+    @Test
+    public void getUsers_multipleIds_shouldReturnUsersFound() throws Exception {
+        List<User> users = Collections.singletonList(mockUser);
+        given(userService.getUsers(Arrays.asList(1, 2))).willReturn(users);
+        given(userService.convertUsersToResponseDTOs(users))
+                .willReturn(Collections.singletonList(createMockUserResponseDTO(mockUser)));
+
+        mockMvc.perform(get("/userAPI/batch").param("ids", "1,2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("Users fetched"))
+                .andExpect(jsonPath("$.data", hasSize(1)))
+                .andExpect(jsonPath("$.data[0].email").value("john@example.com"));
+    }
+
+    /**
+     * Test to verify that a batch over the configured maximum is rejected with a 400 status without querying.
+     *
+     * @throws Exception if any MVC or JSON parsing exception occurs.
+     */
+    @Test
+    public void getUsers_overMaxIds_shouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/userAPI/batch").param("ids", "1,2,3,4"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("At most 3 IDs can be requested."));
+
+        verify(userService, never()).getUsers(any());
+    }
+
     /*
      * -------------------------------
      * TESTS FOR createUser(User user)
@@ -0,0 +1,134 @@
+package com.example.mySpringApi.api.docs;
+
+import com.example.mySpringApi.config.OpenApiSpecProperties;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * OpenApiSpecControllerTests verifies that the generated OpenAPI document is served with its caching headers,
+ * compressed when the client allows it, and revalidated with its ETag.
+ */
+class OpenApiSpecControllerTests {
+
+    private static final String SPEC = "{\"openapi\":\"3.0.1\",\"paths\":{}}";
+
+    @TempDir
+    Path dir;
+
+    private MockMvc mockMvc(boolean generated) throws IOException {
+        Path json = dir.resolve("openapi.json");
+        if (generated) {
+            Files.writeString(json, SPEC);
+            ByteArrayOutputStream gzip = new ByteArrayOutputStream();
+            try (GZIPOutputStream out = new GZIPOutputStream(gzip)) {
+                out.write(SPEC.getBytes(StandardCharsets.UTF_8));
+            }
+            Files.write(dir.resolve("openapi.json.gz"), gzip.toByteArray());
+        }
+        OpenApiSpecProperties properties = new OpenApiSpecProperties();
+        properties.setLocation(json.toUri().toString());
+        return MockMvcBuilders.standaloneSetup(new OpenApiSpecController(properties, new DefaultResourceLoader())).build();
+    }
+
+    /**
+     * Test to verify that the document is served as is, with an ETag and a private max-age.
+     *
+     * @throws Exception if any MVC exception occurs.
+     */
+    @Test
+    public void getSpec_shouldServeDocumentWithCachingHeaders() throws Exception {
+        mockMvc(true).perform(get("/v3/api-docs"))
+                .andExpect(status().isOk())
+                .andExpect(content().json(SPEC))
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=86400, private"))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING));
+    }
+
+    /**
+     * Test to verify that clients accepting gzip get the precompressed copy.
+     *
+     * @throws Exception if any MVC or decompression exception occurs.
+     */
+    @Test
+    public void getSpec_whenGzipAccepted_shouldServeCompressedDocument() throws Exception {
+        MvcResult result = mockMvc(true).perform(get("/v3/api-docs").header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andReturn();
+
+        byte[] body = result.getResponse().getContentAsByteArray();
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(SPEC);
+        }
+    }
+
+    /**
+     * Test to verify that the compressed copy has its own strong ETag, and that gzip refused with q=0 gets the
+     * identity document.
+     *
+     * @throws Exception if any MVC exception occurs.
+     */
+    @Test
+    public void getSpec_gzipAndIdentity_shouldHaveDistinctEtags() throws Exception {
+        MockMvc mockMvc = mockMvc(true);
+        String identity = mockMvc.perform(get("/v3/api-docs")).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/v3/api-docs").header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.ETAG, identity.substring(0, identity.length() - 1) + "-gzip\""));
+        mockMvc.perform(get("/v3/api-docs").header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, deflate"))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(header().string(HttpHeaders.ETAG, identity));
+        mockMvc.perform(get("/v3/api-docs").header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                        .header(HttpHeaders.IF_NONE_MATCH, identity))
+                .andExpect(status().isOk());
+    }
+
+    /**
+     * Test to verify that a client with the current ETag gets a 304 without a body.
+     *
+     * @throws Exception if any MVC exception occurs.
+     */
+    @Test
+    public void getSpec_whenEtagMatches_shouldReturnNotModified() throws Exception {
+        MockMvc mockMvc = mockMvc(true);
+        String etag = mockMvc.perform(get("/v3/api-docs")).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/v3/api-docs").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=86400, private"))
+                .andExpect(content().bytes(new byte[0]));
+    }
+
+    /**
+     * Test to verify that the path answers 404 when the build did not generate the document.
+     *
+     * @throws Exception if any MVC exception occurs.
+     */
+    @Test
+    public void getSpec_whenNotGenerated_shouldReturnNotFound() throws Exception {
+        mockMvc(false).perform(get("/v3/api-docs"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value("The OpenAPI document was not generated by the build"));
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.mySpringApi.api.reactive;
+
+import com.example.mySpringApi.exception.UserExceptionFactory;
+import com.example.mySpringApi.model.dto.UserResponseDTO;
+import com.example.mySpringApi.repository.ReactiveUserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * ReactiveUserControllerTests verifies that the reactive endpoints produce the same envelopes as UserController.
+ * <p>
+ * Every handler returns a Mono or Flux, so each request is performed in two steps: the initial request starts
+ * async processing, and the async dispatch renders the result.
+ */
+@WebMvcTest(controllers = ReactiveUserController.class, properties = "app.reactive.enabled=true")
+@Import(UserExceptionFactory.class)
+class ReactiveUserControllerTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ReactiveUserRepository reactiveUserRepository;
+
+    private final UserResponseDTO john = new UserResponseDTO(1, "John", "john@example.com", 40, Set.of("USER"));
+    private final UserResponseDTO jane = new UserResponseDTO(2, "Jane", "jane@example.com", 35, Set.of("ADMIN"));
+
+    /**
+     * Test to verify that an existing user is returned in the standard envelope.
+     *
+     * @throws Exception if any MVC exception occurs.
+     */
+    @Test
+    public void getUserById_existingId_shouldReturnUser() throws Exception {
+        given(reactiveUserRepository.findById(1)).willReturn(Mono.just(john));
+
+        MvcResult started = mockMvc.perform(get("/reactive/userAPI/id/1"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("User fetched successfully"))
+                .andExpect(jsonPath("$.data.email").value("john@example.com"))
+                .andExpect(jsonPath("$.data.roles[0]").value("USER"));
+    }
+
+    /**
+     * Test to verify that an empty result is reported with the standard 404 envelope.
+     *
+     * @throws Exception if any MVC exception occurs.
+     */
+    @Test
+    public void getUserByEmail_nonExistingEmail_shouldReturnNotFound() throws Exception {
+        given(reactiveUserRepository.findByEmail("nobody@example.com")).willReturn(Mono.empty());
+
+        MvcResult started = mockMvc.perform(get("/reactive/userAPI/email/nobody@example.com"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value("User not found"));
+    }
+
+    /**
+     * Test to verify that listing all users collects them into a single envelope.
+     *
+     * @throws Exception if any MVC exception occurs.
+     */
+    @Test
+    public void getAllUsers_shouldReturnAllUsers() throws Exception {
+        given(reactiveUserRepository.findAll()).willReturn(Flux.just(john, jane));
+
+        MvcResult started = mockMvc.perform(get("/reactive/userAPI"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("All users fetched"))
+                .andExpect(jsonPath("$.data", hasSize(2)));
+    }
+
+    /**
+     * Test to verify that streaming writes one JSON document per line.
+     *
+     * @throws Exception if any MVC exception occurs.
+     */
+    @Test
+    public void streamAllUsers_shouldWriteNdjson() throws Exception {
+        given(reactiveUserRepository.findAll()).willReturn(Flux.just(john, jane));
+
+        MvcResult started = mockMvc.perform(get("/reactive/userAPI/stream").accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(body.lines()).hasSize(2);
+        assertThat(body.lines().findFirst()).hasValueSatisfying(line -> assertThat(line).contains("\"id\":1"));
+    }
+}
@@ -0,0 +1,181 @@
+package com.example.mySpringApi.api.rpc;
+
+import com.example.mySpringApi.api.rpc.proto.UserIdList;
+import com.example.mySpringApi.api.rpc.proto.UserRecord;
+import com.example.mySpringApi.api.rpc.proto.UserRecordList;
+import com.example.mySpringApi.cache.UserResponseBodyCache;
+import com.example.mySpringApi.config.BatchProperties;
+import com.example.mySpringApi.config.ProtobufConfig;
+import com.example.mySpringApi.exception.UserNotFoundException;
+import com.example.mySpringApi.model.Role;
+import com.example.mySpringApi.model.User;
+import com.example.mySpringApi.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * UserRpcControllerTests verifies the binary user resolution endpoints end to end in-process.
+ * <p>
+ * Requests and responses are real protobuf payloads, encoded and decoded with the generated message classes,
+ * so these tests also exercise the ProtobufHttpMessageConverter registered by {@link ProtobufConfig}.
+ */
+@WebMvcTest(UserRpcController.class)
+@Import(ProtobufConfig.class)
+@EnableConfigurationProperties(BatchProperties.class)
+@TestPropertySource(properties = {"app.batch.max-ids=3", "app.batch.stream-page-size=2"})
+class UserRpcControllerTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private UserService userService;
+
+    @MockBean  // disabled by default, so requests take the uncached path
+    private UserResponseBodyCache responseBodyCache;
+
+    private User john;
+    private User jane;
+
+    @BeforeEach
+    void setUp() {
+        john = new User("John", 40, "john@example.com");
+        john.setId(1);
+        john.setRoles(Collections.singleton(new Role(1, "USER")));
+
+        jane = new User("Jane", 35, "jane@example.com");
+        jane.setId(2);
+        jane.setRoles(Collections.singleton(new Role(2, "ADMIN")));
+    }
+
+    /**
+     * Test to verify that a single user resolves to a UserRecord.
+     *
+     * @throws Exception if any MVC or protobuf parsing exception occurs.
+     */
+    @Test
+    public void getUser_existingId_shouldReturnRecord() throws Exception {
+        given(userService.getUser(1)).willReturn(john);
+
+        byte[] body = mockMvc.perform(get("/internal/userRPC/id/1").accept(UserRpcController.PROTOBUF))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(UserRpcController.PROTOBUF))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        UserRecord record = UserRecord.parseFrom(body);
+        assertThat(record.getId()).isEqualTo(1);
+        assertThat(record.getEmail()).isEqualTo("john@example.com");
+        assertThat(record.getName()).isEqualTo("John");
+        assertThat(record.getRolesList()).containsExactly("USER");
+    }
+
+    /**
+     * Test to verify that a missing user is reported with the standard 404 status.
+     *
+     * @throws Exception if any MVC exception occurs.
+     */
+    @Test
+    public void getUser_nonExistingId_shouldReturnNotFound() throws Exception {
+        given(userService.getUser(999)).willThrow(new UserNotFoundException());
+
+        mockMvc.perform(get("/internal/userRPC/id/999").accept(UserRpcController.PROTOBUF))
+                .andExpect(status().isNotFound());
+    }
+
+    /**
+     * Test to verify that a batch resolves found IDs and reports the missing ones.
+     *
+     * @throws Exception if any MVC or protobuf parsing exception occurs.
+     */
+    @Test
+    public void getUsers_mixedIds_shouldReturnFoundAndMissing() throws Exception {
+        given(userService.getUsers(Arrays.asList(1, 2, 3))).willReturn(Arrays.asList(john, jane));
+
+        UserIdList request = UserIdList.newBuilder().addIds(1).addIds(2).addIds(3).build();
+
+        byte[] body = mockMvc.perform(post("/internal/userRPC/batch")
+                        .contentType(UserRpcController.PROTOBUF)
+                        .accept(UserRpcController.PROTOBUF)
+                        .content(request.toByteArray()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+
+        UserRecordList response = UserRecordList.parseFrom(body);
+        assertThat(response.getUsersList()).extracting(UserRecord::getEmail)
+                .containsExactly("john@example.com", "jane@example.com");
+        assertThat(response.getMissingIdsList()).containsExactly(3);
+    }
+
+    /**
+     * Test to verify that a batch over the configured maximum is rejected without querying.
+     *
+     * @throws Exception if any MVC exception occurs.
+     */
+    @Test
+    public void getUsers_overMaxIds_shouldReturnBadRequest() throws Exception {
+        UserIdList request = UserIdList.newBuilder().addIds(1).addIds(2).addIds(3).addIds(4).build();
+
+        mockMvc.perform(post("/internal/userRPC/batch")
+                        .contentType(UserRpcController.PROTOBUF)
+                        .accept(UserRpcController.PROTOBUF)
+                        .content(request.toByteArray()))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(userService);
+    }
+
+    /**
+     * Test to verify that stream-all reads keyset pages until a short one and writes one length-delimited record
+     * per user.
+     *
+     * @throws Exception if any MVC or protobuf parsing exception occurs.
+     */
+    @Test
+    public void streamAllUsers_shouldWriteDelimitedRecords() throws Exception {
+        User jim = new User("Jim", 30, "jim@example.com");
+        jim.setId(3);
+        given(userService.getUsersAfter(0, 2)).willReturn(Arrays.asList(john, jane));
+        given(userService.getUsersAfter(2, 2)).willReturn(Collections.singletonList(jim));
+
+        MvcResult started = mockMvc.perform(get("/internal/userRPC/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        byte[] body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+
+        List<UserRecord> records = new ArrayList<>();
+        ByteArrayInputStream in = new ByteArrayInputStream(body);
+        UserRecord record;
+        while ((record = UserRecord.parseDelimitedFrom(in)) != null) {
+            records.add(record);
+        }
+        assertThat(records).extracting(UserRecord::getId).containsExactly(1, 2, 3);
+        verify(userService, never()).getAllUsers();
+    }
+}
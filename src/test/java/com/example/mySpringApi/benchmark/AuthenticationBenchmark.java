@@ -0,0 +1,57 @@
+package com.example.mySpringApi.benchmark;
+
+import com.example.mySpringApi.config.UserLookupProperties;
+import com.example.mySpringApi.model.Role;
+import com.example.mySpringApi.model.User;
+import com.example.mySpringApi.repository.UserLookup;
+import com.example.mySpringApi.repository.UserRepository;
+import com.example.mySpringApi.service.CustomUserDetailsService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.lang.reflect.Proxy;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures CustomUserDetailsService.loadUserByUsername with a stub repository, which isolates the conversion of the
+ * User and its roles into Spring Security's UserDetails from the query that precedes it on every authenticated request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AuthenticationBenchmark {
+
+    private CustomUserDetailsService userDetailsService;
+
+    @Setup
+    public void setUp() {
+        BenchmarkLogging.useProductionLevel();
+
+        User user = new User("Default User", 30, "user@example.com");
+        user.setId(2);
+        user.setPasswordHash("$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z1ioo5pBzg6/Gi2VbGOGJdPe");
+        user.setRoles(Set.of(new Role(2, "USER")));
+        Optional<User> found = Optional.of(user);
+
+        UserRepository repository = (UserRepository) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{UserRepository.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("findByEmail")) {
+                        return found;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        userDetailsService = new CustomUserDetailsService(
+                new UserLookup(repository, null, new UserLookupProperties(), new SimpleMeterRegistry()));
+    }
+
+    @Benchmark
+    public UserDetails loadUserByUsername() {
+        return userDetailsService.loadUserByUsername("user@example.com");
+    }
+}
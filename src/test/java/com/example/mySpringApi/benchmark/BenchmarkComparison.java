@@ -0,0 +1,87 @@
+package com.example.mySpringApi.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares two JMH result files written with {@code -rf json}, such as the {@code target/jmh-result.json} of the
+ * previous release and of the current build, and reports benchmarks that got slower.
+ * <p>
+ * Benchmarks are matched by name and parameters. A change counts as a regression when the score is worse by more
+ * than the threshold percentage and by more than the sum of both error margins. Higher is better in throughput
+ * mode, lower in every other mode. The program exits with status 1 if there is a regression.
+ * <pre>
+ * java -cp target/test-classes:&lt;test classpath&gt; com.example.mySpringApi.benchmark.BenchmarkComparison \
+ *      baseline.json target/jmh-result.json [threshold percent, default 10]
+ * </pre>
+ */
+public final class BenchmarkComparison {
+
+    private BenchmarkComparison() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2) {
+            System.err.println("Usage: BenchmarkComparison <baseline.json> <current.json> [threshold percent]");
+            System.exit(2);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 10;
+        Map<String, JsonNode> baseline = read(new File(args[0]));
+        Map<String, JsonNode> current = read(new File(args[1]));
+
+        int regressions = 0;
+        for (Map.Entry<String, JsonNode> entry : current.entrySet()) {
+            JsonNode before = baseline.get(entry.getKey());
+            JsonNode after = entry.getValue();
+            if (before == null) {
+                System.out.printf("NEW        %-80s %12.3f %s%n", entry.getKey(), score(after), unit(after));
+                continue;
+            }
+            boolean higherIsBetter = after.path("mode").asText().equals("thrpt");
+            double change = (score(after) - score(before)) / score(before) * 100;
+            double worsening = higherIsBetter ? -change : change;
+            boolean significant = Math.abs(score(after) - score(before)) > error(before) + error(after);
+            String verdict = worsening > threshold && significant ? "REGRESSION"
+                    : -worsening > threshold && significant ? "IMPROVED" : "SAME";
+            if (verdict.equals("REGRESSION")) {
+                regressions++;
+            }
+            System.out.printf("%-10s %-80s %12.3f -> %12.3f %s (%+.1f%%)%n",
+                    verdict, entry.getKey(), score(before), score(after), unit(after), change);
+        }
+        baseline.keySet().stream().filter(key -> !current.containsKey(key))
+                .forEach(key -> System.out.printf("REMOVED    %s%n", key));
+
+        System.out.printf("%n%d regression(s) over %.1f%%%n", regressions, threshold);
+        System.exit(regressions > 0 ? 1 : 0);
+    }
+
+    private static Map<String, JsonNode> read(File file) throws Exception {
+        Map<String, JsonNode> results = new LinkedHashMap<>();
+        for (JsonNode result : new ObjectMapper().readTree(file)) {
+            Map<String, String> params = new TreeMap<>();
+            result.path("params").fields().forEachRemaining(param -> params.put(param.getKey(), param.getValue().asText()));
+            String benchmark = result.path("benchmark").asText().replace("com.example.mySpringApi.benchmark.", "");
+            results.put(params.isEmpty() ? benchmark : benchmark + params, result);
+        }
+        return results;
+    }
+
+    private static double score(JsonNode result) {
+        return result.path("primaryMetric").path("score").asDouble();
+    }
+
+    private static double error(JsonNode result) {
+        double error = result.path("primaryMetric").path("scoreError").asDouble();
+        return Double.isNaN(error) ? 0 : error;
+    }
+
+    private static String unit(JsonNode result) {
+        return result.path("primaryMetric").path("scoreUnit").asText();
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.mySpringApi.benchmark;
+
+import com.example.mySpringApi.MySpringApiApplication;
+import com.example.mySpringApi.config.FixtureProperties;
+import com.example.mySpringApi.fixtures.UserFixtureGenerator;
+import com.example.mySpringApi.fixtures.UserFixtureLoader;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Helpers for benchmarks that need a running application context.
+ * <p>
+ * Contexts are started on a random port against the in-memory H2 database configured in the test
+ * {@code application.yaml}, with SQL logging turned off so it does not distort the measurements.
+ * A servlet context is required because the security configuration depends on Spring MVC.
+ */
+final class BenchmarkContexts {
+
+    private BenchmarkContexts() {
+    }
+
+    /**
+     * Starts the application on H2.
+     *
+     * @param properties Additional {@code key=value} properties for this benchmark.
+     * @return The running context. Close it in the benchmark's tear-down method.
+     */
+    static ConfigurableApplicationContext start(String... properties) {
+        // Passed as command line arguments: default properties would be overridden by the application.yaml
+        List<String> all = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN"));
+        for (String property : properties) {
+            all.add("--" + property);
+        }
+        return new SpringApplicationBuilder(MySpringApiApplication.class)
+                .run(all.toArray(String[]::new));
+    }
+
+    /**
+     * Loads synthetic users with the UserFixtureLoader: batched JDBC inserts with realistic names, emails, ages and
+     * roles, and one shared password hash, so seeding large datasets is fast. The same count always gives the same
+     * users.
+     *
+     * @param context The running context.
+     * @param count The number of users to insert.
+     */
+    static void insertUsers(ConfigurableApplicationContext context, int count) {
+        FixtureProperties properties = context.getBean(FixtureProperties.class);
+        String passwordHash = context.getBean(PasswordEncoder.class).encode(properties.getPassword());
+        context.getBean(UserFixtureLoader.class).load(new UserFixtureGenerator(properties.getSeed()), 0, count,
+                properties.getBatchSize(), passwordHash);
+    }
+}
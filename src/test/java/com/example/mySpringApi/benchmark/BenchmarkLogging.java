@@ -0,0 +1,26 @@
+package com.example.mySpringApi.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Logging setup for benchmarks that call application classes without starting Spring Boot.
+ * <p>
+ * Without Spring Boot, logback runs with its default configuration: every logger at DEBUG, printed on the console.
+ * The debug lines of the services would then be formatted and printed on every call, which they are not in
+ * production, and dominate the measurement. Benchmarks that start a context get their levels from it instead; see
+ * {@link BenchmarkContexts}.
+ */
+final class BenchmarkLogging {
+
+    private BenchmarkLogging() {
+    }
+
+    /**
+     * Sets the root logger to INFO, Spring Boot's default level, which the application keeps in production.
+     */
+    static void useProductionLevel() {
+        ((Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME)).setLevel(Level.INFO);
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.mySpringApi.benchmark;
+
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Load benchmark comparing the PLATFORM and VIRTUAL execution modes over real HTTP.
+ * <p>
+ * For each mode, the application is started on H2 with security enabled and driven by {@link HttpLoad}.
+ * Throughput, p50 and p99 are printed per mode.
+ * <p>
+ * This is not a JMH benchmark. Run it from the IDE, or with:
+ * <pre>
+ * java -cp target/test-classes:target/classes:&lt;test classpath&gt; \
+ *      -Dconcurrency=200 -Dseconds=20 -Dpath=/userAPI/id/1 \
+ *      com.example.mySpringApi.benchmark.ExecutionModeLoadBenchmark
+ * </pre>
+ * {@code -Dtomcat.threads} caps the platform pool (default 200, Tomcat's default).
+ */
+public final class ExecutionModeLoadBenchmark {
+
+    private ExecutionModeLoadBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int concurrency = Integer.getInteger("concurrency", 200);
+        Duration duration = Duration.ofSeconds(Long.getLong("seconds", 20));
+        String path = System.getProperty("path", "/userAPI/id/1");
+        String tomcatThreads = System.getProperty("tomcat.threads", "200");
+
+        List<String> results = new ArrayList<>();
+        for (String mode : List.of("platform", "virtual")) {
+            try (ConfigurableApplicationContext context = BenchmarkContexts.start(
+                    "app.execution.mode=" + mode,
+                    "server.tomcat.threads.max=" + tomcatThreads)) {
+                int port = Integer.parseInt(context.getEnvironment().getRequiredProperty("local.server.port"));
+                URI uri = URI.create("http://localhost:" + port + path);
+                HttpLoad.run(uri, concurrency, Duration.ofSeconds(3)); // warm-up
+                results.add(String.format("%-8s %s", mode, HttpLoad.run(uri, concurrency, duration)));
+            }
+        }
+        System.out.printf("%nconcurrency=%d duration=%s path=%s tomcat.threads=%s%n", concurrency, duration, path, tomcatThreads);
+        results.forEach(System.out::println);
+    }
+}
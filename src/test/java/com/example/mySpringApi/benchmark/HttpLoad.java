@@ -0,0 +1,90 @@
+package com.example.mySpringApi.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop HTTP load driver shared by the load benchmarks.
+ * <p>
+ * A fixed number of client threads call one URI back to back, with HTTP Basic credentials for the seeded admin
+ * user, so every request performs the BCrypt verification and the lookups of a production request.
+ */
+final class HttpLoad {
+
+    private HttpLoad() {
+    }
+
+    /**
+     * Calls a URI from {@code concurrency} threads until the duration elapses.
+     *
+     * @param uri         The URI to GET.
+     * @param concurrency The number of client threads, each with one request in flight.
+     * @param duration    How long to keep sending requests.
+     * @return A one-line summary with throughput, p50, p99 and the number of non-200 responses.
+     * @throws InterruptedException if interrupted while waiting for the client threads.
+     */
+    static String run(URI uri, int concurrency, Duration duration) throws InterruptedException {
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        String credentials = Base64.getEncoder().encodeToString("admin@example.com:admin".getBytes(StandardCharsets.UTF_8));
+        HttpRequest request = HttpRequest.newBuilder(uri).header("Authorization", "Basic " + credentials).GET().build();
+
+        long deadline = System.nanoTime() + duration.toNanos();
+        AtomicLong errors = new AtomicLong();
+        long[][] latencies = new long[concurrency][];
+        int[] counts = new int[concurrency];
+        CountDownLatch done = new CountDownLatch(concurrency);
+
+        for (int t = 0; t < concurrency; t++) {
+            int worker = t;
+            Thread.ofPlatform().start(() -> {
+                long[] samples = new long[1024];
+                int n = 0;
+                while (System.nanoTime() < deadline) {
+                    long start = System.nanoTime();
+                    try {
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() != 200) {
+                            errors.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        errors.incrementAndGet();
+                    }
+                    if (n == samples.length) {
+                        samples = Arrays.copyOf(samples, n * 2);
+                    }
+                    samples[n++] = System.nanoTime() - start;
+                }
+                latencies[worker] = samples;
+                counts[worker] = n;
+                done.countDown();
+            });
+        }
+        done.await();
+
+        int total = Arrays.stream(counts).sum();
+        long[] all = new long[total];
+        int offset = 0;
+        for (int t = 0; t < concurrency; t++) {
+            System.arraycopy(latencies[t], 0, all, offset, counts[t]);
+            offset += counts[t];
+        }
+        Arrays.sort(all);
+        return String.format("throughput=%.1f req/s p50=%.1f ms p99=%.1f ms errors=%d",
+                total / (double) duration.toSeconds(), percentile(all, 0.50), percentile(all, 0.99), errors.get());
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return Double.NaN;
+        }
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(quantile * sorted.length) - 1)] / 1_000_000.0;
+    }
+}
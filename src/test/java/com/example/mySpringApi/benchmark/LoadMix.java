@@ -0,0 +1,105 @@
+package com.example.mySpringApi.benchmark;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The weighted mix of operations sent by {@link LoadTest}, parsed from a spec such as
+ * {@code get=60,list=5,create=10,update=10,delete=5,auth=10}. Operations left out of the spec are not sent.
+ */
+final class LoadMix {
+
+    static final String DEFAULT = "get=60,list=5,create=10,update=10,delete=5,auth=10";
+
+    /**
+     * The requests the harness can send, with the status each one must return to count as a success.
+     */
+    enum Operation {
+        /** GET /userAPI/id/{id} of a seeded user, as the seeded USER. */
+        GET(200),
+        /** GET /userAPI, every user, as the seeded USER. */
+        LIST(200),
+        /** POST /userAPI/createUser, as the seeded ADMIN. */
+        CREATE(201),
+        /** PUT /userAPI/updateUser of a spare or created user, as the seeded ADMIN. */
+        UPDATE(200),
+        /** DELETE /userAPI/deleteUser/{id} of a spare or created user, as the seeded ADMIN. */
+        DELETE(200),
+        /** GET /userAPI/id/{id} with a wrong password, which is rejected after the BCrypt check. */
+        AUTH(401);
+
+        final int expectedStatus;
+
+        Operation(int expectedStatus) {
+            this.expectedStatus = expectedStatus;
+        }
+
+        String label() {
+            return name().toLowerCase();
+        }
+    }
+
+    private final String spec;
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+
+    private LoadMix(String spec, Map<Operation, Integer> weights) {
+        this.spec = spec;
+        this.operations = weights.keySet().toArray(Operation[]::new);
+        this.cumulativeWeights = new int[operations.length];
+        int total = 0;
+        for (int i = 0; i < operations.length; i++) {
+            total += weights.get(operations[i]);
+            cumulativeWeights[i] = total;
+        }
+    }
+
+    /**
+     * @param spec Comma-separated {@code operation=weight} pairs.
+     * @return The parsed mix.
+     * @throws IllegalArgumentException If an operation is unknown, a weight is negative or all weights are zero.
+     */
+    static LoadMix parse(String spec) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String entry : spec.split(",")) {
+            String[] pair = entry.trim().split("=");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Expected operation=weight, got: " + entry);
+            }
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Negative weight: " + entry);
+            }
+            if (weight > 0) {
+                weights.put(Operation.valueOf(pair[0].trim().toUpperCase()), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("The mix has no operation with a positive weight: " + spec);
+        }
+        return new LoadMix(spec, weights);
+    }
+
+    /**
+     * @return A random operation, drawn according to the weights.
+     */
+    Operation next() {
+        int draw = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < operations.length; i++) {
+            if (draw < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        throw new IllegalStateException("Unreachable");
+    }
+
+    Operation[] operations() {
+        return operations.clone();
+    }
+
+    @Override
+    public String toString() {
+        return spec;
+    }
+}
@@ -0,0 +1,180 @@
+package com.example.mySpringApi.benchmark;
+
+import com.example.mySpringApi.benchmark.LoadMix.Operation;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latencies and errors recorded by {@link LoadTest}, per operation and overall, and their comparison with a baseline.
+ * <p>
+ * Latencies are recorded in microseconds in HdrHistograms with three significant digits, up to one minute.
+ * A request counts as an error when it fails or returns another status than its operation expects.
+ */
+final class LoadReport {
+
+    private static final ObjectMapper JSON = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private static final long HIGHEST_MICROS = TimeUnit.MINUTES.toMicros(1);
+    // p999 is only compared when both runs have enough samples for it to be more than a handful of requests.
+    private static final long MIN_SAMPLES_FOR_P999 = 10_000;
+    private static final long MIN_SAMPLES = 100;
+
+    private final Map<Operation, Histogram> latencies = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+
+    LoadReport() {
+        for (Operation operation : Operation.values()) {
+            latencies.put(operation, new ConcurrentHistogram(HIGHEST_MICROS, 3));
+            errors.put(operation, new LongAdder());
+        }
+    }
+
+    /**
+     * Records one completed request.
+     *
+     * @param operation    The operation sent.
+     * @param latencyNanos The time from when the request was due to when its response was read.
+     * @param success      Whether the response had the expected status.
+     */
+    void record(Operation operation, long latencyNanos, boolean success) {
+        latencies.get(operation).recordValue(Math.min(HIGHEST_MICROS, TimeUnit.NANOSECONDS.toMicros(latencyNanos)));
+        if (!success) {
+            errors.get(operation).increment();
+        }
+    }
+
+    /**
+     * Summarizes the run as JSON: the settings it ran with and, for "all" and each operation sent, the request count,
+     * throughput in requests per second, error rate and p50, p99 and p999 latencies in milliseconds.
+     *
+     * @param settings The load settings; runs are only compared with a baseline recorded with the same settings.
+     * @param duration The measured duration.
+     * @return The summary.
+     */
+    ObjectNode summarize(Map<String, Object> settings, Duration duration) {
+        ObjectNode summary = JSON.createObjectNode();
+        summary.set("settings", JSON.valueToTree(settings));
+        ObjectNode operations = summary.putObject("operations");
+
+        Histogram all = new Histogram(HIGHEST_MICROS, 3);
+        long allErrors = 0;
+        for (Operation operation : Operation.values()) {
+            Histogram histogram = latencies.get(operation);
+            if (histogram.getTotalCount() > 0) {
+                all.add(histogram);
+                allErrors += errors.get(operation).sum();
+                operations.set(operation.label(), metrics(histogram, errors.get(operation).sum(), duration));
+            }
+        }
+        operations.set("all", metrics(all, allErrors, duration));
+        return summary;
+    }
+
+    /**
+     * Prints a summary as a table.
+     *
+     * @param summary The summary returned by {@link #summarize}.
+     */
+    static void print(JsonNode summary) {
+        System.out.printf("%nsettings: %s%n", summary.get("settings"));
+        System.out.printf("%-8s %9s %11s %8s %10s %10s %10s%n", "op", "requests", "req/s", "errors", "p50 ms", "p99 ms", "p999 ms");
+        summary.get("operations").fields().forEachRemaining(entry -> {
+            JsonNode m = entry.getValue();
+            System.out.printf("%-8s %9d %11.1f %7.2f%% %10.2f %10.2f %10.2f%n", entry.getKey(), m.get("requests").asLong(),
+                    m.get("throughput").asDouble(), m.get("errorRate").asDouble() * 100,
+                    m.get("p50").asDouble(), m.get("p99").asDouble(), m.get("p999").asDouble());
+        });
+    }
+
+    /**
+     * Compares a run with a baseline, operation by operation. A run regresses when, for an operation with at least
+     * 100 requests in both runs, its throughput is lower by more than {@code throughputThreshold} percent, its p99
+     * (and, with 10,000 requests, its p999) is higher by more than {@code latencyThreshold} percent, or its error
+     * rate is higher by more than {@code errorThreshold} percentage points.
+     *
+     * @return The regressions found, one line each; empty if there is none.
+     */
+    static List<String> compare(JsonNode baseline, JsonNode current, double throughputThreshold,
+                                double latencyThreshold, double errorThreshold) {
+        List<String> regressions = new ArrayList<>();
+        if (!baseline.get("settings").equals(current.get("settings"))) {
+            regressions.add("The baseline was recorded with other settings: " + baseline.get("settings"));
+            return regressions;
+        }
+        Iterator<Map.Entry<String, JsonNode>> entries = current.get("operations").fields();
+        while (entries.hasNext()) {
+            Map.Entry<String, JsonNode> entry = entries.next();
+            JsonNode before = baseline.get("operations").get(entry.getKey());
+            JsonNode after = entry.getValue();
+            if (before == null || Math.min(before.get("requests").asLong(), after.get("requests").asLong()) < MIN_SAMPLES) {
+                continue;
+            }
+            String op = entry.getKey();
+            double throughputDrop = -change(before, after, "throughput");
+            if (throughputDrop > throughputThreshold) {
+                regressions.add(String.format("%s: throughput down %.1f%% (%.1f -> %.1f req/s)", op, throughputDrop,
+                        before.get("throughput").asDouble(), after.get("throughput").asDouble()));
+            }
+            List<String> percentiles = new ArrayList<>(List.of("p99"));
+            if (Math.min(before.get("requests").asLong(), after.get("requests").asLong()) >= MIN_SAMPLES_FOR_P999) {
+                percentiles.add("p999");
+            }
+            for (String percentile : percentiles) {
+                double increase = change(before, after, percentile);
+                if (increase > latencyThreshold) {
+                    regressions.add(String.format("%s: %s up %.1f%% (%.2f -> %.2f ms)", op, percentile, increase,
+                            before.get(percentile).asDouble(), after.get(percentile).asDouble()));
+                }
+            }
+            double errorIncrease = (after.get("errorRate").asDouble() - before.get("errorRate").asDouble()) * 100;
+            if (errorIncrease > errorThreshold) {
+                regressions.add(String.format("%s: error rate up %.2f points (%.2f%% -> %.2f%%)", op, errorIncrease,
+                        before.get("errorRate").asDouble() * 100, after.get("errorRate").asDouble() * 100));
+            }
+        }
+        return regressions;
+    }
+
+    static JsonNode read(Path file) throws IOException {
+        return JSON.readTree(file.toFile());
+    }
+
+    static void write(JsonNode summary, Path file) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        JSON.writeValue(file.toFile(), summary);
+    }
+
+    private static ObjectNode metrics(Histogram histogram, long errorCount, Duration duration) {
+        long requests = histogram.getTotalCount();
+        ObjectNode metrics = JSON.createObjectNode();
+        metrics.put("requests", requests);
+        metrics.put("throughput", requests / (duration.toNanos() / 1e9));
+        metrics.put("errorRate", requests == 0 ? 0 : errorCount / (double) requests);
+        metrics.put("p50", histogram.getValueAtPercentile(50) / 1000.0);
+        metrics.put("p99", histogram.getValueAtPercentile(99) / 1000.0);
+        metrics.put("p999", histogram.getValueAtPercentile(99.9) / 1000.0);
+        return metrics;
+    }
+
+    private static double change(JsonNode before, JsonNode after, String metric) {
+        double previous = before.get(metric).asDouble();
+        return previous == 0 ? 0 : (after.get(metric).asDouble() - previous) / previous * 100;
+    }
+}
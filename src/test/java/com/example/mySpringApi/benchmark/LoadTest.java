@@ -0,0 +1,262 @@
+package com.example.mySpringApi.benchmark;
+
+import com.example.mySpringApi.benchmark.LoadMix.Operation;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * HTTP load test of the running application, with a throughput and tail latency gate against a stored baseline.
+ * <p>
+ * The application is started on H2 with the real security filter chain, so every request performs the BCrypt check
+ * of a production request. {@code load.users} users are inserted for reads and as many spare users for updates and
+ * deletes. After a warm-up, a weighted {@link LoadMix} of get, list, create, update, delete and failed-auth requests
+ * is sent for the configured duration, in one of two modes:
+ * <ul>
+ *     <li>closed loop (default): {@code load.concurrency} clients send requests back to back.</li>
+ *     <li>fixed arrival rate ({@code load.rate} > 0): requests are due at a fixed rate, with at most
+ *     {@code load.concurrency} in flight. Latency is measured from when a request was due, so time spent queued
+ *     behind a slow server is included rather than hidden.</li>
+ * </ul>
+ * Throughput, error rate and p50/p99/p999 latencies are printed per operation and written to {@code load.result}.
+ * They are then compared with {@code load.baseline} (see {@link LoadReport#compare}); the program exits with status 1
+ * on a regression, and also when there is no baseline. With {@code -Dload.update-baseline=true}, the run is stored as
+ * the baseline instead. Baselines only compare runs on the same machine with the same settings, so the gate is local:
+ * none is committed, and the default one is kept in {@code target/}.
+ * <p>
+ * Run it with {@code ./mvnw -Pload-test -DskipTests verify}, or from the IDE.
+ */
+public final class LoadTest {
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+    private static final String PASSWORD = "Load-Test-9#Passw";
+
+    private final HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    private final String baseUri;
+    private final LoadMix mix;
+    private final int[] readIds;
+    private final ConcurrentLinkedQueue<Target> writable;
+    private final AtomicLong sequence = new AtomicLong();
+    private final String userCredentials = basic("user@example.com", "user");
+    private final String adminCredentials = basic("admin@example.com", "admin");
+    private final String wrongCredentials = basic("user@example.com", "wrong-password");
+
+    /**
+     * A user that updates and deletes may target.
+     */
+    private record Target(int id, String email) {
+    }
+
+    private LoadTest(int port, LoadMix mix, int[] readIds, List<Target> spares) {
+        this.baseUri = "http://localhost:" + port + "/userAPI";
+        this.mix = mix;
+        this.readIds = readIds;
+        this.writable = new ConcurrentLinkedQueue<>(spares);
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadMix mix = LoadMix.parse(System.getProperty("load.mix", LoadMix.DEFAULT));
+        int concurrency = Integer.getInteger("load.concurrency", 16);
+        double rate = Double.parseDouble(System.getProperty("load.rate", "0"));
+        int users = Integer.getInteger("load.users", 1000);
+        Duration warmup = Duration.ofSeconds(Long.getLong("load.warmup", 10));
+        Duration duration = Duration.ofSeconds(Long.getLong("load.seconds", 30));
+        Path baselineFile = Path.of(System.getProperty("load.baseline", "target/load-baseline.json"));
+        Path resultFile = Path.of(System.getProperty("load.result", "target/load-result.json"));
+        boolean updateBaseline = Boolean.getBoolean("load.update-baseline");
+        double throughputThreshold = Double.parseDouble(System.getProperty("load.throughput-threshold", "10"));
+        double latencyThreshold = Double.parseDouble(System.getProperty("load.latency-threshold", "20"));
+        double errorThreshold = Double.parseDouble(System.getProperty("load.error-threshold", "1"));
+
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("mix", mix.toString());
+        settings.put("mode", rate > 0 ? "rate" : "closed");
+        settings.put("concurrency", concurrency);
+        settings.put("rate", rate);
+        settings.put("users", users);
+        settings.put("seconds", duration.toSeconds());
+
+        JsonNode summary;
+        try (ConfigurableApplicationContext context = BenchmarkContexts.start("app.sql-budget.fail-on-violation=false")) {
+            BenchmarkContexts.insertUsers(context, users * 2);
+            List<Target> seeded = context.getBean(JdbcTemplate.class).query(
+                    "select id, email from user_info where email not in ('admin@example.com', 'user@example.com') order by id",
+                    (row, i) -> new Target(row.getInt("id"), row.getString("email")));
+            int[] readIds = seeded.subList(0, users).stream().mapToInt(Target::id).toArray();
+            int port = Integer.parseInt(context.getEnvironment().getRequiredProperty("local.server.port"));
+            LoadTest test = new LoadTest(port, mix, readIds, seeded.subList(users, seeded.size()));
+
+            System.out.printf("Warming up for %s%n", warmup);
+            test.run(concurrency, rate, warmup, new LoadReport());
+            System.out.printf("Measuring for %s%n", duration);
+            LoadReport report = new LoadReport();
+            long start = System.nanoTime();
+            test.run(concurrency, rate, duration, report);
+            summary = report.summarize(settings, Duration.ofNanos(System.nanoTime() - start));
+        }
+
+        LoadReport.print(summary);
+        LoadReport.write(summary, resultFile);
+        System.out.printf("%nResults written to %s%n", resultFile);
+
+        if (updateBaseline) {
+            LoadReport.write(summary, baselineFile);
+            System.out.printf("Baseline recorded in %s%n", baselineFile);
+            return;
+        }
+        if (!Files.exists(baselineFile)) {
+            System.out.printf("No baseline in %s; record one with -Dload.update-baseline=true%n", baselineFile);
+            System.exit(1);
+        }
+        List<String> regressions = LoadReport.compare(LoadReport.read(baselineFile), summary,
+                throughputThreshold, latencyThreshold, errorThreshold);
+        if (regressions.isEmpty()) {
+            System.out.printf("No regression against %s%n", baselineFile);
+            return;
+        }
+        System.out.printf("%d regression(s) against %s:%n", regressions.size(), baselineFile);
+        regressions.forEach(regression -> System.out.println("  " + regression));
+        System.exit(1);
+    }
+
+    private void run(int concurrency, double rate, Duration duration, LoadReport report) throws InterruptedException {
+        if (rate > 0) {
+            runAtRate(concurrency, rate, duration, report);
+        } else {
+            runClosed(concurrency, duration, report);
+        }
+    }
+
+    private void runClosed(int concurrency, Duration duration, LoadReport report) throws InterruptedException {
+        long deadline = System.nanoTime() + duration.toNanos();
+        CountDownLatch done = new CountDownLatch(concurrency);
+        for (int t = 0; t < concurrency; t++) {
+            Thread.ofPlatform().start(() -> {
+                while (System.nanoTime() < deadline) {
+                    send(mix.next(), System.nanoTime(), report);
+                }
+                done.countDown();
+            });
+        }
+        done.await();
+    }
+
+    private void runAtRate(int concurrency, double rate, Duration duration, LoadReport report) throws InterruptedException {
+        long interval = (long) (1e9 / rate);
+        long start = System.nanoTime();
+        long requests = (long) (rate * duration.toNanos() / 1e9);
+        Semaphore inFlight = new Semaphore(concurrency);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; i < requests; i++) {
+                long due = start + i * interval;
+                long wait = due - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                inFlight.acquire();
+                Operation operation = mix.next();
+                executor.execute(() -> {
+                    try {
+                        send(operation, due, report);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+    }
+
+    private void send(Operation operation, long due, LoadReport report) {
+        boolean success;
+        try {
+            success = switch (operation) {
+                case GET -> call(operation, get("/id/" + readIds[ThreadLocalRandom.current().nextInt(readIds.length)],
+                        userCredentials)) != null;
+                case LIST -> call(operation, get("", userCredentials)) != null;
+                case CREATE -> create();
+                case UPDATE -> update();
+                case DELETE -> delete();
+                case AUTH -> call(operation, get("/id/" + readIds[0], wrongCredentials)) != null;
+            };
+        } catch (Exception e) {
+            success = false;
+        }
+        report.record(operation, System.nanoTime() - due, success);
+    }
+
+    private boolean create() throws Exception {
+        String email = "load" + sequence.incrementAndGet() + "@example.com";
+        String body = call(Operation.CREATE, json("/createUser", "POST", Map.of(
+                "name", "Load User", "age", 30, "email", email, "rawPassword", PASSWORD, "roles", List.of("USER"))));
+        if (body == null) {
+            return false;
+        }
+        writable.add(new Target(JSON.readTree(body).path("data").path("id").asInt(), email));
+        return true;
+    }
+
+    private boolean update() throws Exception {
+        Target target = writable.poll();
+        if (target == null) {
+            return false;
+        }
+        try {
+            return call(Operation.UPDATE, json("/updateUser", "PUT", Map.of("id", target.id(), "name", "Load Updated",
+                    "age", 31, "email", target.email(), "rawPassword", PASSWORD, "roles", List.of("USER")))) != null;
+        } finally {
+            writable.add(target);
+        }
+    }
+
+    private boolean delete() throws Exception {
+        Target target = writable.poll();
+        return target != null && call(Operation.DELETE, HttpRequest.newBuilder(URI.create(baseUri + "/deleteUser/" + target.id()))
+                .header("Authorization", adminCredentials).DELETE().build()) != null;
+    }
+
+    /**
+     * @return The response body if the status is the one the operation expects, null otherwise.
+     */
+    private String call(Operation operation, HttpRequest request) throws Exception {
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        return response.statusCode() == operation.expectedStatus ? response.body() : null;
+    }
+
+    private HttpRequest get(String path, String credentials) {
+        return HttpRequest.newBuilder(URI.create(baseUri + path)).header("Authorization", credentials).GET().build();
+    }
+
+    private HttpRequest json(String path, String method, Map<String, Object> body) throws Exception {
+        return HttpRequest.newBuilder(URI.create(baseUri + path))
+                .header("Authorization", adminCredentials)
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofByteArray(JSON.writeValueAsBytes(body)))
+                .build();
+    }
+
+    private static String basic(String user, String password) {
+        return "Basic " + Base64.getEncoder().encodeToString((user + ":" + password).getBytes(StandardCharsets.UTF_8));
+    }
+}
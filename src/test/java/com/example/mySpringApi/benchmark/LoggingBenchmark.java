@@ -0,0 +1,127 @@
+package com.example.mySpringApi.benchmark;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the per-call cost of the former {@code System.out.println("DEBUG: ...")} lines with the logging pipeline
+ * configured in logback-spring.xml, from four threads at once.
+ * <ul>
+ *     <li>{@code systemOut}: a synchronized, autoflushing PrintStream over a file, like stdout.</li>
+ *     <li>{@code debugDisabled}: {@code log.debug} with DEBUG disabled, the production default.</li>
+ *     <li>{@code syncAppender}: {@code log.info} written by the calling thread to a file appender.</li>
+ *     <li>{@code asyncAppender}: {@code log.info} through the bounded, never-blocking AsyncAppender over the same
+ *     file appender. Events dropped when the buffer is full are part of the design, and the score includes them.</li>
+ * </ul>
+ * Output goes to temporary files, so every variant pays for real writes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class LoggingBenchmark {
+
+    private PrintStream systemOut;
+    private Logger disabledLogger;
+    private Logger syncLogger;
+    private Logger asyncLogger;
+    private AsyncAppender asyncAppender;
+    private Path directory;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("logging-benchmark");
+        systemOut = new PrintStream(new FileOutputStream(directory.resolve("stdout.log").toFile()), true);
+
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        context.getLogger(Logger.ROOT_LOGGER_NAME).detachAndStopAllAppenders();
+
+        disabledLogger = context.getLogger("benchmark.disabled");
+        disabledLogger.setLevel(Level.INFO);
+
+        syncLogger = logger(context, "benchmark.sync", fileAppender(context, "sync.log"));
+
+        asyncAppender = new AsyncAppender();
+        asyncAppender.setContext(context);
+        asyncAppender.setQueueSize(8192);
+        asyncAppender.setNeverBlock(true);
+        asyncAppender.addAppender(fileAppender(context, "async.log"));
+        asyncAppender.start();
+        asyncLogger = logger(context, "benchmark.async", asyncAppender);
+
+        MDC.put("requestId", "5f2c9a1e7b3d4c60");
+        MDC.put("userId", "admin@example.com");
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        asyncAppender.stop();
+        systemOut.close();
+        try (var files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    @Benchmark
+    public void systemOut() {
+        systemOut.println("DEBUG: I am in the getUserByID service method");
+    }
+
+    @Benchmark
+    public void debugDisabled() {
+        disabledLogger.debug("Fetching user by email {}", "admin@example.com");
+    }
+
+    @Benchmark
+    public void syncAppender() {
+        syncLogger.info("Fetching user by email {}", "admin@example.com");
+    }
+
+    @Benchmark
+    public void asyncAppender() {
+        asyncLogger.info("Fetching user by email {}", "admin@example.com");
+    }
+
+    private Appender<ILoggingEvent> fileAppender(LoggerContext context, String name) {
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%d %5p [%15.15t] %-40.40logger{39} : requestId=%X{requestId:--} userId=%X{userId:--} %m%n");
+        encoder.start();
+        FileAppender<ILoggingEvent> appender = new FileAppender<>();
+        appender.setContext(context);
+        appender.setEncoder(encoder);
+        appender.setFile(directory.resolve(name).toString());
+        appender.start();
+        return appender;
+    }
+
+    private static Logger logger(LoggerContext context, String name, Appender<ILoggingEvent> appender) {
+        Logger logger = context.getLogger(name);
+        logger.setLevel(Level.INFO);
+        logger.setAdditive(false);
+        logger.addAppender(appender);
+        return logger;
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.mySpringApi.benchmark;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.OutputStreamAppender;
+import com.example.mySpringApi.api.advice.UserExceptionHandler;
+import com.example.mySpringApi.api.controller.UserController;
+import com.example.mySpringApi.cache.UserResponseBodyCache;
+import com.example.mySpringApi.config.BatchProperties;
+import com.example.mySpringApi.config.ErrorHandlingProperties;
+import com.example.mySpringApi.config.PasswordPolicyProperties;
+import com.example.mySpringApi.exception.UserExceptionFactory;
+import com.example.mySpringApi.exception.UserNotFoundException;
+import com.example.mySpringApi.response.ResponseHandler;
+import com.example.mySpringApi.service.UserService;
+import com.example.mySpringApi.validation.PasswordPolicyChecker;
+import com.example.mySpringApi.validation.UserInputValidator;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Measures the throughput of GET /userAPI/id/{id} requests for unknown users, through a standalone MockMvc.
+ * <p>
+ * {@code handling=previous} captures stack traces and logs each 404 at ERROR with its stack trace, as the exception
+ * handler used to. {@code handling=current} uses stackless UserExceptions and the rate-limited UserExceptionHandler
+ * with its default settings. Log output is formatted by logback and written to a discarding stream, so formatting
+ * costs are included but disk I/O is not.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Slf4j
+public class NotFoundBenchmark {
+
+    @Param({"previous", "current"})
+    private String handling;
+
+    private MockMvc mockMvc;
+
+    @Setup
+    public void setUp() {
+        discardLogOutput();
+
+        boolean previous = handling.equals("previous");
+        UserExceptionFactory exceptionFactory = new UserExceptionFactory(previous);
+
+        // stubOnly: the mock keeps no record of invocations, which would otherwise grow without bound
+        UserService userService = mock(UserService.class, withSettings().stubOnly());
+        when(userService.getUser(anyInt())).thenAnswer(invocation -> {
+            throw exceptionFactory.notFound();
+        });
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        UserController controller = new UserController(userService,
+                mock(UserResponseBodyCache.class, withSettings().stubOnly()),
+                new UserInputValidator(new PasswordPolicyChecker(new PasswordPolicyProperties())),
+                beanFactory.getBeanProvider(BatchProperties.class));
+
+        Object advice = previous
+                ? new PreviousExceptionHandler()
+                : new UserExceptionHandler(beanFactory.getBeanProvider(ErrorHandlingProperties.class),
+                        beanFactory.getBeanProvider(MeterRegistry.class));
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).setControllerAdvice(advice).build();
+    }
+
+    @Benchmark
+    public int notFound() throws Exception {
+        return mockMvc.perform(get("/userAPI/id/999")).andReturn().getResponse().getStatus();
+    }
+
+    private static void discardLogOutput() {
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%d %-5level [%thread] %logger{36} - %msg%n");
+        encoder.start();
+        OutputStreamAppender<ILoggingEvent> appender = new OutputStreamAppender<>();
+        appender.setContext(context);
+        appender.setEncoder(encoder);
+        appender.setOutputStream(OutputStream.nullOutputStream());
+        appender.start();
+        Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        root.detachAndStopAllAppenders();
+        root.addAppender(appender);
+        root.setLevel(ch.qos.logback.classic.Level.INFO);
+    }
+
+    /**
+     * The 404 handling of UserExceptionHandler before client errors were rate limited. It is an inner class so that
+     * the component scan of the SpringBootTests, which covers the test classes, does not register it.
+     */
+    @ControllerAdvice
+    class PreviousExceptionHandler {
+
+        @ExceptionHandler(UserNotFoundException.class)
+        public ResponseEntity<Object> handleUserNotFoundException(UserNotFoundException ex) {
+            log.error("User not found. Stack Trace -->", ex);
+            return ResponseHandler.generateResponse(ex.getMessage(), ex.getHttpStatus(), null);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.mySpringApi.benchmark;
+
+import com.example.mySpringApi.config.PasswordPolicyProperties;
+import com.example.mySpringApi.validation.PasswordPolicyChecker;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.io.ByteArrayResource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HexFormat;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time of one PasswordPolicyChecker check, with and without the breached-password lookup.
+ * <p>
+ * The breached list holds {@code listSize} random SHA-1 hashes, so lookups run against a filter of realistic size.
+ * The password satisfies every rule, so each check runs the full scan and, when enabled, the lookup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PasswordPolicyBenchmark {
+
+    @Param({"1000000"})
+    private int listSize;
+
+    private final String password = "securePassword123!";
+    private PasswordPolicyChecker rulesOnly;
+    private PasswordPolicyChecker withBreachedLookup;
+
+    @Setup
+    public void setUp() {
+        rulesOnly = new PasswordPolicyChecker(new PasswordPolicyProperties());
+
+        StringBuilder list = new StringBuilder(listSize * 41);
+        SplittableRandom random = new SplittableRandom(42);
+        byte[] hash = new byte[20];
+        HexFormat hex = HexFormat.of().withUpperCase();
+        for (int i = 0; i < listSize; i++) {
+            random.nextBytes(hash);
+            list.append(hex.formatHex(hash)).append('\n');
+        }
+        PasswordPolicyProperties properties = new PasswordPolicyProperties();
+        properties.setBreachedPasswords(new ByteArrayResource(list.toString().getBytes(StandardCharsets.US_ASCII)));
+        withBreachedLookup = new PasswordPolicyChecker(properties);
+    }
+
+    @Benchmark
+    public String rulesOnly() {
+        return rulesOnly.check(password);
+    }
+
+    @Benchmark
+    public String withBreachedLookup() {
+        return withBreachedLookup.check(password);
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.mySpringApi.benchmark;
+
+import com.example.mySpringApi.model.User;
+import com.example.mySpringApi.model.UserField;
+import com.example.mySpringApi.response.ResponseHandler;
+import com.example.mySpringApi.service.UserService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpStatus;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares GET /userAPI with and without {@code ?fields=id,email}: the query, the conversion and the
+ * serialization of the response body, against an H2 database holding a few thousand users.
+ * <p>
+ * The size of each response body is printed once during setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProjectionQueryBenchmark {
+
+    private static final Set<UserField> ID_AND_EMAIL = EnumSet.of(UserField.ID, UserField.EMAIL);
+
+    @Param({"2000"})
+    private int users;
+
+    private ConfigurableApplicationContext context;
+    private UserService userService;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() throws Exception {
+        context = BenchmarkContexts.start();
+        BenchmarkContexts.insertUsers(context, users);
+        userService = context.getBean(UserService.class);
+        objectMapper = context.getBean(ObjectMapper.class);
+        System.out.printf("%nfull=%d bytes, fields=id,email=%d bytes%n", fullUsers().length, idAndEmail().length);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] fullUsers() throws Exception {
+        List<User> all = userService.getAllUsers();
+        return serialize(userService.convertUsersToResponseDTOs(all));
+    }
+
+    @Benchmark
+    public byte[] idAndEmail() throws Exception {
+        return serialize(userService.getAllUsersFields(ID_AND_EMAIL));
+    }
+
+    private byte[] serialize(Object data) throws Exception {
+        return objectMapper.writeValueAsBytes(ResponseHandler.generateResponse("All users fetched", HttpStatus.OK, data).getBody());
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.mySpringApi.benchmark;
+
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Load benchmark comparing the servlet/JPA read path with the reactive R2DBC read path over real HTTP.
+ * <p>
+ * One application is started on H2 with the reactive endpoints enabled, and R2DBC pointed at the same H2
+ * database as JDBC. The servlet endpoint (for example {@code /userAPI/id/1}) and its reactive counterpart
+ * (the same path under {@code /reactive}) are then driven in turn by {@link HttpLoad}, and throughput, p50 and
+ * p99 are printed for both.
+ * <p>
+ * This is not a JMH benchmark. Run it from the IDE, or with:
+ * <pre>
+ * java -cp target/test-classes:target/classes:&lt;test classpath&gt; \
+ *      -Dconcurrency=200 -Dseconds=20 -Dpath=/userAPI/id/1 -Dusers=0 -Dtomcat.threads=200 \
+ *      com.example.mySpringApi.benchmark.ReactiveReadLoadBenchmark
+ * </pre>
+ * {@code -Dusers} inserts extra users before the run, which makes {@code -Dpath=/userAPI} query-bound rather
+ * than BCrypt-bound. A small {@code -Dtomcat.threads} shows how each path behaves once the request pool is
+ * the bottleneck.
+ */
+public final class ReactiveReadLoadBenchmark {
+
+    private ReactiveReadLoadBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int concurrency = Integer.getInteger("concurrency", 200);
+        Duration duration = Duration.ofSeconds(Long.getLong("seconds", 20));
+        String path = System.getProperty("path", "/userAPI/id/1");
+        int users = Integer.getInteger("users", 0);
+        String tomcatThreads = System.getProperty("tomcat.threads", "200");
+
+        try (ConfigurableApplicationContext context = BenchmarkContexts.start(
+                "server.tomcat.threads.max=" + tomcatThreads,
+                "app.reactive.enabled=true",
+                "app.reactive.url=r2dbc:h2:mem:///testdb;DB_CLOSE_DELAY=-1",
+                "app.reactive.username=sa",
+                "app.reactive.password=sa")) {
+            if (users > 0) {
+                BenchmarkContexts.insertUsers(context, users);
+            }
+            int port = Integer.parseInt(context.getEnvironment().getRequiredProperty("local.server.port"));
+
+            System.out.printf("%nconcurrency=%d duration=%s path=%s users=%d tomcat.threads=%s%n",
+                    concurrency, duration, path, users, tomcatThreads);
+            for (String prefix : List.of("", "/reactive")) {
+                URI uri = URI.create("http://localhost:" + port + prefix + path);
+                HttpLoad.run(uri, concurrency, Duration.ofSeconds(3)); // warm-up
+                System.out.printf("%-9s %s%n", prefix.isEmpty() ? "servlet" : "reactive", HttpLoad.run(uri, concurrency, duration));
+            }
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.mySpringApi.benchmark;
+
+import com.example.mySpringApi.model.User;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the same reads in read-write and read-only transactions, against an H2 database holding a few
+ * thousand users.
+ * <p>
+ * The queries go through the EntityManager rather than the repository, whose list methods carry read-only hints
+ * of their own, so the transaction is the only difference. In a read-write transaction Hibernate keeps a snapshot
+ * of every loaded user and compares each of them with it when flushing at commit; in a read-only one it does
+ * neither. Run with {@code -prof gc} to see the allocation per read.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReadOnlyTransactionBenchmark {
+
+    @Param({"2000"})
+    private int users;
+
+    @Param({"false", "true"})
+    private boolean readOnly;
+
+    private ConfigurableApplicationContext context;
+    private EntityManager entityManager;
+    private TransactionTemplate transactionTemplate;
+    private int userId;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContexts.start();
+        BenchmarkContexts.insertUsers(context, users);
+        entityManager = context.getBean(EntityManager.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        transactionTemplate.setReadOnly(readOnly);
+        userId = entityManager.createQuery("select max(u.id) from User u", Integer.class).getSingleResult();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public User getUser() {
+        return transactionTemplate.execute(status -> entityManager.find(User.class, userId));
+    }
+
+    @Benchmark
+    public List<User> getAllUsers() {
+        return transactionTemplate.execute(status -> entityManager
+                .createQuery("select distinct u from User u left join fetch u.roles", User.class)
+                .getResultList());
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.mySpringApi.benchmark;
+
+import com.example.mySpringApi.cache.UserResponseBodyCache;
+import com.example.mySpringApi.config.ResponseCacheProperties;
+import com.example.mySpringApi.model.dto.UserResponseDTO;
+import com.example.mySpringApi.response.ResponseHandler;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpStatus;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a GET /userAPI/id/{id} response served from {@link UserResponseBodyCache} against building and
+ * serializing the same response on every call.
+ * <p>
+ * Run with {@code -prof gc} to see the allocation per operation; a cache hit should allocate close to nothing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseCacheBenchmark {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final UserResponseDTO dto = new UserResponseDTO(42, "John", "john@example.com", 40, Set.of("USER"));
+    private UserResponseBodyCache cache;
+
+    @Setup
+    public void setUp() {
+        ResponseCacheProperties properties = new ResponseCacheProperties();
+        properties.setEnabled(true);
+        properties.setGzip(true);
+        cache = new UserResponseBodyCache(properties, objectMapper);
+        cache.getJson(42, false, this::envelope);
+        cache.getJson(42, true, this::envelope);
+    }
+
+    @Benchmark
+    public Object uncached() throws Exception {
+        return objectMapper.writeValueAsBytes(envelope());
+    }
+
+    @Benchmark
+    public Object cacheHit() {
+        return cache.getJson(42, false, this::envelope);
+    }
+
+    @Benchmark
+    public Object cacheHitGzip() {
+        return cache.getJson(42, true, this::envelope);
+    }
+
+    private Object envelope() {
+        return ResponseHandler.generateResponse("User fetched successfully", HttpStatus.OK, dto).getBody();
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.mySpringApi.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time from launching the application to its first successful request, for each startup mode of
+ * the {@code fast-start} build:
+ * <ul>
+ *     <li>{@code baseline}: the plain classpath, without AOT, class-data sharing or lazy beans.</li>
+ *     <li>{@code lazy}: the plain classpath with {@code app.fast-start.lazy-beans=true}.</li>
+ *     <li>{@code aot}: the AOT-generated bean definitions, lazy beans included.</li>
+ *     <li>{@code aot-cds}: the same, with the AppCDS archive recorded by the build.</li>
+ * </ul>
+ * Each run starts a new JVM, polls {@code startup.path} until it returns a 2xx status, and stops the JVM. Modes are
+ * run in turn rather than one after the other, so that a drift of the machine affects them all alike. The median,
+ * minimum and maximum of each mode are printed.
+ * <p>
+ * This is not a JMH benchmark, and it only needs the JDK. After {@code ./mvnw -Pfast-start -DskipTests package},
+ * run it with:
+ * <pre>
+ * java -cp target/test-classes -Dstartup.runs=5 com.example.mySpringApi.benchmark.StartupBenchmark [application arguments]
+ * </pre>
+ * The application arguments, such as {@code --spring.datasource.url=...}, are passed to every run. Other settings:
+ * {@code startup.modes} (comma-separated), {@code startup.dir} (default {@code target/fast-start}),
+ * {@code startup.path} (default {@code /actuator/health}), {@code startup.port} (default 18080),
+ * {@code startup.timeout} in seconds (default 120) and {@code startup.classpath}, appended to the classpath of
+ * every run, for example to add a JDBC driver. The output of the last run of each mode is kept in
+ * {@code startup.dir}.
+ */
+public final class StartupBenchmark {
+
+    private static final String MAIN_CLASS = "com.example.mySpringApi.MySpringApiApplication";
+
+    private StartupBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int runs = Integer.getInteger("startup.runs", 5);
+        List<String> modes = Arrays.asList(System.getProperty("startup.modes", "baseline,lazy,aot,aot-cds").split(","));
+        Path dir = Path.of(System.getProperty("startup.dir", "target/fast-start"));
+        String path = System.getProperty("startup.path", "/actuator/health");
+        int port = Integer.getInteger("startup.port", 18080);
+        Duration timeout = Duration.ofSeconds(Long.getLong("startup.timeout", 120));
+        String extraClasspath = System.getProperty("startup.classpath", "");
+
+        String classpath = classpath(dir, extraClasspath);
+        URI uri = URI.create("http://localhost:" + port + path);
+        Map<String, List<Long>> results = new LinkedHashMap<>();
+        for (int run = 1; run <= runs; run++) {
+            for (String mode : modes) {
+                List<String> command = command(mode, dir, classpath, port, args);
+                long millis = timeToFirstSuccess(command, uri, timeout, dir.resolve("startup-" + mode + ".log"));
+                System.out.printf("run %d %-8s %,6d ms%n", run, mode, millis);
+                results.computeIfAbsent(mode, m -> new ArrayList<>()).add(millis);
+            }
+        }
+
+        System.out.printf("%nTime to first successful request, %d runs, %s%n", runs, uri);
+        System.out.printf("%-8s %9s %9s %9s%n", "mode", "median", "min", "max");
+        results.forEach((mode, times) -> {
+            List<Long> sorted = times.stream().sorted().toList();
+            System.out.printf("%-8s %,6d ms %,6d ms %,6d ms%n", mode,
+                    sorted.get(sorted.size() / 2), sorted.get(0), sorted.get(sorted.size() - 1));
+        });
+    }
+
+    private static String classpath(Path dir, String extraClasspath) throws IOException {
+        Path jar;
+        try (var files = Files.list(dir)) {
+            jar = files.filter(file -> file.getFileName().toString().endsWith("-fast-start.jar"))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalStateException("No fast-start jar in " + dir
+                            + ", build it with ./mvnw -Pfast-start -DskipTests package"));
+        }
+        String classpath = jar + File.pathSeparator + dir.resolve("lib") + File.separator + "*";
+        return extraClasspath.isEmpty() ? classpath : classpath + File.pathSeparator + extraClasspath;
+    }
+
+    private static List<String> command(String mode, Path dir, String classpath, int port, String[] args) {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        switch (mode) {
+            case "baseline", "lazy" -> {
+            }
+            case "aot" -> command.add("-Dspring.aot.enabled=true");
+            case "aot-cds" -> {
+                Path archive = dir.resolve("app.jsa");
+                if (!Files.exists(archive)) {
+                    throw new IllegalStateException("No class-data sharing archive at " + archive);
+                }
+                command.add("-XX:SharedArchiveFile=" + archive);
+                command.add("-Dspring.aot.enabled=true");
+            }
+            default -> throw new IllegalArgumentException("Unknown startup mode: " + mode);
+        }
+        command.add("-cp");
+        command.add(classpath);
+        command.add(MAIN_CLASS);
+        command.add("--server.port=" + port);
+        if (mode.equals("lazy")) {
+            command.add("--app.fast-start.lazy-beans=true");
+        }
+        command.addAll(Arrays.asList(args));
+        return command;
+    }
+
+    private static long timeToFirstSuccess(List<String> command, URI uri, Duration timeout, Path log)
+            throws IOException, InterruptedException {
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(5)).build();
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).redirectOutput(log.toFile()).start();
+        try {
+            long deadline = start + timeout.toNanos();
+            while (System.nanoTime() < deadline) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("The application exited with status " + process.exitValue()
+                            + ", see " + log);
+                }
+                try {
+                    HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                    if (response.statusCode() / 100 == 2) {
+                        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                    }
+                } catch (ConnectException | HttpTimeoutException e) {
+                    // not listening yet
+                }
+                Thread.sleep(20);
+            }
+            throw new IllegalStateException("No successful response from " + uri + " within " + timeout + ", see " + log);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.mySpringApi.benchmark;
+
+import com.example.mySpringApi.tracing.Trace;
+import com.example.mySpringApi.tracing.Tracer;
+import com.example.mySpringApi.tracing.TracingAspect;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost TracingAspect adds to an instrumented call.
+ * <ul>
+ *     <li>{@code direct}: the call without any proxy, as when {@code app.tracing.enabled} is false.</li>
+ *     <li>{@code unsampled}: the call through the tracing proxy on a thread that is not being traced.</li>
+ *     <li>{@code sampled}: the call through the tracing proxy inside a trace, recording one span.</li>
+ * </ul>
+ * The instrumented call is a trivial PasswordEncoder, so the scores are the tracing overhead alone.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TracingBenchmark {
+
+    private final PasswordEncoder direct = new PlainEncoder();
+    private PasswordEncoder proxied;
+    private Tracer tracer;
+
+    @Setup
+    public void setUp() {
+        tracer = new Tracer(1.0, 512, 256);
+        AspectJProxyFactory factory = new AspectJProxyFactory(new PlainEncoder());
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new TracingAspect(tracer));
+        proxied = factory.getProxy();
+    }
+
+    @Benchmark
+    public boolean direct() {
+        return direct.matches("secret", "secret");
+    }
+
+    @Benchmark
+    public boolean unsampled() {
+        return proxied.matches("secret", "secret");
+    }
+
+    @Benchmark
+    public boolean sampled() {
+        Trace trace = tracer.begin("GET /userAPI/id/1", null);
+        boolean matches = proxied.matches("secret", "secret");
+        tracer.end(trace, 200);
+        return matches;
+    }
+
+    /**
+     * A PasswordEncoder that does almost nothing, so only the tracing overhead is measured.
+     */
+    public static class PlainEncoder implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return rawPassword.toString();
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return rawPassword.length() == encodedPassword.length();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.mySpringApi.benchmark;
+
+import com.example.mySpringApi.api.rpc.proto.UserRecord;
+import com.example.mySpringApi.api.rpc.proto.UserRecordList;
+import com.example.mySpringApi.model.dto.UserResponseDTO;
+import com.example.mySpringApi.response.ResponseHandler;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the cost of encoding user resolution responses as the REST JSON envelope
+ * and as the protobuf messages served by UserRpcController.
+ * <p>
+ * Both sides start from the same already-loaded data, so the difference is purely the
+ * response construction and serialization work that each endpoint performs per request.
+ * Encoded sizes for each format are printed once during setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserEncodingBenchmark {
+
+    @Param({"1", "100"})
+    private int users;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private List<UserResponseDTO> dtos;
+
+    @Setup
+    public void setUp() throws Exception {
+        dtos = new ArrayList<>(users);
+        for (int i = 1; i <= users; i++) {
+            dtos.add(new UserResponseDTO(i, "User " + i, "user" + i + "@example.com", 30, Set.of("USER")));
+        }
+        System.out.printf("%n[users=%d] json=%d bytes, protobuf=%d bytes%n",
+                users, json().length, protobuf().length);
+    }
+
+    @Benchmark
+    public byte[] json() throws Exception {
+        Object data = users == 1 ? dtos.get(0) : dtos;
+        return objectMapper.writeValueAsBytes(
+                ResponseHandler.generateResponse("User fetched successfully", HttpStatus.OK, data).getBody());
+    }
+
+    @Benchmark
+    public byte[] protobuf() {
+        if (users == 1) {
+            return toRecord(dtos.get(0)).toByteArray();
+        }
+        UserRecordList.Builder list = UserRecordList.newBuilder();
+        for (UserResponseDTO dto : dtos) {
+            list.addUsers(toRecord(dto));
+        }
+        return list.build().toByteArray();
+    }
+
+    private static UserRecord toRecord(UserResponseDTO dto) {
+        return UserRecord.newBuilder()
+                .setId(dto.id())
+                .setEmail(dto.email())
+                .setName(dto.name())
+                .addAllRoles(dto.roles())
+                .build();
+    }
+}
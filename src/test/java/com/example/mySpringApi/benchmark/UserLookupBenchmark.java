@@ -0,0 +1,65 @@
+package com.example.mySpringApi.benchmark;
+
+import com.example.mySpringApi.model.User;
+import com.example.mySpringApi.repository.UserLookup;
+import com.example.mySpringApi.service.CustomUserDetailsService;
+import com.example.mySpringApi.service.UserService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the JPA and plain JDBC implementations of {@link UserLookup} on the two paths that use them: the user
+ * lookup by ID behind GET /userAPI/id/{id}, in its read-only transaction, and the lookup by email done for every
+ * authenticated request. The database is H2 with a few thousand users.
+ * <p>
+ * Run with {@code -prof gc} to compare the allocation per lookup as well as the latency.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserLookupBenchmark {
+
+    @Param({"2000"})
+    private int users;
+
+    @Param({"JPA", "JDBC"})
+    private UserLookup.Implementation implementation;
+
+    private ConfigurableApplicationContext context;
+    private UserService userService;
+    private CustomUserDetailsService userDetailsService;
+    private int userId;
+    private String email;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContexts.start("app.user-lookup.implementation=" + implementation);
+        BenchmarkContexts.insertUsers(context, users);
+        userService = context.getBean(UserService.class);
+        userDetailsService = context.getBean(CustomUserDetailsService.class);
+        User user = userService.getUser("user@example.com");
+        userId = user.getId();
+        email = user.getEmail();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public User getUserById() {
+        return userService.getUser(userId);
+    }
+
+    @Benchmark
+    public UserDetails loadUserByUsername() {
+        return userDetailsService.loadUserByUsername(email);
+    }
+}
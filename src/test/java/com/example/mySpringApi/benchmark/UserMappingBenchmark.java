@@ -0,0 +1,85 @@
+package com.example.mySpringApi.benchmark;
+
+import com.example.mySpringApi.config.PasswordPolicyProperties;
+import com.example.mySpringApi.exception.UserExceptionFactory;
+import com.example.mySpringApi.model.Role;
+import com.example.mySpringApi.model.User;
+import com.example.mySpringApi.model.dto.UserResponseDTO;
+import com.example.mySpringApi.response.ResponseHandler;
+import com.example.mySpringApi.service.UserServiceImpl;
+import com.example.mySpringApi.validation.PasswordPolicyChecker;
+import com.example.mySpringApi.validation.UserInputValidator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the in-memory steps of a user read or write request in UserServiceImpl: validating a user, converting
+ * entities to UserResponseDTOs, wrapping them with ResponseHandler and serializing them with Jackson.
+ * <p>
+ * The service is built without a repository, since none of these methods touch it. {@code users} is the size of
+ * the list for the list benchmarks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserMappingBenchmark {
+
+    @Param({"1", "100"})
+    private int users;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final UserServiceImpl userService = new UserServiceImpl(null, null, null,
+            new UserInputValidator(new PasswordPolicyChecker(new PasswordPolicyProperties())), null, null,
+            new UserExceptionFactory(false));
+    private List<User> entities;
+    private List<UserResponseDTO> dtos;
+
+    @Setup
+    public void setUp() {
+        BenchmarkLogging.useProductionLevel();
+
+        Set<Role> roles = Set.of(new Role(2, "USER"));
+        entities = new ArrayList<>(users);
+        for (int i = 1; i <= users; i++) {
+            User user = new User("User " + i, 30, "user" + i + "@example.com");
+            user.setId(i);
+            user.setRoles(roles);
+            entities.add(user);
+        }
+        dtos = userService.convertUsersToResponseDTOs(entities);
+    }
+
+    @Benchmark
+    public boolean isValidUser() {
+        return userService.isValidUser(entities.get(0));
+    }
+
+    @Benchmark
+    public UserResponseDTO convertToResponseDTO() {
+        return userService.convertToResponseDTO(entities.get(0));
+    }
+
+    @Benchmark
+    public List<UserResponseDTO> convertUsersToResponseDTOs() {
+        return userService.convertUsersToResponseDTOs(entities);
+    }
+
+    @Benchmark
+    public Object generateResponse() {
+        return ResponseHandler.generateResponse("Users fetched successfully", HttpStatus.OK, dtos);
+    }
+
+    @Benchmark
+    public byte[] serializeDtoList() throws Exception {
+        return objectMapper.writeValueAsBytes(dtos);
+    }
+}
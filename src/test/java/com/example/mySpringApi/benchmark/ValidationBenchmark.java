@@ -0,0 +1,109 @@
+package com.example.mySpringApi.benchmark;
+
+import com.example.mySpringApi.config.PasswordPolicyProperties;
+import com.example.mySpringApi.model.User;
+import com.example.mySpringApi.model.dto.UserDTO;
+import com.example.mySpringApi.validation.PasswordPolicyChecker;
+import com.example.mySpringApi.validation.UserInputValidator;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+
+/**
+ * Measures validations per second of UserInputValidator against the previous validation path.
+ * <p>
+ * The previous path is reproduced here: Bean Validation on a copy of the former annotated UserDTO (four lookahead
+ * patterns on the password), followed by the former isValidUser, which compiled its email regex on every call.
+ * Each benchmark validates a valid user, as on the request path of a successful create or update.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmark {
+
+    private final UserInputValidator userInputValidator =
+            new UserInputValidator(new PasswordPolicyChecker(new PasswordPolicyProperties()));
+    private final UserDTO dto = new UserDTO(0, "Alice", 30, "alice@example.com", "securePassword123!", Set.of("USER"));
+    private final AnnotatedUserDTO annotatedDto =
+            new AnnotatedUserDTO("Alice", 30, "alice@example.com", "securePassword123!");
+    private final User user = new User("Alice", 30, "alice@example.com");
+
+    private ValidatorFactory validatorFactory;
+    private Validator beanValidator;
+
+    @Setup
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        beanValidator = validatorFactory.getValidator();
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public boolean previous() {
+        return beanValidator.validate(annotatedDto).isEmpty() & previousIsValidUser(user);
+    }
+
+    @Benchmark
+    public boolean userInputValidator() {
+        Errors errors = new BeanPropertyBindingResult(dto, "userDTO");
+        userInputValidator.validate(dto, errors);
+        return !errors.hasErrors() & userInputValidator.isValidUser(user);
+    }
+
+    /**
+     * The former UserServiceImpl.isValidUser.
+     */
+    private static boolean previousIsValidUser(User user) {
+        if (user.getName() == null || user.getEmail() == null) {
+            return false;
+        }
+        String trimmedName = user.getName().trim();
+        String trimmedEmail = user.getEmail().trim();
+        if (trimmedName.isEmpty() || trimmedEmail.isEmpty()) {
+            return false;
+        }
+        if (trimmedName.length() < 2 || trimmedName.length() > 50) {
+            return false;
+        }
+        java.util.regex.Pattern pattern = java.util.regex.Pattern.compile("^[A-Za-z0-9+_.-]+@(.+)$");
+        Matcher matcher = pattern.matcher(trimmedEmail);
+        return matcher.matches();
+    }
+
+    /**
+     * The former Bean Validation constraints of UserDTO.
+     */
+    private record AnnotatedUserDTO(
+            @NotNull @Size(min = 2, max = 50) String name,
+            @Min(0) @Max(150) int age,
+            @NotNull @Email String email,
+            @NotNull @Size(min = 8)
+            @Pattern.List({
+                    @Pattern(regexp = "(?=.*[0-9]).+"),
+                    @Pattern(regexp = "(?=.*[a-z]).+"),
+                    @Pattern(regexp = "(?=.*[A-Z]).+"),
+                    @Pattern(regexp = "(?=.*[!@#$%^&*+=?-]).+")
+            })
+            String rawPassword) {
+    }
+}
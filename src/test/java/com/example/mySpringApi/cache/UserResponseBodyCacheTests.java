@@ -0,0 +1,147 @@
+package com.example.mySpringApi.cache;
+
+import com.example.mySpringApi.config.ResponseCacheProperties;
+import com.example.mySpringApi.event.UserChangedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+
+import java.io.ByteArrayInputStream;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * This class tests the caching, versioning and encoding behaviour of {@link UserResponseBodyCache}.
+ */
+class UserResponseBodyCacheTests {
+
+    private ResponseCacheProperties properties;
+    private UserResponseBodyCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ResponseCacheProperties();
+        properties.setEnabled(true);
+        properties.setGzip(true);
+        cache = new UserResponseBodyCache(properties, new ObjectMapper());
+        loads = new AtomicInteger();
+    }
+
+    /**
+     * A second read of an unchanged user should return the very same response without running the loader.
+     */
+    @Test
+    void getJson_repeatedRead_shouldReuseCachedResponse() {
+        ResponseEntity<Object> first = cache.getJson(1, false, this::load);
+        ResponseEntity<Object> second = cache.getJson(1, false, this::load);
+
+        assertThat(second).isSameAs(first);
+        assertThat(loads).hasValue(1);
+        assertThat(new String((byte[]) first.getBody())).isEqualTo("{\"name\":\"John 1\"}");
+    }
+
+    /**
+     * A committed change to the user should make the next read rebuild the body.
+     */
+    @Test
+    void getJson_afterUserChanged_shouldReload() {
+        cache.getJson(1, false, this::load);
+        cache.onUserChanged(new UserChangedEvent(1, UserChangedEvent.Type.UPDATED));
+        ResponseEntity<Object> reloaded = cache.getJson(1, false, this::load);
+
+        assertThat(loads).hasValue(2);
+        assertThat(new String((byte[]) reloaded.getBody())).isEqualTo("{\"name\":\"John 2\"}");
+    }
+
+    /**
+     * A client that accepts gzip should receive the pre-compressed copy of the same body.
+     */
+    @Test
+    void getJson_acceptGzip_shouldServeCompressedCopy() throws Exception {
+        ResponseEntity<Object> plain = cache.getJson(1, false, this::load);
+        ResponseEntity<Object> gzip = cache.getJson(1, true, this::load);
+
+        assertThat(loads).hasValue(1);
+        assertThat(gzip.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream((byte[]) gzip.getBody()))) {
+            assertThat(in.readAllBytes()).isEqualTo((byte[]) plain.getBody());
+        }
+    }
+
+    /**
+     * Gzip should never be served when it is disabled, even if the client accepts it.
+     */
+    @Test
+    void getJson_gzipDisabled_shouldServeIdentity() {
+        properties.setGzip(false);
+
+        ResponseEntity<Object> response = cache.getJson(1, true, this::load);
+
+        assertThat(response.getHeaders().containsKey(HttpHeaders.CONTENT_ENCODING)).isFalse();
+    }
+
+    /**
+     * A lookup that fails, such as a missing user, should neither take a slot nor evict a cached user.
+     */
+    @Test
+    void getJson_failedLoad_shouldNotTakeSlot() {
+        properties.setMaxEntries(1);
+        cache.getJson(1, false, this::load);
+
+        assertThatThrownBy(() -> cache.getJson(2, false, () -> {
+            throw new IllegalStateException("User not found");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(cache.size()).isEqualTo(1);
+        cache.getJson(1, false, this::load);
+        assertThat(loads).hasValue(1);
+    }
+
+    /**
+     * When the cache is full, a user hit since the last eviction scan should get a second chance, and the
+     * unreferenced user should be evicted instead.
+     */
+    @Test
+    void getJson_cacheFull_shouldEvictUnreferencedUser() {
+        properties.setMaxEntries(2);
+        cache.getJson(1, false, this::load);
+        cache.getJson(2, false, this::load);
+        cache.getJson(1, false, this::load);  // hit: user 1 is referenced
+
+        cache.getJson(3, false, this::load);
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(loads).hasValue(3);
+        cache.getJson(1, false, this::load);
+        assertThat(loads).hasValue(3);
+        cache.getJson(2, false, this::load);
+        assertThat(loads).hasValue(4);
+    }
+
+    /**
+     * A change committed while the first body of a user is being built should keep that body out of the cache,
+     * even though the user had no slot to invalidate yet.
+     */
+    @Test
+    void getJson_changedDuringFirstLoad_shouldNotCacheBody() {
+        cache.getJson(1, false, () -> {
+            cache.onUserChanged(new UserChangedEvent(1, UserChangedEvent.Type.UPDATED));
+            return load();
+        });
+        ResponseEntity<Object> reloaded = cache.getJson(1, false, this::load);
+
+        assertThat(loads).hasValue(2);
+        assertThat(new String((byte[]) reloaded.getBody())).isEqualTo("{\"name\":\"John 2\"}");
+    }
+
+    private Object load() {
+        return Map.of("name", "John " + loads.incrementAndGet());
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.mySpringApi.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * This class tests that {@link FastStartConfig} only defers the beans matched by {@code app.fast-start.lazy-bean-prefixes}.
+ */
+public class FastStartConfigTests {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(FastStartConfig.class)
+            .withPropertyValues("app.fast-start.lazy-bean-prefixes=java.util.ArrayList")
+            .withBean("matching", ArrayList.class)
+            .withBean("other", HashMap.class);
+
+    /**
+     * Test to verify that matching beans are lazy and the others are not when lazy beans are enabled.
+     */
+    @Test
+    public void lazyBeansEnabled_shouldOnlyDeferMatchingBeans() {
+        contextRunner.withPropertyValues("app.fast-start.lazy-beans=true").run(context -> {
+            assertThat(context.getBeanFactory().getBeanDefinition("matching").isLazyInit()).isTrue();
+            assertThat(context.getBeanFactory().getBeanDefinition("other").isLazyInit()).isFalse();
+        });
+    }
+
+    /**
+     * Test to verify that no bean is deferred by default.
+     */
+    @Test
+    public void lazyBeansDisabled_shouldDeferNothing() {
+        contextRunner.run(context -> {
+            assertThat(context).doesNotHaveBean("lazyBeansPostProcessor");
+            assertThat(context.getBeanFactory().getBeanDefinition("matching").isLazyInit()).isFalse();
+        });
+    }
+}
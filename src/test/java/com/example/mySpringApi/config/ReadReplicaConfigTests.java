@@ -0,0 +1,48 @@
+package com.example.mySpringApi.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * This class tests that the primary pool built by {@link ReadReplicaConfig} applies {@code spring.datasource.hikari}.
+ */
+public class ReadReplicaConfigTests {
+
+    @Configuration
+    @EnableConfigurationProperties(ReadReplicaProperties.class)
+    static class Properties {
+    }
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(Properties.class, ReadReplicaConfig.class)
+            .withPropertyValues(
+                    "app.read-replica.enabled=true",
+                    "app.read-replica.url=jdbc:h2:mem:replicaconfig_replica",
+                    "app.read-replica.username=sa",
+                    "app.read-replica.password=",
+                    "spring.datasource.url=jdbc:h2:mem:replicaconfig_primary",
+                    "spring.datasource.username=sa",
+                    "spring.datasource.hikari.maximum-pool-size=3",
+                    "spring.datasource.hikari.connection-timeout=5000");
+
+    /**
+     * Test to verify that the Hikari settings reach the primary pool, which serves work outside transactions.
+     */
+    @Test
+    public void primaryPool_shouldApplyHikariProperties() {
+        contextRunner.run(context -> {
+            HikariDataSource primary = context.getBean(DataSource.class).unwrap(HikariDataSource.class);
+
+            assertThat(primary.getPoolName()).isEqualTo("primary");
+            assertThat(primary.getMaximumPoolSize()).isEqualTo(3);
+            assertThat(primary.getConnectionTimeout()).isEqualTo(5000);
+        });
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.mySpringApi.diagnostics;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * This class tests on-demand flight recordings end to end: a recording is started, stopped and dumped through
+ * the admin endpoints, and the dump is read back to check the application events it contains.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:flightrecordertest;DB_CLOSE_DELAY=-1",
+        "app.flight-recorder.enabled=true",
+        "app.flight-recorder.settings=default"
+})
+@AutoConfigureMockMvc
+public class FlightRecorderIntegrationTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    /**
+     * Test to verify that a recording captures authentication, user operation and bulk job events.
+     *
+     * @throws Exception if any MVC or recording file exception occurs.
+     */
+    @Test
+    public void recording_shouldContainApplicationEvents() throws Exception {
+        mockMvc.perform(post("/admin/jfr/start").header(HttpHeaders.AUTHORIZATION, basic("admin", "admin")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.state").value("RUNNING"));
+        mockMvc.perform(post("/admin/jfr/start").header(HttpHeaders.AUTHORIZATION, basic("admin", "admin")))
+                .andExpect(status().isConflict());
+
+        mockMvc.perform(get("/userAPI/id/1").header(HttpHeaders.AUTHORIZATION, basic("user", "wrong")))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(delete("/userAPI/deleteUser/999").header(HttpHeaders.AUTHORIZATION, basic("admin", "admin")))
+                .andExpect(status().isNotFound());
+        MvcResult stream = mockMvc.perform(get("/internal/userRPC/stream")
+                        .header(HttpHeaders.AUTHORIZATION, basic("user", "user")))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(stream)).andExpect(status().isOk());
+
+        mockMvc.perform(post("/admin/jfr/stop").header(HttpHeaders.AUTHORIZATION, basic("admin", "admin")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.state").value("STOPPED"));
+        byte[] recording = mockMvc.perform(get("/admin/jfr/dump").header(HttpHeaders.AUTHORIZATION, basic("admin", "admin")))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+
+        Path file = Files.createTempFile("flight-recorder-test-", ".jfr");
+        try {
+            Files.write(file, recording);
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+
+            assertThat(events).filteredOn(e -> e.getEventType().getName().equals(AuthenticationEvent.NAME))
+                    .anySatisfy(e -> {
+                        assertThat(e.getString("outcome")).isEqualTo("BadCredentialsException");
+                        assertThat(e.getDuration("hashTime")).isPositive();
+                    })
+                    .anySatisfy(e -> assertThat(e.getString("outcome")).isEqualTo("success"));
+            assertThat(events).filteredOn(e -> e.getEventType().getName().equals(UserOperationEvent.NAME))
+                    .singleElement()
+                    .satisfies(e -> {
+                        assertThat(e.getString("operation")).isEqualTo("delete");
+                        assertThat(e.getInt("userId")).isEqualTo(999);
+                        assertThat(e.getString("outcome")).isEqualTo("UserNotFoundException");
+                    });
+            assertThat(events).filteredOn(e -> e.getEventType().getName().equals(BulkJobEvent.NAME))
+                    .singleElement()
+                    .satisfies(e -> {
+                        assertThat(e.getString("job")).isEqualTo("rpc.stream");
+                        assertThat(e.getInt("processed")).isEqualTo(2);
+                        assertThat(e.getString("outcome")).isEqualTo("success");
+                    });
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    private static String basic(String user, String password) {
+        return "Basic " + Base64.getEncoder().encodeToString(
+                (user + "@example.com:" + password).getBytes(StandardCharsets.UTF_8));
+    }
+}
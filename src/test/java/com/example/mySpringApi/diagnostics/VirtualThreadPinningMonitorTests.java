@@ -0,0 +1,71 @@
+package com.example.mySpringApi.diagnostics;
+
+import com.example.mySpringApi.config.ExecutionProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * This class tests that {@link VirtualThreadPinningMonitor} counts pinning events in the
+ * {@code jvm.threads.virtual.pinned} counter.
+ */
+class VirtualThreadPinningMonitorTests {
+
+    private final Object lock = new Object();
+
+    /**
+     * Test to verify that a virtual thread sleeping inside a synchronized block is counted as pinned.
+     *
+     * @throws Exception if the virtual thread is interrupted.
+     */
+    @Test
+    void start_pinnedVirtualThread_shouldBeCounted() throws Exception {
+        ExecutionProperties properties = new ExecutionProperties();
+        properties.setPinningThreshold(Duration.ofMillis(1));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(properties, registry);
+
+        monitor.start();
+        try {
+            Thread.ofVirtual().start(() -> {
+                synchronized (lock) {
+                    try {
+                        Thread.sleep(50);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            }).join();
+
+            // Events reach the stream asynchronously, about once a second
+            long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+            while (pinned(registry) == 0 && System.nanoTime() < deadline) {
+                Thread.sleep(100);
+            }
+        } finally {
+            monitor.stop();
+        }
+        assertThat(pinned(registry)).isGreaterThanOrEqualTo(1);
+    }
+
+    /**
+     * Test to verify that no counter is published when pinning detection is disabled.
+     */
+    @Test
+    void constructor_detectionDisabled_shouldNotRegisterCounter() {
+        ExecutionProperties properties = new ExecutionProperties();
+        properties.setPinningDetection(false);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        new VirtualThreadPinningMonitor(properties, registry);
+
+        assertThat(registry.find("jvm.threads.virtual.pinned").functionCounter()).isNull();
+    }
+
+    private static double pinned(SimpleMeterRegistry registry) {
+        return registry.get("jvm.threads.virtual.pinned").functionCounter().count();
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.mySpringApi.docs;
+
+import com.example.mySpringApi.MySpringApiApplication;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes the OpenAPI document, and a gzip-compressed copy, into the build output so that it is packaged with the
+ * application and served by OpenApiSpecController.
+ * <p>
+ * It starts the application on the in-memory H2 database of the test {@code application.yaml}, with springdoc
+ * scanning turned on, and downloads {@code /v3/api-docs} as the seeded administrator. Keys are written in order,
+ * so the same controllers always give the same document, and the same ETag.
+ * <p>
+ * The build runs it in the prepare-package phase; skip it with {@code -Dopenapi.skip}. To run it by hand:
+ * <pre>
+ * java -cp target/test-classes:target/classes:[dependencies] com.example.mySpringApi.docs.OpenApiSpecGenerator target/classes/openapi
+ * </pre>
+ */
+public final class OpenApiSpecGenerator {
+
+    private static final String SPEC_PATH = "/v3/api-docs";
+    private static final String FILE_NAME = "openapi.json";
+
+    private OpenApiSpecGenerator() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Path dir = Path.of(args.length > 0 ? args[0] : "target/classes/openapi");
+        String username = System.getProperty("openapi.username", "admin@example.com");
+        String password = System.getProperty("openapi.password", "admin");
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(MySpringApiApplication.class)
+                .run("--server.port=0",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN",
+                        "--springdoc.api-docs.enabled=true",
+                        "--springdoc.writer-with-order-by-keys=true");
+        byte[] json;
+        try {
+            String port = context.getEnvironment().getProperty("local.server.port");
+            json = download(URI.create("http://localhost:" + port + SPEC_PATH), username, password);
+        } finally {
+            SpringApplication.exit(context);
+        }
+
+        Files.createDirectories(dir);
+        Path file = dir.resolve(FILE_NAME);
+        Files.write(file, json);
+        Path gzip = dir.resolve(FILE_NAME + ".gz");
+        try (OutputStream out = new BestGzipOutputStream(Files.newOutputStream(gzip))) {
+            out.write(json);
+        }
+        System.out.printf("Wrote %s (%,d bytes) and %s (%,d bytes)%n", file, json.length, gzip, Files.size(gzip));
+    }
+
+    private static byte[] download(URI uri, String username, String password) throws IOException, InterruptedException {
+        String credentials = Base64.getEncoder().encodeToString((username + ":" + password).getBytes(StandardCharsets.UTF_8));
+        HttpRequest request = HttpRequest.newBuilder(uri).header("Authorization", "Basic " + credentials).build();
+        HttpResponse<byte[]> response = HttpClient.newHttpClient().send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException(uri + " returned status " + response.statusCode());
+        }
+        return response.body();
+    }
+
+    /**
+     * The document is compressed once per build, so it is worth the best compression level.
+     */
+    private static final class BestGzipOutputStream extends GZIPOutputStream {
+
+        BestGzipOutputStream(OutputStream out) throws IOException {
+            super(out);
+            def.setLevel(Deflater.BEST_COMPRESSION);
+        }
+    }
+}
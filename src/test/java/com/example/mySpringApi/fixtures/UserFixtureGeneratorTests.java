@@ -0,0 +1,61 @@
+package com.example.mySpringApi.fixtures;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * This class tests that the {@link UserFixtureGenerator} is deterministic and produces the documented distributions.
+ */
+public class UserFixtureGeneratorTests {
+
+    private static final int USERS = 100_000;
+
+    /**
+     * Test to verify that a user depends only on the seed and its index, not on the order of generation.
+     */
+    @Test
+    public void generate_sameSeedAndIndex_shouldReturnSameUser() {
+        UserFixtureGenerator generator = new UserFixtureGenerator(42);
+        SyntheticUser late = generator.generate(99_999);
+        generator.generate(0);
+
+        assertThat(new UserFixtureGenerator(42).generate(99_999)).isEqualTo(late);
+        assertThat(new UserFixtureGenerator(7).generate(99_999)).isNotEqualTo(late);
+    }
+
+    /**
+     * Test to verify the uniqueness of emails and the shape of the name, age and role distributions.
+     */
+    @Test
+    public void generate_manyUsers_shouldHaveRealisticDistributions() {
+        UserFixtureGenerator generator = new UserFixtureGenerator(42);
+        Set<String> emails = new HashSet<>();
+        Map<String, Integer> firstNames = new HashMap<>();
+        int admins = 0;
+        long ageSum = 0;
+        for (int i = 0; i < USERS; i++) {
+            SyntheticUser user = generator.generate(i);
+            emails.add(user.email());
+            firstNames.merge(user.name().substring(0, user.name().indexOf(' ')), 1, Integer::sum);
+            assertThat(user.age()).isBetween(18, 90);
+            ageSum += user.age();
+            if (user.roles().contains("ADMIN")) {
+                admins++;
+            }
+        }
+
+        assertThat(emails).hasSize(USERS);
+        assertThat(ageSum / (double) USERS).isCloseTo(38, within(1.0));
+        assertThat(admins / (double) USERS).isCloseTo(0.015, within(0.003));
+        // Zipf skew: the most common first name is far more frequent than a uniform 1/60 share.
+        assertThat(firstNames.values().stream().mapToInt(Integer::intValue).max().orElseThrow())
+                .isGreaterThan(USERS / 10);
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.mySpringApi.fixtures;
+
+import com.example.mySpringApi.model.Role;
+import com.example.mySpringApi.model.User;
+import com.example.mySpringApi.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * This class tests that the {@link UserFixtureLoader} inserts generated users, with their roles, in batches that JPA
+ * can read back.
+ */
+@DataJpaTest
+@Import(UserFixtureLoader.class)
+public class UserFixtureLoaderTests {
+
+    @Autowired
+    private UserFixtureLoader loader;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Test to verify that loading several chunks inserts every user and role, and that loaded users are found.
+     */
+    @Test
+    public void load_severalChunks_shouldInsertUsersAndRoles() {
+        jdbcTemplate.update("insert into role (id, name) values (1, 'ADMIN'), (2, 'USER')");
+        UserFixtureGenerator generator = new UserFixtureGenerator(42);
+
+        long inserted = loader.load(generator, 0, 2_500, 1_000, "{noop}fixture-password");
+
+        assertThat(inserted).isEqualTo(2_500);
+        assertThat(userRepository.count()).isEqualTo(2_500);
+        long expectedRoles = 0;
+        for (int i = 0; i < 2_500; i++) {
+            expectedRoles += generator.generate(i).roles().size();
+        }
+        assertThat(jdbcTemplate.queryForObject("select count(*) from user_roles", Long.class)).isEqualTo(expectedRoles);
+
+        SyntheticUser last = generator.generate(2_499);
+        User user = userRepository.findByEmail(last.email()).orElseThrow();
+        assertThat(user.getName()).isEqualTo(last.name());
+        assertThat(user.getAge()).isEqualTo(last.age());
+        assertThat(user.getRoles()).extracting(Role::getName).containsExactlyInAnyOrderElementsOf(last.roles());
+
+        assertThat(loader.exists(generator, 2_499)).isTrue();
+        assertThat(loader.exists(generator, 2_500)).isFalse();
+    }
+
+    /**
+     * Test to verify that a chunk fails when the driver returns fewer generated keys than inserted users, instead of
+     * giving the remaining users' roles to user 0.
+     *
+     * @throws Exception if a JDBC mock fails.
+     */
+    @Test
+    public void insert_missingGeneratedKeys_shouldFail() throws Exception {
+        ResultSet keys = mock(ResultSet.class);
+        given(keys.next()).willReturn(true, false);
+        given(keys.getInt(1)).willReturn(1);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        given(statement.getGeneratedKeys()).willReturn(keys);
+        Connection connection = mock(Connection.class);
+        given(connection.prepareStatement(anyString(), any(String[].class))).willReturn(statement);
+        JdbcTemplate mockJdbcTemplate = mock(JdbcTemplate.class);
+        given(mockJdbcTemplate.execute(any(ConnectionCallback.class)))
+                .willAnswer(invocation -> invocation.<ConnectionCallback<?>>getArgument(0).doInConnection(connection));
+        UserFixtureLoader mockLoader = new UserFixtureLoader(mockJdbcTemplate, mock(PlatformTransactionManager.class));
+
+        assertThatThrownBy(() -> mockLoader.insert(new UserFixtureGenerator(42), 0, 3, "{noop}fixture-password"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("1 generated keys for 3");
+    }
+}
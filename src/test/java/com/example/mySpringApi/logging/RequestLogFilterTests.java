@@ -0,0 +1,87 @@
+package com.example.mySpringApi.logging;
+
+import com.example.mySpringApi.service.UserAccountDetails;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * This class tests the MDC handling of {@link RequestLogFilter} and {@link UserMdcFilter}.
+ */
+class RequestLogFilterTests {
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    /**
+     * Test to verify that a well-formed caller request ID is used, echoed and visible in the MDC with the numeric
+     * user ID.
+     *
+     * @throws Exception if the filter chain fails.
+     */
+    @Test
+    void doFilter_validRequestId_shouldPropagateItWithUserId() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/userAPI/id/1");
+        request.addHeader(RequestLogFilter.REQUEST_ID_HEADER, "abc-123");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        List<GrantedAuthority> authorities = AuthorityUtils.createAuthorityList("ROLE_ADMIN");
+        SecurityContextHolder.getContext().setAuthentication(UsernamePasswordAuthenticationToken.authenticated(
+                new UserAccountDetails(7, "admin@example.com", "{noop}admin", authorities), null, authorities));
+        Map<String, String> seen = new HashMap<>();
+
+        FilterChain handler = (req, res) -> seen.putAll(MDC.getCopyOfContextMap());
+        new RequestLogFilter().doFilter(request, response,
+                (req, res) -> new UserMdcFilter().doFilter(req, res, handler));
+
+        assertThat(response.getHeader(RequestLogFilter.REQUEST_ID_HEADER)).isEqualTo("abc-123");
+        assertThat(seen).containsEntry(RequestLogFilter.REQUEST_ID, "abc-123")
+                .containsEntry(RequestLogFilter.USER_ID, "7");
+        assertThat(MDC.get(RequestLogFilter.REQUEST_ID)).isNull();
+        assertThat(MDC.get(RequestLogFilter.USER_ID)).isNull();
+    }
+
+    /**
+     * Test to verify that a principal without a user ID, such as a bare username, leaves the user ID out of the MDC
+     * rather than logging the username.
+     *
+     * @throws Exception if the filter chain fails.
+     */
+    @Test
+    void doFilter_principalWithoutId_shouldNotSetUserId() throws Exception {
+        SecurityContextHolder.getContext().setAuthentication(UsernamePasswordAuthenticationToken.authenticated(
+                "admin@example.com", null, AuthorityUtils.createAuthorityList("ROLE_ADMIN")));
+        Map<String, String> seen = new HashMap<>();
+
+        new UserMdcFilter().doFilter(new MockHttpServletRequest("GET", "/userAPI/id/1"), new MockHttpServletResponse(),
+                (req, res) -> Optional.ofNullable(MDC.getCopyOfContextMap()).ifPresent(seen::putAll));
+
+        assertThat(seen).doesNotContainKey(RequestLogFilter.USER_ID);
+    }
+
+    /**
+     * Test to verify that request IDs which could forge log content are replaced by generated ones.
+     */
+    @Test
+    void requestId_malformedHeader_shouldGenerateNewId() {
+        assertThat(RequestLogFilter.requestId("ok.id_1")).isEqualTo("ok.id_1");
+        assertThat(RequestLogFilter.requestId("bad id\nstatus=200")).matches("[0-9a-f]{1,16}");
+        assertThat(RequestLogFilter.requestId("x".repeat(65))).matches("[0-9a-f]{1,16}");
+        assertThat(RequestLogFilter.requestId(null)).matches("[0-9a-f]{1,16}");
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.mySpringApi.metrics;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * This class tests that the endpoint and internal stage metrics are recorded and can be scraped by an administrator
+ * from the Prometheus endpoint, and only by an administrator.
+ * <p>
+ * The test application.yaml replaces the main one, so the endpoint exposure and distributions are set here. The default latency
+ * budget is set to zero, so every request counts as over budget.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:metricstest;DB_CLOSE_DELAY=-1",
+        "app.metrics.latency-budget=0ms",
+        "management.endpoints.web.exposure.include=health,prometheus",
+        "management.metrics.distribution.percentiles-histogram.http.server.requests=true",
+        "management.metrics.distribution.percentiles.http.server.response.serialization=0.5,0.99"
+})
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+public class MetricsIntegrationTests {
+
+    private static final String USER = basic("user@example.com:user");
+    private static final String ADMIN = basic("admin@example.com:admin");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    /**
+     * Test to verify that an authenticated read is reflected in every layer's metrics in the scrape output.
+     *
+     * @throws Exception if any MVC exception occurs.
+     */
+    @Test
+    public void prometheusScrape_afterRequest_shouldExposeStageMetrics() throws Exception {
+        mockMvc.perform(get("/userAPI/email/user@example.com").header(HttpHeaders.AUTHORIZATION, USER))
+                .andExpect(status().isOk());
+
+        String scrape = mockMvc.perform(get("/actuator/prometheus").header(HttpHeaders.AUTHORIZATION, ADMIN))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(scrape)
+                .contains("http_server_requests_seconds_bucket{")
+                .contains("uri=\"/userAPI/email/{email}\"")
+                .contains("http_server_requests_over_budget_total{budget=\"0ms\",method=\"GET\",uri=\"/userAPI/email/{email}\",}")
+                .contains("password_encoder_seconds_count{operation=\"matches\",}")
+                .contains("user_details_load_seconds_count{")
+                .contains("spring_data_repository_invocations_seconds_count{")
+                .contains("http_server_response_serialization_seconds{quantile=\"0.99\",}");
+    }
+
+    /**
+     * Test to verify that a handled client error is counted per exception type in the scrape output.
+     *
+     * @throws Exception if any MVC exception occurs.
+     */
+    @Test
+    public void prometheusScrape_afterNotFound_shouldExposeClientErrorCount() throws Exception {
+        mockMvc.perform(get("/userAPI/email/nobody@example.com").header(HttpHeaders.AUTHORIZATION, USER))
+                .andExpect(status().isNotFound());
+
+        String scrape = mockMvc.perform(get("/actuator/prometheus").header(HttpHeaders.AUTHORIZATION, ADMIN))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(scrape).contains("user_client_errors_total{exception=\"UserNotFoundException\",}");
+    }
+
+    /**
+     * Test to verify that the Prometheus endpoint rejects anonymous and non-administrator scrapes, while the health
+     * endpoint stays open to probes.
+     *
+     * @throws Exception if any MVC exception occurs.
+     */
+    @Test
+    public void prometheusScrape_withoutAdministrator_shouldBeRejected() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus")).andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/actuator/prometheus").header(HttpHeaders.AUTHORIZATION, USER))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/health")).andExpect(status().isOk());
+    }
+
+    private static String basic(String credentials) {
+        return "Basic " + Base64.getEncoder().encodeToString(credentials.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.mySpringApi.repository;
+
+import com.example.mySpringApi.config.DataSourceProxyConfig;
+import com.example.mySpringApi.model.Role;
+import com.example.mySpringApi.model.User;
+import com.example.mySpringApi.sql.SqlStatementCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * This class tests that {@link JdbcUserRepository} returns the same users as the JPA {@link UserRepository}, on an
+ * in-memory H2 database, with one statement per lookup.
+ */
+@DataJpaTest
+@Import({JdbcUserRepository.class, DataSourceProxyConfig.class})
+public class JdbcUserRepositoryTests {
+
+    @Autowired
+    private JdbcUserRepository jdbcUserRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private SqlStatementCounter statementCounter;
+
+    private User admin;
+    private User roleless;
+
+    /**
+     * Persists a user with two roles and a user without roles, and clears the persistence context so the JPA
+     * lookups go to the database too.
+     */
+    @BeforeEach
+    public void setUp() {
+        Role adminRole = new Role();
+        adminRole.setName("ADMIN");
+        Role userRole = new Role();
+        userRole.setName("USER");
+        entityManager.persist(adminRole);
+        entityManager.persist(userRole);
+
+        admin = new User("Ada", 36, "ada@example.com");
+        admin.setPasswordHash("$2a$10$hash");
+        admin.setRoles(Set.of(adminRole, userRole));
+        entityManager.persist(admin);
+
+        roleless = new User("Nobody", 50, "nobody@example.com");
+        entityManager.persist(roleless);
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    /**
+     * Test to verify that a lookup by ID maps every column and role like the JPA repository.
+     */
+    @Test
+    public void findById_shouldMatchJpa() {
+        User jdbc = jdbcUserRepository.findById(admin.getId()).orElseThrow();
+        User jpa = userRepository.findById(admin.getId()).orElseThrow();
+
+        assertThat(jdbc).usingRecursiveComparison().ignoringFields("roles").isEqualTo(jpa);
+        assertThat(jdbc.getRoles()).extracting(Role::getName).containsExactlyInAnyOrder("ADMIN", "USER");
+        assertThat(jdbc.getRoles()).extracting(Role::getId)
+                .containsExactlyInAnyOrderElementsOf(jpa.getRoles().stream().map(Role::getId).toList());
+    }
+
+    /**
+     * Test to verify that a lookup by email issues a single statement, roles included.
+     */
+    @Test
+    public void findByEmail_shouldExecuteOneStatement() {
+        try (SqlStatementCounter.Scope scope = statementCounter.open()) {
+            Optional<User> user = jdbcUserRepository.findByEmail("ada@example.com");
+
+            assertThat(user).map(User::getPassword).contains("$2a$10$hash");
+            assertThat(scope.total()).as("statements by shape: %s", scope.shapes()).isEqualTo(1);
+        }
+    }
+
+    /**
+     * Test to verify that a user without roles is found, with an empty set of roles.
+     */
+    @Test
+    public void findByEmail_userWithoutRoles_shouldHaveNoRoles() {
+        User user = jdbcUserRepository.findByEmail("nobody@example.com").orElseThrow();
+
+        assertThat(user.getId()).isEqualTo(roleless.getId());
+        assertThat(user.getRoles()).isEmpty();
+    }
+
+    /**
+     * Test to verify that unknown IDs and emails give an empty Optional.
+     */
+    @Test
+    public void lookups_unknownUser_shouldBeEmpty() {
+        assertThat(jdbcUserRepository.findById(-1)).isEmpty();
+        assertThat(jdbcUserRepository.findByEmail("missing@example.com")).isEmpty();
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.mySpringApi.repository;
+
+import com.example.mySpringApi.model.User;
+import com.example.mySpringApi.model.dto.UserResponseDTO;
+import com.example.mySpringApi.service.UserService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * This class tests {@link ReactiveUserRepository} against an in-memory H2 database accessed through R2DBC.
+ * <p>
+ * JDBC and R2DBC point to the same H2 database, so the schema is created by Hibernate and the rows are the
+ * default users seeded at startup. Each reactive result is compared with the UserResponseDTO built by the
+ * servlet/JPA path for the same user.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:reactivetest;DB_CLOSE_DELAY=-1",
+        "app.reactive.enabled=true",
+        "app.reactive.url=r2dbc:h2:mem:///reactivetest;DB_CLOSE_DELAY=-1",
+        "app.reactive.username=sa",
+        "app.reactive.password=sa"
+})
+public class ReactiveUserRepositoryTests {
+
+    @Autowired
+    private ReactiveUserRepository reactiveUserRepository;
+
+    @Autowired
+    private UserService userService;
+
+    /**
+     * Test to verify that a user read by ID over R2DBC matches the JPA result, roles included.
+     */
+    @Test
+    public void findById_existingUser_shouldMatchJpaResult() {
+        User admin = userService.getUser("admin@example.com");
+
+        UserResponseDTO user = reactiveUserRepository.findById(admin.getId()).block();
+
+        assertThat(user).isEqualTo(userService.convertToResponseDTO(admin));
+        assertThat(user.roles()).containsExactly("ADMIN");
+    }
+
+    /**
+     * Test to verify that looking up an unknown email completes without a value.
+     */
+    @Test
+    public void findByEmail_nonExistingEmail_shouldBeEmpty() {
+        assertThat(reactiveUserRepository.findByEmail("nobody@example.com").blockOptional()).isEmpty();
+    }
+
+    /**
+     * Test to verify that streaming all users folds the join rows into one DTO per user, in ID order.
+     */
+    @Test
+    public void findAll_shouldEmitOneUserPerRowGroup() {
+        List<UserResponseDTO> users = reactiveUserRepository.findAll().collectList().block();
+
+        assertThat(users).isEqualTo(userService.convertUsersToResponseDTOs(userService.getAllUsers()));
+        assertThat(users).extracting(UserResponseDTO::email)
+                .containsExactly("admin@example.com", "user@example.com");
+        assertThat(users).extracting(UserResponseDTO::roles)
+                .containsExactly(Set.of("ADMIN"), Set.of("USER"));
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.mySpringApi.repository;
+
+import com.example.mySpringApi.model.Role;
+import com.example.mySpringApi.model.User;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.util.Arrays;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * This class tests the Flyway migrations in {@code db/migration} on an empty H2 database.
+ * <p>
+ * The test application.yaml lets Hibernate create the schema for the other tests. Here Flyway creates it instead,
+ * and Hibernate validates every entity against it, so the context only starts if the migrations match the
+ * entities. V2 is also migrated onto a separate database holding data that predates it.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+public class SchemaMigrationTests {
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    /**
+     * Test to verify that every migration was applied.
+     */
+    @Test
+    public void migrations_shouldAllBeApplied() {
+        assertThat(Arrays.stream(flyway.info().applied()).map(MigrationInfo::getVersion).map(Object::toString))
+                .containsExactly("1", "2", "3");
+        assertThat(flyway.info().pending()).isEmpty();
+    }
+
+    /**
+     * Test to verify that the lookup indexes exist.
+     */
+    @Test
+    public void lookupIndexes_shouldExist() {
+        assertThat(jdbcTemplate.queryForList(
+                "select index_name from information_schema.indexes where table_name in ('USER_INFO', 'USER_ROLES')",
+                String.class))
+                .contains("IDX_USER_INFO_NAME", "IDX_USER_INFO_AGE", "IDX_USER_ROLES_ROLE");
+    }
+
+    /**
+     * Test to verify that users and their roles are saved through the migrated schema, and that the constraints
+     * reject duplicate emails and role names.
+     */
+    @Test
+    public void constraints_shouldRejectDuplicates() {
+        Role role = new Role();
+        role.setName("USER");
+        roleRepository.saveAndFlush(role);
+        User user = new User("Mig", 30, "mig@example.com");
+        user.setRoles(Set.of(role));
+        userRepository.saveAndFlush(user);
+
+        assertThat(jdbcTemplate.queryForObject("select count(*) from user_roles", Integer.class)).isEqualTo(1);
+        assertThatThrownBy(() -> userRepository.saveAndFlush(new User("Copy", 31, "mig@example.com")))
+                .isInstanceOf(DataIntegrityViolationException.class);
+        assertThatThrownBy(() -> jdbcTemplate.update("insert into role (name) values ('USER')"))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    /**
+     * Test to verify that V2 merges duplicate role names, created before the unique constraint existed, into the
+     * role with the lowest id and keeps the users' memberships.
+     */
+    @Test
+    public void v2_duplicateRoleNames_shouldBeMergedBeforeTheConstraint() {
+        DataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:duplicateroles;DB_CLOSE_DELAY=-1", "sa", "sa");
+        Flyway.configure().dataSource(dataSource).target("1").load().migrate();
+        JdbcTemplate legacy = new JdbcTemplate(dataSource);
+        legacy.update("insert into role (id, name) values (1, 'ADMIN'), (2, 'USER'), (3, 'USER'), (4, 'USER')");
+        legacy.update("insert into user_info (id, name, email, age) values (1, 'A', 'a@example.com', 30), "
+                + "(2, 'B', 'b@example.com', 30), (3, 'C', 'c@example.com', 30)");
+        legacy.update("insert into user_roles (user_id, role_id) values (1, 1), (1, 3), (2, 2), (2, 4), (3, 3), (3, 4)");
+
+        Flyway.configure().dataSource(dataSource).load().migrate();
+
+        assertThat(legacy.queryForList("select id from role order by id", Integer.class)).containsExactly(1, 2);
+        assertThat(legacy.queryForList("select user_id || ':' || role_id from user_roles order by user_id, role_id",
+                String.class)).containsExactly("1:1", "1:2", "2:2", "3:2");
+    }
+}
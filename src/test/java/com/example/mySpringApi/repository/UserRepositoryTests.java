@@ -1,14 +1,25 @@
 package com.example.mySpringApi.repository;
 
+import com.example.mySpringApi.config.DataSourceProxyConfig;
+import com.example.mySpringApi.model.Role;
 import com.example.mySpringApi.model.User;
+import com.example.mySpringApi.model.UserField;
+import com.example.mySpringApi.sql.SqlStatementCounter;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -16,8 +27,10 @@ import static org.assertj.core.api.Assertions.assertThat;
  * This class tests the integration between {@link UserRepository} and an in-memory H2 database using JUnit and AssertJ.
  *
  * @DataJpaTest is used to set up an embedded database and configure Spring Data JPA.
+ * DataSourceProxyConfig is imported so that the query count tests can count the statements executed.
  */
 @DataJpaTest
+@Import(DataSourceProxyConfig.class)
 public class UserRepositoryTests {
 
     @Autowired
@@ -26,6 +39,9 @@ public class UserRepositoryTests {
     @Autowired
     private TestEntityManager entityManager; // For setting up database state
 
+    @Autowired
+    private SqlStatementCounter statementCounter;
+
     private User testUser;
 
     /**
@@ -87,4 +103,114 @@ public class UserRepositoryTests {
         assertThat(found).isPresent();
         assertThat(found.get().getName()).isEqualTo(newUser.getName());
     }
-}
\ No newline at end of file
+
+    /**
+     * Integration test that reads a sparse fieldset by email.
+     * This ensures that only the requested fields are returned, in declaration order.
+     */
+    @Test
+    public void whenProjectingFields_thenOnlyRequestedFieldsShouldBeReturned() {
+        List<Map<String, Object>> rows = userRepository.findFieldsByEmail(
+                testUser.getEmail(), EnumSet.of(UserField.EMAIL, UserField.ID));
+
+        assertThat(rows).hasSize(1);
+        assertThat(rows.get(0)).containsOnlyKeys("id", "email");
+        assertThat(rows.get(0).keySet()).containsExactly("id", "email");
+        assertThat(rows.get(0).get("email")).isEqualTo(testUser.getEmail());
+    }
+
+    /**
+     * Integration test that reads a sparse fieldset including roles for several users.
+     * This ensures that roles are attached to the right rows and users without roles get an empty set.
+     */
+    @Test
+    public void whenProjectingRoles_thenRolesShouldBeAttachedPerUser() {
+        Role admin = new Role();
+        admin.setName("ADMIN");
+        entityManager.persist(admin);
+
+        User adminUser = new User("AdminTest", 30, "adminTest@example.com");
+        adminUser.setRoles(Collections.singleton(admin));
+        entityManager.persist(adminUser);
+        entityManager.flush();
+
+        List<Map<String, Object>> rows = userRepository.findFieldsByIdIn(
+                List.of(testUser.getId(), adminUser.getId(), -1), EnumSet.of(UserField.NAME, UserField.ROLES));
+
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0)).containsEntry("name", "TestUser").containsEntry("roles", Set.of());
+        assertThat(rows.get(1)).containsEntry("name", "AdminTest").containsEntry("roles", Set.of("ADMIN"));
+    }
+
+    /**
+     * Query count test for findAll.
+     * This ensures that the eager roles are fetched in the same statement as the users, not once per user.
+     */
+    @Test
+    public void whenFindingAllUsers_thenRolesShouldBeFetchedInOneStatement() {
+        List<Integer> ids = persistUsersWithRoles(3);
+
+        try (SqlStatementCounter.Scope scope = statementCounter.open()) {
+            List<User> users = userRepository.findAll();
+
+            assertThat(users).hasSize(4);
+            assertThat(users).filteredOn(user -> ids.contains(user.getId()))
+                    .allSatisfy(user -> assertThat(user.getRoles()).extracting(Role::getName).containsExactly("USER"));
+            assertThat(scope.total()).as("statements by shape: %s", scope.shapes()).isEqualTo(1);
+        }
+    }
+
+    /**
+     * Query count test for findAllById.
+     * This ensures that a batch of IDs is resolved, roles included, with a single statement.
+     */
+    @Test
+    public void whenFindingUsersByIds_thenRolesShouldBeFetchedInOneStatement() {
+        List<Integer> ids = persistUsersWithRoles(3);
+
+        try (SqlStatementCounter.Scope scope = statementCounter.open()) {
+            List<User> users = userRepository.findAllById(ids);
+
+            assertThat(users).hasSize(3);
+            assertThat(users).allSatisfy(user -> assertThat(user.getRoles()).hasSize(1));
+            assertThat(scope.total()).as("statements by shape: %s", scope.shapes()).isEqualTo(1);
+        }
+    }
+
+    /**
+     * Query count test for findByEmail, which authentication runs on every request.
+     * This ensures that the user and their roles are read with a single statement.
+     */
+    @Test
+    public void whenFindingByEmail_thenRolesShouldBeFetchedInOneStatement() {
+        persistUsersWithRoles(1);
+
+        try (SqlStatementCounter.Scope scope = statementCounter.open()) {
+            Optional<User> found = userRepository.findByEmail("user0@example.com");
+
+            assertThat(found).isPresent();
+            assertThat(found.get().getRoles()).extracting(Role::getName).containsExactly("USER");
+            assertThat(scope.total()).as("statements by shape: %s", scope.shapes()).isEqualTo(1);
+        }
+    }
+
+    /**
+     * Persists users that each have the USER role, then clears the persistence context so that reads hit
+     * the database.
+     */
+    private List<Integer> persistUsersWithRoles(int count) {
+        Role role = new Role();
+        role.setName("USER");
+        entityManager.persist(role);
+
+        List<Integer> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            User user = new User("User" + i, 20 + i, "user" + i + "@example.com");
+            user.setRoles(Collections.singleton(role));
+            ids.add(entityManager.persist(user).getId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return ids;
+    }
+}
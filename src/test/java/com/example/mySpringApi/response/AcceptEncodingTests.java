@@ -0,0 +1,37 @@
+package com.example.mySpringApi.response;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * This class tests how {@link AcceptEncoding} reads the content codings and weights of an Accept-Encoding header.
+ */
+class AcceptEncodingTests {
+
+    /**
+     * Test to verify that gzip is accepted when listed, aliased or covered by a wildcard with a positive weight.
+     */
+    @Test
+    void acceptsGzip_positiveWeight_shouldAccept() {
+        assertThat(AcceptEncoding.acceptsGzip("gzip")).isTrue();
+        assertThat(AcceptEncoding.acceptsGzip("deflate, GZIP;q=0.5")).isTrue();
+        assertThat(AcceptEncoding.acceptsGzip("x-gzip")).isTrue();
+        assertThat(AcceptEncoding.acceptsGzip("br;q=1.0, *;q=0.1")).isTrue();
+    }
+
+    /**
+     * Test to verify that a weight of 0, a missing or malformed header, and other codings do not accept gzip.
+     */
+    @Test
+    void acceptsGzip_zeroWeightOrNotListed_shouldRefuse() {
+        assertThat(AcceptEncoding.acceptsGzip(null)).isFalse();
+        assertThat(AcceptEncoding.acceptsGzip("")).isFalse();
+        assertThat(AcceptEncoding.acceptsGzip("gzip;q=0")).isFalse();
+        assertThat(AcceptEncoding.acceptsGzip("gzip; q=0.000, *")).isFalse();
+        assertThat(AcceptEncoding.acceptsGzip("*;q=0")).isFalse();
+        assertThat(AcceptEncoding.acceptsGzip("deflate, br")).isFalse();
+        assertThat(AcceptEncoding.acceptsGzip("gzipped")).isFalse();
+        assertThat(AcceptEncoding.acceptsGzip("gzip;q=high")).isFalse();
+    }
+}
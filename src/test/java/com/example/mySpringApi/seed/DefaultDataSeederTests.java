@@ -0,0 +1,150 @@
+package com.example.mySpringApi.seed;
+
+import com.example.mySpringApi.model.Role;
+import com.example.mySpringApi.model.User;
+import com.example.mySpringApi.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * This class tests that the {@link DefaultDataSeeder} creates the default data once per seed version, only inserts
+ * missing rows, and seeds once when called concurrently.
+ */
+@DataJpaTest
+@Import({DefaultDataSeeder.class, DefaultDataSeederTests.Encoder.class})
+public class DefaultDataSeederTests {
+
+    private static final List<DefaultRole> ROLES = List.of(new DefaultRole(1, "ADMIN"), new DefaultRole(2, "USER"));
+    private static final List<DefaultUser> USERS = List.of(
+            new DefaultUser("Seed Admin", "seed-admin@example.com", 0, "admin", "ADMIN"),
+            new DefaultUser("Seed User", "seed-user@example.com", 0, "user", "USER"));
+
+    @Autowired
+    private DefaultDataSeeder seeder;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    // Imported rather than annotated, so that applications started from the test classpath do not scan it
+    static class Encoder {
+        @Bean
+        PasswordEncoder passwordEncoder() {
+            return new BCryptPasswordEncoder(4);
+        }
+    }
+
+    /**
+     * Test to verify that an empty database receives every role and user, and the seed version.
+     */
+    @Test
+    public void seed_emptyDatabase_shouldCreateEverythingAndRecordVersion() {
+        assertThat(seeder.isSeeded(1)).isFalse();
+
+        int created = seeder.seed(1, ROLES, USERS);
+
+        assertThat(created).isEqualTo(4);
+        assertThat(jdbcTemplate.queryForObject("select id from role where name = 'ADMIN'", Integer.class)).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("select id from role where name = 'USER'", Integer.class)).isEqualTo(2);
+        User admin = userRepository.findByEmail("seed-admin@example.com").orElseThrow();
+        assertThat(admin.getRoles()).extracting(Role::getName).containsExactly("ADMIN");
+        assertThat(passwordEncoder.matches("admin", admin.getPassword())).isTrue();
+        assertThat(seeder.isSeeded(1)).isTrue();
+        assertThat(seeder.isSeeded(2)).isFalse();
+        assertThat(seeder.seed(1, ROLES, USERS)).isZero();
+    }
+
+    /**
+     * Test to verify that existing roles and users are kept as they are and only the missing ones are created.
+     */
+    @Test
+    public void seed_existingData_shouldOnlyCreateMissingRows() {
+        jdbcTemplate.update("insert into role (id, name) values (2, 'ADMIN')");
+        jdbcTemplate.update("insert into user_info (name, email, age, password) values (?, ?, ?, ?)",
+                "Changed", "seed-admin@example.com", 33, "{kept}");
+
+        int created = seeder.seed(1, ROLES, USERS);
+
+        assertThat(created).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from role", Integer.class)).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForObject("select id from role where name = 'USER'", Integer.class)).isNotEqualTo(2);
+        assertThat(jdbcTemplate.queryForObject("select password from user_info where email = 'seed-admin@example.com'",
+                String.class)).isEqualTo("{kept}");
+        assertThat(userRepository.findByEmail("seed-user@example.com")).isPresent();
+    }
+
+    /**
+     * Test to verify that nodes seeding at the same time wait for each other and seed the data once.
+     *
+     * @throws Exception if a seeding thread fails.
+     */
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void seed_concurrentNodes_shouldSeedOnce() throws Exception {
+        jdbcTemplate.update("insert into seed_version (id, version) values (1, 0)");
+        seedConcurrentlyAndVerify();
+    }
+
+    /**
+     * Test to verify that nodes seeding at the same time, before the seed_version row exists, create it once and
+     * seed the data once.
+     *
+     * @throws Exception if a seeding thread fails.
+     */
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void seed_concurrentNodesWithoutVersionRow_shouldSeedOnce() throws Exception {
+        seedConcurrentlyAndVerify();
+    }
+
+    private void seedConcurrentlyAndVerify() throws Exception {
+        CyclicBarrier start = new CyclicBarrier(2);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            List<CompletableFuture<Integer>> nodes = List.of(
+                    CompletableFuture.supplyAsync(() -> seedAfter(start), executor),
+                    CompletableFuture.supplyAsync(() -> seedAfter(start), executor));
+
+            assertThat(nodes.get(0).get() + nodes.get(1).get()).isEqualTo(4);
+            assertThat(jdbcTemplate.queryForObject("select count(*) from user_info", Integer.class)).isEqualTo(2);
+            assertThat(jdbcTemplate.queryForObject("select count(*) from role", Integer.class)).isEqualTo(2);
+            assertThat(jdbcTemplate.queryForObject("select version from seed_version", Integer.class)).isEqualTo(1);
+        } finally {
+            executor.shutdown();
+            jdbcTemplate.update("delete from user_roles");
+            jdbcTemplate.update("delete from user_info");
+            jdbcTemplate.update("delete from role");
+            jdbcTemplate.update("delete from seed_version");
+        }
+    }
+
+    private int seedAfter(CyclicBarrier start) {
+        try {
+            start.await();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        return seeder.seed(1, ROLES, USERS);
+    }
+}
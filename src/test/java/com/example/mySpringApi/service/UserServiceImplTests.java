@@ -1,10 +1,17 @@
 package com.example.mySpringApi.service;
 
+import com.example.mySpringApi.config.PasswordPolicyProperties;
+import com.example.mySpringApi.config.UserLookupProperties;
 import com.example.mySpringApi.exception.InvalidUserInputException;
 import com.example.mySpringApi.exception.UserAlreadyExistsException;
+import com.example.mySpringApi.exception.UserExceptionFactory;
 import com.example.mySpringApi.exception.UserNotFoundException;
 import com.example.mySpringApi.model.User;
+import com.example.mySpringApi.repository.UserLookup;
 import com.example.mySpringApi.repository.UserRepository;
+import com.example.mySpringApi.validation.PasswordPolicyChecker;
+import com.example.mySpringApi.validation.UserInputValidator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
@@ -12,6 +19,11 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -40,6 +52,18 @@ class UserServiceImplTests {
     @Mock  // mocked instance of UserRepository used to simulate interactions with the data
     private UserRepository userRepository;  // layer without actually hitting the database.
 
+    @Mock  // mocked publisher that receives the UserChangedEvents emitted by the service.
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy  // real validator, so isValidUser is tested with the rules shared with the UserController.
+    private UserInputValidator userInputValidator =
+            new UserInputValidator(new PasswordPolicyChecker(new PasswordPolicyProperties()));
+
+    @Spy  // real encoder at the lowest BCrypt cost, so created users get a hashed password quickly.
+    private PasswordEncoder passwordEncoder = new BCryptPasswordEncoder(4);
+
+    @Spy  // real factory, so the service throws the same exceptions as in the application.
+    private UserExceptionFactory exceptionFactory = new UserExceptionFactory(false);
 
     @InjectMocks  // An instance of UserServiceImpl where the mocked UserRepository will be injected.
     private UserServiceImpl userService;
@@ -55,6 +79,8 @@ class UserServiceImplTests {
     @BeforeEach
     void setUp() {
         closeable = MockitoAnnotations.openMocks(this);
+        // JPA lookups over the mocked repository, so getUser is stubbed through the repository like every other call.
+        userService.setUserLookup(new UserLookup(userRepository, null, new UserLookupProperties(), new SimpleMeterRegistry()));
         testUser = new User("Testo", 999, "testo@example.com");
         testUser.setPassword("SomeTestPassword");
     }
@@ -361,6 +387,45 @@ class UserServiceImplTests {
         assertTrue(retrievedUsers.isEmpty());
     }
 
+    /**
+     * Test for retrieving a keyset page of users.
+     * Expectation: The IDs after the given one are read with the page size, and their users are returned
+     * ordered by ID whatever order the repository loads them in.
+     */
+    @Test
+    void getUsersAfter_page_shouldReturnUsersOrderedById() {
+        // Given
+        User alice = new User("Alice", 1, "alice@example.com");
+        alice.setId(11);
+        User bob = new User("Bob", 2, "bob@example.com");
+        bob.setId(12);
+        when(userRepository.findIdsAfter(10, PageRequest.ofSize(2))).thenReturn(Arrays.asList(11, 12));
+        when(userRepository.findAllById(Arrays.asList(11, 12))).thenReturn(Arrays.asList(bob, alice));
+
+        // When
+        List<User> page = userService.getUsersAfter(10, 2);
+
+        // Then
+        assertEquals(Arrays.asList(alice, bob), page);
+    }
+
+    /**
+     * Test for retrieving the page after the last user.
+     * Expectation: The method should return an empty list without loading any user.
+     */
+    @Test
+    void getUsersAfter_lastId_shouldReturnEmptyList() {
+        // Given
+        when(userRepository.findIdsAfter(12, PageRequest.ofSize(2))).thenReturn(Collections.emptyList());
+
+        // When
+        List<User> page = userService.getUsersAfter(12, 2);
+
+        // Then
+        assertTrue(page.isEmpty());
+        verify(userRepository, never()).findAllById(any());
+    }
+
     /*
      * -------------------------------
      * TESTS FOR isValidUser(User user)
@@ -0,0 +1,82 @@
+package com.example.mySpringApi.sql;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * This class tests {@link ReadWriteRoutingDataSource} with two separate in-memory H2 databases standing in for the
+ * primary and the replica. Each test asks the database that runs the statement for its name.
+ */
+public class ReadWriteRoutingDataSourceTests {
+
+    private static final String DATABASE_NAME = "select database()";
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        ReadWriteRoutingDataSource dataSource =
+                new ReadWriteRoutingDataSource(h2("ROUTING_PRIMARY"), h2("ROUTING_REPLICA"));
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    }
+
+    /**
+     * Test to verify that a read-only transaction runs its statements on the replica.
+     */
+    @Test
+    public void readOnlyTransaction_shouldUseReplica() {
+        transactionTemplate.setReadOnly(true);
+
+        String database = transactionTemplate.execute(status -> jdbcTemplate.queryForObject(DATABASE_NAME, String.class));
+
+        assertThat(database).isEqualTo("ROUTING_REPLICA");
+    }
+
+    /**
+     * Test to verify that a read-write transaction runs its statements on the primary.
+     */
+    @Test
+    public void readWriteTransaction_shouldUsePrimary() {
+        String database = transactionTemplate.execute(status -> jdbcTemplate.queryForObject(DATABASE_NAME, String.class));
+
+        assertThat(database).isEqualTo("ROUTING_PRIMARY");
+    }
+
+    /**
+     * Test to verify that statements outside a transaction run on the primary.
+     */
+    @Test
+    public void noTransaction_shouldUsePrimary() {
+        assertThat(jdbcTemplate.queryForObject(DATABASE_NAME, String.class)).isEqualTo("ROUTING_PRIMARY");
+    }
+
+    /**
+     * Test to verify that a read-only transaction started through onPrimary runs its statements on the primary.
+     */
+    @Test
+    public void readOnlyTransaction_onPrimary_shouldUsePrimary() {
+        transactionTemplate.setReadOnly(true);
+
+        String database = ReadWriteRoutingDataSource.onPrimary(() ->
+                transactionTemplate.execute(status -> jdbcTemplate.queryForObject(DATABASE_NAME, String.class)));
+        String afterwards = transactionTemplate.execute(status -> jdbcTemplate.queryForObject(DATABASE_NAME, String.class));
+
+        assertThat(database).isEqualTo("ROUTING_PRIMARY");
+        assertThat(afterwards).isEqualTo("ROUTING_REPLICA");
+    }
+
+    private static JdbcDataSource h2(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUser("sa");
+        return dataSource;
+    }
+}
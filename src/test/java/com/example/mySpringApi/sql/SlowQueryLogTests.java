@@ -0,0 +1,60 @@
+package com.example.mySpringApi.sql;
+
+import com.example.mySpringApi.config.DataSourceProxyConfig;
+import com.example.mySpringApi.model.User;
+import com.example.mySpringApi.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * This class tests {@link SlowQueryLog} on H2 with a zero threshold, so that every statement counts as slow.
+ */
+@DataJpaTest(properties = {
+        "app.slow-query.threshold=0ms",
+        "app.slow-query.explain=true"
+})
+@Import(DataSourceProxyConfig.class)
+public class SlowQueryLogTests {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SlowQueryLog slowQueryLog;
+
+    /**
+     * Test to verify that a slow statement is summarized with its repository method, redacted binds and plan.
+     */
+    @Test
+    public void slowStatement_shouldBeSummarizedWithRepositoryMethodAndPlan() {
+        userRepository.saveAndFlush(new User("Slow", 30, "slow@example.com"));
+
+        userRepository.findByEmail("slow@example.com");
+
+        SlowQuerySummary summary = slowQueryLog.slowest(50).stream()
+                .filter(statement -> statement.sql().startsWith("select") && statement.sql().contains("email=?"))
+                .findFirst().orElseThrow();
+        assertThat(summary.repositoryMethod()).isEqualTo("UserRepository.findByEmail");
+        assertThat(summary.count()).isEqualTo(1);
+        assertThat(summary.lastBinds()).isEqualTo("[<string:16>]");
+        assertThat(summary.plan()).isNotBlank().doesNotStartWith("EXPLAIN failed");
+    }
+
+    /**
+     * Test to verify that the bind values of inserts are redacted, except for numbers.
+     */
+    @Test
+    public void insert_shouldRedactStringBinds() {
+        userRepository.saveAndFlush(new User("Redacted", 42, "redacted@example.com"));
+
+        SlowQuerySummary insert = slowQueryLog.slowest(50).stream()
+                .filter(statement -> statement.sql().startsWith("insert into user_info"))
+                .findFirst().orElseThrow();
+        assertThat(insert.lastBinds()).isEqualTo("[42, <string:20>, <string:8>, null]");
+        assertThat(insert.plan()).isNull();
+    }
+}
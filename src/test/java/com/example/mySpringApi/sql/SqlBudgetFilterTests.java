@@ -0,0 +1,63 @@
+package com.example.mySpringApi.sql;
+
+import com.example.mySpringApi.config.SqlBudgetProperties;
+import jakarta.servlet.FilterChain;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * This class tests {@link SqlBudgetFilter} with statements reported directly to the {@link SqlStatementCounter}.
+ */
+public class SqlBudgetFilterTests {
+
+    private final SqlStatementCounter counter = new SqlStatementCounter();
+
+    /**
+     * Test to verify that a request within the budget passes.
+     */
+    @Test
+    public void doFilter_withinBudget_shouldPass() {
+        SqlBudgetFilter filter = new SqlBudgetFilter(counter, failingProperties());
+
+        assertThatCode(() -> filter.doFilter(new MockHttpServletRequest("GET", "/userAPI/id/1"),
+                new MockHttpServletResponse(), executing("select * from user_info where id=?", 2)))
+                .doesNotThrowAnyException();
+    }
+
+    /**
+     * Test to verify that the same statement shape repeated over the limit fails the request in fail mode.
+     */
+    @Test
+    public void doFilter_repeatedShape_shouldFail() {
+        SqlBudgetFilter filter = new SqlBudgetFilter(counter, failingProperties());
+
+        assertThatThrownBy(() -> filter.doFilter(new MockHttpServletRequest("GET", "/userAPI"),
+                new MockHttpServletResponse(), executing("select * from user_roles where user_id=?", 4)))
+                .isInstanceOf(SqlBudgetExceededException.class)
+                .hasMessageContaining("GET /userAPI")
+                .hasMessageContaining("most repeated 4 times (budget 3)")
+                .hasMessageContaining("select * from user_roles where user_id=?");
+    }
+
+    private static SqlBudgetProperties failingProperties() {
+        SqlBudgetProperties properties = new SqlBudgetProperties();
+        properties.setFailOnViolation(true);
+        return properties;
+    }
+
+    private FilterChain executing(String sql, int times) {
+        return (request, response) -> {
+            for (int i = 0; i < times; i++) {
+                counter.afterQuery(new ExecutionInfo(), List.of(new QueryInfo(sql)));
+            }
+        };
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.mySpringApi.startup;
+
+import com.example.mySpringApi.config.ReadinessConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.availability.ReadinessStateHealthIndicator;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.boot.availability.ApplicationAvailabilityBean;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.core.metrics.ApplicationStartup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * This class tests the {@link ReadinessGate} together with the readiness health indicator of {@link ReadinessConfig}.
+ */
+public class ReadinessGateTests {
+
+    private ReadinessGate readinessGate;
+    private ReadinessStateHealthIndicator healthIndicator;
+
+    @BeforeEach
+    void setUp() {
+        ApplicationAvailabilityBean availability = new ApplicationAvailabilityBean();
+        availability.onApplicationEvent(new AvailabilityChangeEvent<>(this, ReadinessState.ACCEPTING_TRAFFIC));
+        readinessGate = new ReadinessGate(ApplicationStartup.DEFAULT);
+        healthIndicator = new ReadinessConfig().readinessStateHealthIndicator(availability, readinessGate);
+    }
+
+    /**
+     * Test to verify that readiness is refused while a task is open, even though the application is ready.
+     */
+    @Test
+    public void openTask_shouldHoldReadiness() {
+        ReadinessGate.Task task = readinessGate.begin("warmup");
+
+        Health health = healthIndicator.health();
+
+        assertThat(health.getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+        assertThat(health.getDetails()).containsKey("pendingTasks");
+        assertThat(readinessGate.getPending()).containsExactly("warmup");
+        task.close();
+    }
+
+    /**
+     * Test to verify that readiness follows the application once every task is closed.
+     */
+    @Test
+    public void closedTasks_shouldReleaseReadiness() {
+        ReadinessGate.Task seed = readinessGate.begin("seed");
+        ReadinessGate.Task warmup = readinessGate.begin("warmup");
+        seed.close();
+        assertThat(healthIndicator.health().getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+
+        warmup.close();
+        warmup.close();
+
+        assertThat(readinessGate.isOpen()).isTrue();
+        assertThat(healthIndicator.health().getStatus()).isEqualTo(Status.UP);
+    }
+
+    /**
+     * Test to verify that two open tasks cannot share a name.
+     */
+    @Test
+    public void begin_duplicateName_shouldThrow() {
+        readinessGate.begin("seed");
+
+        assertThatThrownBy(() -> readinessGate.begin("seed")).isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.mySpringApi.startup;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * This class tests that {@link StartupReport} ranks the recorded steps by their self time.
+ */
+public class StartupReportTests {
+
+    /**
+     * Test to verify that a parent step is ranked by the time not spent in its nested steps.
+     *
+     * @throws InterruptedException if the test is interrupted while sleeping.
+     */
+    @Test
+    public void slowest_shouldRankBySelfTime() throws InterruptedException {
+        BufferingApplicationStartup applicationStartup = new BufferingApplicationStartup(16);
+        StartupStep parent = applicationStartup.start("parent");
+        StartupStep child = applicationStartup.start("child").tag("beanName", "slowBean");
+        Thread.sleep(50);
+        child.end();
+        parent.end();
+
+        List<StartupPhase> slowest = new StartupReport(applicationStartup).slowest(10);
+
+        assertThat(slowest).extracting(StartupPhase::name).containsExactly("child", "parent");
+        assertThat(slowest.get(0).tags()).containsEntry("beanName", "slowBean");
+        assertThat(slowest.get(0).selfMillis()).isGreaterThanOrEqualTo(50);
+        assertThat(slowest.get(1).durationMillis()).isGreaterThanOrEqualTo(50);
+        assertThat(slowest.get(1).selfMillis()).isLessThan(50);
+    }
+
+    /**
+     * Test to verify that nothing is reported when steps are not recorded.
+     */
+    @Test
+    public void slowest_withoutRecording_shouldBeEmpty() {
+        StartupReport report = new StartupReport(ApplicationStartup.DEFAULT);
+
+        assertThat(report.isRecording()).isFalse();
+        assertThat(report.slowest(10)).isEmpty();
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.mySpringApi.tracing;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * This class tests {@link Tracer} without a Spring context: sampling, span nesting and the ring buffer.
+ */
+public class TracerTests {
+
+    /**
+     * Test to verify that nested spans record their depth and that the trace is published when it ends.
+     */
+    @Test
+    public void spans_nested_shouldRecordDepthAndPublishTrace() {
+        Tracer tracer = new Tracer(1.0, 4, 16);
+
+        Trace trace = tracer.begin("GET /userAPI/id/1", "abc");
+        try (Span controller = tracer.start("controller")) {
+            try (Span service = tracer.start("service")) {
+                tracer.start("repository").close();
+            }
+            tracer.start("service").close();
+        }
+        tracer.end(trace, 200);
+
+        assertThat(tracer.isTracing()).isFalse();
+        assertThat(trace.getSpans()).extracting(Span::getName, Span::getDepth)
+                .containsExactly(
+                        tuple("controller", 0),
+                        tuple("service", 1),
+                        tuple("repository", 2),
+                        tuple("service", 1));
+        assertThat(trace.getSpans()).allSatisfy(span -> assertThat(span.getDurationNanos()).isNotNegative());
+        assertThat(tracer.slowest(10)).containsExactly(trace);
+    }
+
+    /**
+     * Test to verify that with a sample rate of 0 nothing is traced and spans are no-ops.
+     */
+    @Test
+    public void begin_zeroSampleRate_shouldNotTrace() {
+        Tracer tracer = new Tracer(0.0, 4, 16);
+
+        assertThat(tracer.begin("GET /userAPI", null)).isNull();
+        assertThat(tracer.isTracing()).isFalse();
+        assertThat(tracer.start("service")).isSameAs(Span.NOOP);
+    }
+
+    /**
+     * Test to verify that the ring buffer keeps only the most recent traces and returns them slowest first.
+     */
+    @Test
+    public void slowest_fullBuffer_shouldKeepRecentTracesSlowestFirst() throws InterruptedException {
+        Tracer tracer = new Tracer(1.0, 2, 16);
+
+        for (int sleepMillis : new int[]{20, 1, 5}) {
+            Trace trace = tracer.begin("GET /" + sleepMillis, null);
+            Thread.sleep(sleepMillis);
+            tracer.end(trace, 200);
+        }
+
+        assertThat(tracer.getCompletedCount()).isEqualTo(3);
+        assertThat(tracer.slowest(10)).extracting(Trace::getName).containsExactly("GET /5", "GET /1");
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.mySpringApi.tracing;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * This class tests request tracing end to end: the filters, the aspect and the admin endpoint, with every
+ * request sampled and authentication going through the real security filter chain.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:tracingtest;DB_CLOSE_DELAY=-1",
+        "app.tracing.enabled=true",
+        "app.tracing.sample-rate=1"
+})
+@AutoConfigureMockMvc
+public class TracingIntegrationTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private Tracer tracer;
+
+    /**
+     * Test to verify that a traced request records spans for every instrumented layer, and that the admin
+     * endpoint returns it.
+     *
+     * @throws Exception if any MVC exception occurs.
+     */
+    @Test
+    public void tracedRequest_shouldRecordEveryLayer() throws Exception {
+        mockMvc.perform(get("/userAPI/email/user@example.com").header(HttpHeaders.AUTHORIZATION, basic("user", "user")))
+                .andExpect(status().isOk());
+
+        Trace trace = tracer.slowest(100).stream()
+                .filter(t -> t.getName().equals("GET /userAPI/email/user@example.com"))
+                .findFirst().orElseThrow();
+        assertThat(trace.getStatus()).isEqualTo(200);
+        assertThat(trace.getSpans()).extracting(Span::getName).contains(
+                "security",
+                "service CustomUserDetailsService.loadUserByUsername",
+                "password TimedPasswordEncoder.matches",
+                "dispatch",
+                "controller UserController.getUser",
+                "service UserServiceImpl.getUser",
+                "repository UserRepository.findByEmail");
+
+        mockMvc.perform(get("/admin/traces/slowest").param("limit", "5")
+                        .header(HttpHeaders.AUTHORIZATION, basic("admin", "admin")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].spans[0].name").value("security"));
+    }
+
+    private static String basic(String user, String password) {
+        return "Basic " + Base64.getEncoder().encodeToString(
+                (user + "@example.com:" + password).getBytes(StandardCharsets.UTF_8));
+    }
+}
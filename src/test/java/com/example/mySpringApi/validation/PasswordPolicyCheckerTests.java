@@ -0,0 +1,102 @@
+package com.example.mySpringApi.validation;
+
+import com.example.mySpringApi.config.PasswordPolicyProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.ClassPathResource;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * This class tests {@link PasswordPolicyChecker} and the {@link BreachedPasswordFilter} it consults.
+ */
+class PasswordPolicyCheckerTests {
+
+    /**
+     * Test to verify that the default rules are reported in order: length, digit, lowercase, uppercase, special.
+     */
+    @Test
+    void check_defaultPolicy_shouldReportFirstBrokenRule() {
+        PasswordPolicyChecker checker = new PasswordPolicyChecker(new PasswordPolicyProperties());
+
+        assertThat(checker.check("pwD!1")).isEqualTo("Password must be at least 8 characters long.");
+        assertThat(checker.check("Password!")).isEqualTo(PasswordPolicyChecker.PASSWORD_DIGIT);
+        assertThat(checker.check("PASSWORD1!")).isEqualTo(PasswordPolicyChecker.PASSWORD_LOWERCASE);
+        assertThat(checker.check("password1!")).isEqualTo(PasswordPolicyChecker.PASSWORD_UPPERCASE);
+        assertThat(checker.check("Password1")).isEqualTo(PasswordPolicyChecker.PASSWORD_SPECIAL);
+        assertThat(checker.check("Paaaassword1!")).isEqualTo("Password must not repeat a character more than 3 times in a row.");
+        assertThat(checker.check("P" + "a1!".repeat(30))).isEqualTo("Password must be at most 72 characters long.");
+        assertThat(checker.check("Password1!")).isNull();
+    }
+
+    /**
+     * Test to verify that passwords within the character limit but over the 72 UTF-8 bytes BCrypt hashes are
+     * rejected, counting two bytes per accented letter and four per supplementary character.
+     */
+    @Test
+    void check_overBcryptByteLimit_shouldBeRejected() {
+        PasswordPolicyChecker checker = new PasswordPolicyChecker(new PasswordPolicyProperties());
+        String seventyTwoBytes = "Aa1!" + "éè".repeat(17);
+
+        assertThat(seventyTwoBytes.getBytes(StandardCharsets.UTF_8)).hasSize(72);
+        assertThat(checker.check(seventyTwoBytes)).isNull();
+        assertThat(checker.check(seventyTwoBytes + "x")).isEqualTo(PasswordPolicyChecker.PASSWORD_TOO_MANY_BYTES);
+        assertThat(checker.check("Aa1!" + "\uD83D\uDD11".repeat(17))).isNull();
+        assertThat(checker.check("Aa1!x" + "\uD83D\uDD11".repeat(17))).isEqualTo(PasswordPolicyChecker.PASSWORD_TOO_MANY_BYTES);
+    }
+
+    /**
+     * Test to verify that rules can be relaxed and the special characters replaced through the properties.
+     */
+    @Test
+    void check_customPolicy_shouldApplyConfiguredRules() {
+        PasswordPolicyProperties properties = new PasswordPolicyProperties();
+        properties.setMinLength(12);
+        properties.setRequireUppercase(false);
+        properties.setSpecialCharacters("_~");
+        properties.setMaxRepeat(0);
+        PasswordPolicyChecker checker = new PasswordPolicyChecker(properties);
+
+        assertThat(checker.check("aaaaaaaa1_bc")).isNull();
+        assertThat(checker.check("aaaaaaaa1!bc")).isEqualTo(PasswordPolicyChecker.PASSWORD_SPECIAL);
+        assertThat(checker.check("short1_")).isEqualTo("Password must be at least 12 characters long.");
+    }
+
+    /**
+     * Test to verify that passwords from the bundled sample list are rejected and others are not.
+     */
+    @Test
+    void check_breachedPassword_shouldBeRejected() {
+        PasswordPolicyProperties properties = new PasswordPolicyProperties();
+        properties.setBreachedPasswords(new ClassPathResource("security/breached-passwords-sample.txt"));
+        PasswordPolicyChecker checker = new PasswordPolicyChecker(properties);
+
+        assertThat(checker.check("P@ssword1")).isEqualTo(PasswordPolicyChecker.PASSWORD_BREACHED);
+        assertThat(checker.check("Welcome1!")).isEqualTo(PasswordPolicyChecker.PASSWORD_BREACHED);
+        assertThat(checker.check("securePassword123!")).isNull();
+    }
+
+    /**
+     * Test to verify that the filter reads the "HASH:count" format and reports malformed lines.
+     *
+     * @throws Exception if the list cannot be read.
+     */
+    @Test
+    void load_shouldAcceptCountsAndRejectMalformedLines() throws Exception {
+        // SHA-1 of "password", as found in downloaded breach corpora
+        String list = "# comment\n\n5BAA61E4C9B93F3F0682250B6CF8331B7EE68FD8:9545824\n";
+        BreachedPasswordFilter filter = BreachedPasswordFilter.load(
+                new ByteArrayResource(list.getBytes(StandardCharsets.US_ASCII)), 0.001);
+
+        assertThat(filter.size()).isEqualTo(1);
+        assertThat(filter.mightContain("password")).isTrue();
+        assertThat(filter.mightContain("correct horse battery staple")).isFalse();
+
+        assertThatThrownBy(() -> BreachedPasswordFilter.load(
+                new ByteArrayResource("not-a-hash\n".getBytes(StandardCharsets.US_ASCII)), 0.001))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.mySpringApi.validation;
+
+import com.example.mySpringApi.config.PasswordPolicyProperties;
+import com.example.mySpringApi.model.User;
+import com.example.mySpringApi.model.dto.UserDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.FieldError;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * This class tests the individual rules of {@link UserInputValidator} and the collection of field errors.
+ */
+class UserInputValidatorTests {
+
+    private final UserInputValidator validator =
+            new UserInputValidator(new PasswordPolicyChecker(new PasswordPolicyProperties()));
+
+    /**
+     * Test to verify that a fully valid UserDTO produces no errors.
+     */
+    @Test
+    void validate_validUser_shouldHaveNoErrors() {
+        UserDTO user = new UserDTO(0, "Alice", 30, "alice@example.com", "securePassword123!", Set.of("USER"));
+
+        assertThat(validate(user).hasErrors()).isFalse();
+    }
+
+    /**
+     * Test to verify that every invalid field is reported in a single call, with its own message.
+     */
+    @Test
+    void validate_invalidUser_shouldReportEveryField() {
+        UserDTO user = new UserDTO(0, null, -1, "a@@example.com", null, Set.of("USER"));
+
+        Errors errors = validate(user);
+
+        assertThat(errors.getFieldErrorCount()).isEqualTo(4);
+        assertThat(errors.getFieldError("name").getDefaultMessage()).isEqualTo(UserInputValidator.NAME_NULL);
+        assertThat(errors.getFieldError("age").getDefaultMessage()).isEqualTo(UserInputValidator.AGE_NEGATIVE);
+        assertThat(errors.getFieldError("email").getDefaultMessage()).isEqualTo(UserInputValidator.EMAIL_FORMAT);
+        assertThat(errors.getFieldError("rawPassword").getDefaultMessage()).isEqualTo(PasswordPolicyChecker.PASSWORD_NULL);
+    }
+
+    /**
+     * Test to verify that a password breaking several rules is rejected once per rule, in the order of the policy.
+     */
+    @Test
+    void validate_passwordBreakingSeveralRules_shouldReportEveryRule() {
+        UserDTO user = new UserDTO(0, "Alice", 30, "alice@example.com", "passsss", Set.of("USER"));
+
+        Errors errors = validate(user);
+
+        assertThat(errors.getFieldErrors("rawPassword")).extracting(FieldError::getDefaultMessage).containsExactly(
+                "Password must be at least 8 characters long.",
+                PasswordPolicyChecker.PASSWORD_DIGIT,
+                PasswordPolicyChecker.PASSWORD_UPPERCASE,
+                PasswordPolicyChecker.PASSWORD_SPECIAL,
+                "Password must not repeat a character more than 3 times in a row.");
+        assertThat(errors.getFieldErrorCount()).isEqualTo(5);
+    }
+
+    /**
+     * Test to verify the email format rules on both sides of the @.
+     */
+    @Test
+    void checkEmail_shouldAcceptOnlyWellFormedAddresses() {
+        assertThat(validator.checkEmail("john_updated@example.com")).isNull();
+        assertThat(validator.checkEmail(" first.last+tag@mail.example-host.org ")).isNull();
+
+        assertThat(validator.checkEmail("invalidemail")).isEqualTo(UserInputValidator.EMAIL_FORMAT);
+        assertThat(validator.checkEmail("@example.com")).isEqualTo(UserInputValidator.EMAIL_FORMAT);
+        assertThat(validator.checkEmail("john@")).isEqualTo(UserInputValidator.EMAIL_FORMAT);
+        assertThat(validator.checkEmail("john@example..com")).isEqualTo(UserInputValidator.EMAIL_FORMAT);
+        assertThat(validator.checkEmail("john@example.com.")).isEqualTo(UserInputValidator.EMAIL_FORMAT);
+        assertThat(validator.checkEmail("jo hn@example.com")).isEqualTo(UserInputValidator.EMAIL_FORMAT);
+    }
+
+    /**
+     * Test to verify that names are measured without surrounding whitespace, as on the service path.
+     */
+    @Test
+    void isValidUser_shouldTrimNameBeforeLengthCheck() {
+        assertThat(validator.isValidUser(new User("  J  ", 30, "j@example.com"))).isFalse();
+        assertThat(validator.isValidUser(new User(" Jo ", 30, "jo@example.com"))).isTrue();
+    }
+
+    private Errors validate(UserDTO user) {
+        Errors errors = new BeanPropertyBindingResult(user, "userDTO");
+        validator.validate(user, errors);
+        return errors;
+    }
+}
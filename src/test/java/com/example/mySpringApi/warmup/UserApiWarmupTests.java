@@ -0,0 +1,62 @@
+package com.example.mySpringApi.warmup;
+
+import com.example.mySpringApi.startup.ReadinessGate;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * This class tests that the warmup runs before readiness, calls every operation of the mix without errors and
+ * leaves no authentication behind.
+ * <p>
+ * The test application.yaml replaces the main one, so the warmup is enabled here. It reads the two default users.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:warmuptest;DB_CLOSE_DELAY=-1",
+        "app.warmup.enabled=true",
+        "app.warmup.calls=200",
+        "app.warmup.connections=2"
+})
+public class UserApiWarmupTests {
+
+    @Autowired
+    private UserApiWarmup warmup;
+
+    @Autowired
+    private ReadinessGate readinessGate;
+
+    /**
+     * Test to verify that the runner warmed the application up and released readiness.
+     */
+    @Test
+    public void startup_shouldRunWarmupAndReleaseReadiness() {
+        WarmupReport report = warmup.getReport();
+
+        assertThat(report).isNotNull();
+        assertThat(readinessGate.isOpen()).isTrue();
+        assertThat(report.connections()).isEqualTo(2);
+        assertThat(report.roles()).isEqualTo(2);
+    }
+
+    /**
+     * Test to verify that the calls follow the mix, succeed and run under a synthetic authentication that is
+     * removed afterwards.
+     *
+     * @throws Exception if a pool connection cannot be opened.
+     */
+    @Test
+    public void run_shouldCallEveryOperationWithoutErrors() throws Exception {
+        WarmupReport report = warmup.run();
+
+        assertThat(report.calls()).isEqualTo(200);
+        assertThat(report.errors()).isZero();
+        assertThat(report.operations())
+                .extracting(WarmupReport.OperationLatency::operation)
+                .containsExactlyInAnyOrder(UserApiWarmup.Operation.values());
+        assertThat(report.operations()).allSatisfy(latency -> assertThat(latency.calls()).isPositive());
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+}